@@ -0,0 +1,123 @@
+package com.data.driven.benchmarks;
+
+import com.data.driven.config.jackson.JsonDataConfig;
+import com.data.driven.utils.datagen.TestDataGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates deterministic workbook and JSON fixtures for the benchmarks, cached on disk by shape.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SHEET_NAME = "Data";
+    private static final Path FIXTURE_DIR = Path.of("target", "jmh-fixtures");
+    private static final long SEED = 42L;
+
+    private BenchmarkFixtures() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    /**
+     * Column names used by generated fixtures: {@code Column0 .. Column(n-1)}.
+     */
+    public static String[] columnNames(int columns) {
+        return generator(0, columns).getColumnNames();
+    }
+
+    /**
+     * Returns a workbook with a header row and {@code rows} data rows mixing string, integer,
+     * decimal, boolean and date columns.
+     */
+    public static String workbook(int rows, int columns) {
+        Path file = FIXTURE_DIR.resolve(String.format("workbook-%dx%d.xlsx", rows, columns));
+        if (Files.exists(file)) {
+            return file.toString();
+        }
+        return generator(rows, columns).writeWorkbook(file).toString();
+    }
+
+    private static TestDataGenerator generator(int rows, int columns) {
+        return TestDataGenerator.builder()
+                .setRows(rows)
+                .setColumns(columns)
+                .setSeed(SEED)
+                .setSheetName(SHEET_NAME)
+                .build();
+    }
+
+    /**
+     * Returns a JSON data file with {@code sections} array sections of {@code size} strings each,
+     * plus a keyed object section {@code Keyed} for key lookups.
+     */
+    public static String jsonData(int sections, int size) {
+        Path file = FIXTURE_DIR.resolve(String.format("data-%dx%d.json", sections, size));
+        if (Files.exists(file)) {
+            return file.toString();
+        }
+
+        Random random = new Random(SEED);
+        Map<String, Object> data = new LinkedHashMap<>();
+        Map<String, Object> keyed = new LinkedHashMap<>();
+        for (int s = 0; s < sections; s++) {
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add("Item-" + random.nextInt(100_000));
+            }
+            data.put("Section" + s, values);
+            keyed.put("Key" + s, "Value-" + s);
+        }
+        data.put("Keyed", keyed);
+
+        try {
+            Files.createDirectories(FIXTURE_DIR);
+            JsonDataConfig.serialize(data, file);
+            return file.toString();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Failed to generate JSON fixture: " + file, error);
+        }
+    }
+
+    /**
+     * Returns a draft-07 schema matching {@link #jsonData(int, int)}.
+     */
+    public static String jsonSchema(int sections) {
+        Path file = FIXTURE_DIR.resolve(String.format("schema-%d.json", sections));
+        if (Files.exists(file)) {
+            return file.toString();
+        }
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        List<String> required = new ArrayList<>();
+        for (int s = 0; s < sections; s++) {
+            properties.put("Section" + s, Map.of(
+                    "type", "array",
+                    "items", Map.of("type", "string"),
+                    "minItems", 1));
+            required.add("Section" + s);
+        }
+        properties.put("Keyed", Map.of("type", "object"));
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
+        schema.put("type", "object");
+        schema.put("properties", properties);
+        schema.put("required", required);
+
+        try {
+            Files.createDirectories(FIXTURE_DIR);
+            JsonDataConfig.serialize(schema, file);
+            return file.toString();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Failed to generate JSON schema fixture: " + file, error);
+        }
+    }
+}
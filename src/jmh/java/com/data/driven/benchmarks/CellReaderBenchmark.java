@@ -0,0 +1,77 @@
+package com.data.driven.benchmarks;
+
+import com.data.driven.config.excel.CellReader;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CellReader} decoding cost per cell type over a row of in-memory cells.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CellReaderBenchmark {
+
+    private static final int CELL_COUNT = 1000;
+
+    @Param({"STRING", "NUMERIC", "DATE", "BOOLEAN", "FORMULA"})
+    public String cellType;
+
+    private Workbook workbook;
+    private List<Cell> cells;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workbook = new XSSFWorkbook();
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+        Sheet sheet = workbook.createSheet("Cells");
+        Row row = sheet.createRow(0);
+        cells = new ArrayList<>(CELL_COUNT);
+        for (int i = 0; i < CELL_COUNT; i++) {
+            Cell cell = row.createCell(i);
+            switch (cellType) {
+                case "STRING" -> cell.setCellValue("  Value " + i + "  ");
+                case "NUMERIC" -> cell.setCellValue(i * 1.5);
+                case "DATE" -> {
+                    cell.setCellValue(40_000 + i);
+                    cell.setCellStyle(dateStyle);
+                }
+                case "BOOLEAN" -> cell.setCellValue(i % 2 == 0);
+                default -> cell.setCellFormula(i + "*2+1");
+            }
+            cells.add(cell);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public void getCellValueAsString(Blackhole blackhole) {
+        for (Cell cell : cells) {
+            blackhole.consume(CellReader.getCellValueAsString(cell));
+        }
+    }
+
+    @Benchmark
+    public void isValidCell(Blackhole blackhole) {
+        for (Cell cell : cells) {
+            blackhole.consume(CellReader.isValidCell(cell));
+        }
+    }
+}
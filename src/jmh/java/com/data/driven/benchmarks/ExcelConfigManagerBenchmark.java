@@ -0,0 +1,37 @@
+package com.data.driven.benchmarks;
+
+import com.data.driven.config.excel.ExcelConfigManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full uncached sheet load through {@link ExcelConfigManager#loadExcelDataAsList} at several sheet sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class ExcelConfigManagerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    @Param({"6", "20"})
+    public int columns;
+
+    private String filePath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filePath = BenchmarkFixtures.workbook(rows, columns);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> loadExcelDataAsList() {
+        return ExcelConfigManager.loadExcelDataAsList(filePath, BenchmarkFixtures.SHEET_NAME);
+    }
+}
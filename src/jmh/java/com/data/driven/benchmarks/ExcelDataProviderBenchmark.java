@@ -0,0 +1,68 @@
+package com.data.driven.benchmarks;
+
+import com.data.driven.config.dataProvider.ExcelDataCombiner;
+import com.data.driven.config.dataProvider.ExcelDataProviderConfig;
+import com.data.driven.config.excel.ExcelDataCacheConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the provider projections and {@link ExcelDataCombiner} over a warm {@link ExcelDataCacheConfig}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ExcelDataProviderBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    @Param({"6", "20"})
+    public int columns;
+
+    private String filePath;
+    private String[] projectedColumns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filePath = BenchmarkFixtures.workbook(rows, columns);
+        projectedColumns = Arrays.copyOf(BenchmarkFixtures.columnNames(columns), Math.min(columns, 6));
+        ExcelDataCacheConfig.getTestData(filePath, BenchmarkFixtures.SHEET_NAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ExcelDataCacheConfig.clearCache();
+    }
+
+    @Benchmark
+    public void getColumnData(Blackhole blackhole) {
+        drain(ExcelDataProviderConfig.getColumnData(filePath, BenchmarkFixtures.SHEET_NAME, projectedColumns[0]),
+                blackhole);
+    }
+
+    @Benchmark
+    public void getMultiColumnData(Blackhole blackhole) {
+        drain(ExcelDataProviderConfig.getMultiColumnData(filePath, BenchmarkFixtures.SHEET_NAME, projectedColumns),
+                blackhole);
+    }
+
+    @Benchmark
+    public List<Object[]> combineIteratorData() {
+        return ExcelDataCombiner.combineIteratorData(Arrays.asList(
+                ExcelDataProviderConfig.getMultiColumnData(filePath, BenchmarkFixtures.SHEET_NAME, projectedColumns),
+                ExcelDataProviderConfig.getMultiColumnData(filePath, BenchmarkFixtures.SHEET_NAME, projectedColumns)
+        ));
+    }
+
+    private static void drain(Iterator<Object[]> iterator, Blackhole blackhole) {
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
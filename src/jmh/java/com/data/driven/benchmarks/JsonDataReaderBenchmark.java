@@ -0,0 +1,55 @@
+package com.data.driven.benchmarks;
+
+import com.data.driven.config.jackson.JsonDataReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JsonDataReader} getters with and without the reader cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JsonDataReaderBenchmark {
+
+    private static final int SECTIONS = 20;
+
+    @Param({"100", "10000"})
+    public int sectionSize;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private JsonDataReader reader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reader = JsonDataReader.builder()
+                .setFilePath(BenchmarkFixtures.jsonData(SECTIONS, sectionSize))
+                .setCacheEnabled(cacheEnabled)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        reader.close();
+    }
+
+    @Benchmark
+    public String getString() {
+        return reader.getString("Keyed", "Key7");
+    }
+
+    @Benchmark
+    public String getStringByIndex() {
+        return reader.getStringByIndex("Section3", sectionSize / 2);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> getAllStrings() {
+        return reader.getAllStrings("Section3");
+    }
+}
@@ -0,0 +1,39 @@
+package com.data.driven.benchmarks;
+
+import com.data.driven.config.jackson.JsonDataReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link JsonDataReader} with and without schema validation, isolating the validation cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JsonSchemaValidationBenchmark {
+
+    private static final int SECTIONS = 20;
+
+    @Param({"100", "10000"})
+    public int sectionSize;
+
+    private String dataPath;
+    private String schemaPath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataPath = BenchmarkFixtures.jsonData(SECTIONS, sectionSize);
+        schemaPath = BenchmarkFixtures.jsonSchema(SECTIONS);
+    }
+
+    @Benchmark
+    public JsonDataReader loadWithoutSchema() {
+        return JsonDataReader.builder().setFilePath(dataPath).build();
+    }
+
+    @Benchmark
+    public JsonDataReader loadWithSchemaValidation() {
+        return JsonDataReader.builder().setFilePath(dataPath).setSchemaPath(schemaPath).build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.data.driven.config.excel;
 
 import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.profiling.DataLoadEvents;
 import org.apache.poi.ss.usermodel.*;
 
 import java.math.BigDecimal;
@@ -71,7 +72,7 @@ public class CellReader {
                 case FORMULA -> {
                     FormulaEvaluator evaluator = cell.getSheet().getWorkbook()
                             .getCreationHelper().createFormulaEvaluator();
-                    CellValue cellValue = evaluator.evaluate(cell);
+                    CellValue cellValue = evaluate(evaluator, cell);
                     if (cellValue != null && cellValue.getCellType() == CellType.NUMERIC) {
                         return convertToAppropriateNumber(cellValue.getNumberValue());
                     }
@@ -107,7 +108,7 @@ public class CellReader {
                 case FORMULA:
                     FormulaEvaluator evaluator = cell.getSheet().getWorkbook()
                             .getCreationHelper().createFormulaEvaluator();
-                    CellValue cellValue = evaluator.evaluate(cell);
+                    CellValue cellValue = evaluate(evaluator, cell);
                     if (cellValue != null && cellValue.getCellType() == CellType.NUMERIC
                             && DateUtil.isCellDateFormatted(cell)) {
                         return DateUtil.getJavaDate(cellValue.getNumberValue());
@@ -138,7 +139,7 @@ public class CellReader {
                 case FORMULA -> {
                     FormulaEvaluator evaluator = cell.getSheet().getWorkbook()
                             .getCreationHelper().createFormulaEvaluator();
-                    CellValue cellValue = evaluator.evaluate(cell);
+                    CellValue cellValue = evaluate(evaluator, cell);
                     if (cellValue != null && cellValue.getCellType() == CellType.BOOLEAN) {
                         yield cellValue.getBooleanValue();
                     }
@@ -168,7 +169,7 @@ public class CellReader {
                 case FORMULA -> {
                     FormulaEvaluator evaluator = cell.getSheet().getWorkbook()
                             .getCreationHelper().createFormulaEvaluator();
-                    yield evaluator.evaluate(cell) != null;
+                    yield evaluate(evaluator, cell) != null;
                 }
                 default -> false;
             };
@@ -201,7 +202,7 @@ public class CellReader {
             evaluator.clearAllCachedResultValues(); // Clear cache for fresh evaluation
 
             try {
-                CellValue cellValue = evaluator.evaluate(cell);
+                CellValue cellValue = evaluate(evaluator, cell);
                 if (cellValue == null) return "";
 
                 return switch (cellValue.getCellType()) {
@@ -227,7 +228,20 @@ public class CellReader {
         }
     }
 
-    private static Number convertToAppropriateNumber(double value) {
+    private static CellValue evaluate(FormulaEvaluator evaluator, Cell cell) {
+        DataLoadEvents.FormulaEvaluation event = new DataLoadEvents.FormulaEvaluation();
+        event.begin();
+        CellValue cellValue = evaluator.evaluate(cell);
+        if (event.shouldCommit()) {
+            event.sheet = cell.getSheet().getSheetName();
+            event.row = cell.getRowIndex();
+            event.column = cell.getColumnIndex();
+            event.commit();
+        }
+        return cellValue;
+    }
+
+    static Number convertToAppropriateNumber(double value) {
         // Handle integers vs decimals with better precision
         if (value == Math.floor(value) && !Double.isInfinite(value)) {
             if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
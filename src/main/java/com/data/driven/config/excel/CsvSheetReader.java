@@ -0,0 +1,321 @@
+package com.data.driven.config.excel;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads a CSV file as a single-sheet workbook, producing the same row maps as
+ * {@link ExcelConfigManager#loadExcelDataAsList} so CSV exports can be used by the Excel data providers directly.
+ * <p>
+ * The file is memory-mapped in windows and parsed byte by byte with an RFC 4180 state machine: fields may be quoted,
+ * quoted fields may contain delimiters, doubled quotes and line breaks, and records may end in CRLF, LF or CR.
+ * The first record holds the headers and the sheet is named after the file, e.g. {@code users} for
+ * {@code users.csv}.
+ * <p>
+ * Values are typed the way Excel types a CSV it opens: unquoted numbers that a double represents exactly become
+ * Integer, Long or BigDecimal, and {@code TRUE}/{@code FALSE} become Booleans. Quoted values, numbers with leading
+ * zeros and everything else stay strings. Strings are trimmed and blank fields are left out of the row map.
+ */
+public class CsvSheetReader {
+
+    private static final Logger logger = LoggerUtils.getLogger(CsvSheetReader.class);
+
+    // Mapping window; records may span windows because the parser keeps its state between them
+    private static final int DEFAULT_WINDOW_BYTES = 64 << 20;
+    // The byte order mark must fit in the first window
+    private static final int MIN_WINDOW_BYTES = 3;
+    private static final byte QUOTE = '"';
+
+    private final String filePath;
+    private final byte delimiter;
+    private final int windowBytes;
+
+    /**
+     * @param filePath  Path to the CSV file
+     * @param delimiter The field delimiter, an ASCII character other than a quote or line break
+     */
+    public CsvSheetReader(String filePath, char delimiter) {
+        this(filePath, delimiter, DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * @param filePath    Path to the CSV file
+     * @param delimiter   The field delimiter, an ASCII character other than a quote or line break
+     * @param windowBytes The number of bytes mapped at a time, at least 3
+     */
+    public CsvSheetReader(String filePath, char delimiter, int windowBytes) {
+        if (delimiter > 0x7F || delimiter == QUOTE || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("Unsupported delimiter: " + delimiter);
+        }
+        if (windowBytes < MIN_WINDOW_BYTES) {
+            throw new IllegalArgumentException("Mapping window must be at least " + MIN_WINDOW_BYTES + " bytes: " + windowBytes);
+        }
+        this.filePath = filePath;
+        this.delimiter = (byte) delimiter;
+        this.windowBytes = windowBytes;
+    }
+
+    /**
+     * Creates a reader with the delimiter from {@code -Dcsv.delimiter}, or a tab for {@code .tsv} files and a comma
+     * otherwise.
+     *
+     * @param filePath Path to the CSV file
+     * @return The reader
+     */
+    public static CsvSheetReader forFile(String filePath) {
+        String configured = System.getProperty("csv.delimiter");
+        if (configured != null && !configured.isEmpty()) {
+            return new CsvSheetReader(filePath, configured.equals("\\t") ? '\t' : configured.charAt(0));
+        }
+        return new CsvSheetReader(filePath, filePath.toLowerCase(Locale.ROOT).endsWith(".tsv") ? '\t' : ',');
+    }
+
+    /**
+     * Checks whether a file should be read as delimited text, based on its extension.
+     *
+     * @param filePath The path to the data file
+     * @return true for {@code .csv} and {@code .tsv} files
+     */
+    public static boolean isDelimitedFile(String filePath) {
+        String lowerCasePath = filePath.toLowerCase(Locale.ROOT);
+        return lowerCasePath.endsWith(".csv") || lowerCasePath.endsWith(".tsv");
+    }
+
+    /**
+     * Returns the name of the single sheet a CSV file holds: its file name without the extension.
+     *
+     * @param filePath The path to the CSV file
+     * @return The sheet name
+     */
+    public static String getSheetName(String filePath) {
+        String fileName = Path.of(filePath).getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
+    }
+
+    /**
+     * Parses the file into row maps, one per non-empty data record.
+     *
+     * @return List of maps where each map represents a row of data
+     * @throws ExcelOperationException if the file cannot be read or is malformed
+     */
+    public List<Map<String, Object>> readRows() {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            RecordParser parser = new RecordParser();
+            for (long position = 0; position < size; position += windowBytes) {
+                long length = Math.min(windowBytes, size - position);
+                parser.feed(channel.map(FileChannel.MapMode.READ_ONLY, position, length), (int) length, position == 0);
+            }
+            return parser.finish();
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "readRows", "Failed to read CSV file: {}", filePath);
+            throw new ExcelOperationException("Failed to read CSV file: " + filePath, error);
+        }
+    }
+
+    private static Object typedValue(String raw, boolean quoted) {
+        String text = raw.trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        if (quoted) {
+            return text;
+        }
+        if (text.equalsIgnoreCase("TRUE") || text.equalsIgnoreCase("FALSE")) {
+            return Boolean.parseBoolean(text);
+        }
+        int digits = countNumberDigits(text);
+        if (digits > 0) {
+            double value = Double.parseDouble(text);
+            // Up to 15 significant digits always survive a double; keep longer values it would round as text
+            if (digits <= 15 || new BigDecimal(text).compareTo(BigDecimal.valueOf(value)) == 0) {
+                return CellReader.convertToAppropriateNumber(value);
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Counts the digits of a plain decimal number ({@code -12}, {@code 0.5}), or returns 0 if the text is not one.
+     * Leading zeros, signs other than a leading minus and exponents do not count as numbers.
+     */
+    private static int countNumberDigits(String text) {
+        int index = text.charAt(0) == '-' ? 1 : 0;
+        int integerStart = index;
+        while (index < text.length() && Character.isDigit(text.charAt(index))) {
+            index++;
+        }
+        int integerDigits = index - integerStart;
+        if (integerDigits == 0 || (integerDigits > 1 && text.charAt(integerStart) == '0')) {
+            return 0;
+        }
+        if (index == text.length()) {
+            return integerDigits;
+        }
+        if (text.charAt(index) != '.') {
+            return 0;
+        }
+        int fractionStart = ++index;
+        while (index < text.length() && Character.isDigit(text.charAt(index))) {
+            index++;
+        }
+        return index == text.length() && index > fractionStart ? integerDigits + index - fractionStart : 0;
+    }
+
+    private enum State {
+        FIELD_START, UNQUOTED, QUOTED, QUOTE_IN_QUOTED
+    }
+
+    /**
+     * The RFC 4180 state machine. Field bytes are collected in a reusable buffer and decoded as UTF-8 once the
+     * field ends, so the mapped file is never copied as a whole.
+     */
+    private final class RecordParser {
+        private final List<Map<String, Object>> rows = new ArrayList<>();
+        private final List<Object> record = new ArrayList<>();
+        private String[] headers;
+        private State state = State.FIELD_START;
+        private byte[] field = new byte[256];
+        private int fieldLength;
+        private boolean fieldQuoted;
+        private boolean recordStarted;
+        private boolean skipLineFeed;
+        private long line = 1;
+        private long quoteLine;
+
+        private void feed(MappedByteBuffer window, int length, boolean fileStart) {
+            int start = 0;
+            if (fileStart && length >= 3
+                    && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB && window.get(2) == (byte) 0xBF) {
+                start = 3; // UTF-8 byte order mark
+            }
+            for (int i = start; i < length; i++) {
+                byte b = window.get(i);
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (b == '\n') {
+                        continue;
+                    }
+                }
+                switch (state) {
+                    case FIELD_START -> {
+                        if (b == QUOTE) {
+                            state = State.QUOTED;
+                            fieldQuoted = true;
+                            recordStarted = true;
+                            quoteLine = line;
+                        } else {
+                            unquoted(b);
+                        }
+                    }
+                    case UNQUOTED -> unquoted(b);
+                    case QUOTED -> {
+                        if (b == QUOTE) {
+                            state = State.QUOTE_IN_QUOTED;
+                        } else {
+                            if (b == '\n') {
+                                line++;
+                            }
+                            append(b);
+                        }
+                    }
+                    case QUOTE_IN_QUOTED -> {
+                        if (b == QUOTE) {
+                            append(QUOTE);
+                            state = State.QUOTED;
+                        } else {
+                            // Text after a closing quote is kept, as Excel does
+                            unquoted(b);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void unquoted(byte b) {
+            if (b == delimiter) {
+                endField();
+            } else if (b == '\n' || b == '\r') {
+                endField();
+                endRecord();
+                skipLineFeed = b == '\r';
+            } else {
+                append(b);
+                state = State.UNQUOTED;
+                recordStarted = true;
+            }
+        }
+
+        private void append(byte b) {
+            if (fieldLength == field.length) {
+                field = Arrays.copyOf(field, field.length * 2);
+            }
+            field[fieldLength++] = b;
+        }
+
+        private void endField() {
+            String raw = new String(field, 0, fieldLength, StandardCharsets.UTF_8);
+            record.add(headers == null ? raw.trim() : typedValue(raw, fieldQuoted));
+            fieldLength = 0;
+            fieldQuoted = false;
+            state = State.FIELD_START;
+            recordStarted = true;
+        }
+
+        private void endRecord() {
+            line++;
+            boolean blankLine = record.size() == 1 && (record.get(0) == null || "".equals(record.get(0)));
+            if (!blankLine) {
+                if (headers == null) {
+                    headers = record.stream().map(String.class::cast).toArray(String[]::new);
+                    if (headers[0].isEmpty()) {
+                        throw new ExcelOperationException("Invalid header row");
+                    }
+                } else {
+                    Map<String, Object> rowData = new HashMap<>();
+                    for (int j = 0; j < record.size() && j < headers.length; j++) {
+                        Object value = record.get(j);
+                        if (value != null && !headers[j].isEmpty()) {
+                            rowData.put(headers[j], value);
+                        }
+                    }
+                    if (!rowData.isEmpty()) {
+                        rows.add(rowData);
+                    }
+                }
+            }
+            record.clear();
+            recordStarted = false;
+        }
+
+        private List<Map<String, Object>> finish() {
+            if (state == State.QUOTED) {
+                throw new ExcelOperationException("Unterminated quoted field starting at line " + quoteLine + " of " + filePath);
+            }
+            if (recordStarted || state != State.FIELD_START) {
+                endField();
+                endRecord();
+            }
+            if (rows.isEmpty()) {
+                logger.warn("Sheet is empty or contains only headers");
+            }
+            return rows;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.data.driven.config.excel;
 
 import com.data.driven.utils.ErrorHandler;
 import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.profiling.DataLoadEvents;
 import org.apache.logging.log4j.Logger;
 import org.apache.poi.ss.usermodel.*;
 
@@ -10,13 +11,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class ExcelConfigManager {
 
     private static final Logger logger = LoggerUtils.getLogger(ExcelConfigManager.class);
+    private static final int ROW_BATCH_SIZE = 1000;
 
     /**
      * Reads data from an Excel file and converts it to a list of maps.
+     * Excel Binary ({@code .xlsb}) files are streamed through {@link XlsbWorkbookReader}, and CSV files are read
+     * by {@link CsvSheetReader} as a workbook with one sheet named after the file. With {@code -Dexcel.decode.threads}
+     * set, {@code .xlsx} sheets are decoded in parallel by {@link ParallelSheetReader}.
      *
      * @param filePath  The path to the Excel file
      * @param sheetName The name of the sheet to read
@@ -24,11 +30,31 @@ public class ExcelConfigManager {
      * @throws ExcelOperationException if there are issues reading the file
      */
     public static List<Map<String, Object>> loadExcelDataAsList(String filePath, String sheetName) {
+        if (XlsbWorkbookReader.isBinaryWorkbook(filePath)) {
+            return loadBinaryWorkbookData(filePath, sheetName);
+        }
+        if (CsvSheetReader.isDelimitedFile(filePath)) {
+            return loadDelimitedData(filePath, sheetName);
+        }
+        int decodeThreads = ParallelSheetReader.configuredThreads();
+        if (decodeThreads > 0) {
+            return loadInParallel(filePath, sheetName, decodeThreads);
+        }
+
         List<Map<String, Object>> dataList = new ArrayList<>();
 
         try (WorkbookManager workbookManager = new WorkbookManager(filePath)) {
             Sheet sheet = workbookManager.getSheet(sheetName);
-            processSheet(sheet, dataList);
+
+            DataLoadEvents.SheetParse event = new DataLoadEvents.SheetParse();
+            event.begin();
+            processSheet(sheet, dataList::addAll);
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.sheet = sheetName;
+                event.rowCount = dataList.size();
+                event.commit();
+            }
         } catch (IOException error) {
             ErrorHandler.logError(error, "loadExcelDataAsList", "Failed to read Excel data");
             throw new ExcelOperationException("Error closing workbook", error);
@@ -37,17 +63,110 @@ public class ExcelConfigManager {
         return dataList;
     }
 
+    /**
+     * Reads data from an Excel file and hands it to a consumer in batches of row maps, in sheet order, with the same
+     * values as {@link #loadExcelDataAsList}. The row maps of the whole sheet are never held at once, though
+     * {@code .xlsx} sheets are still opened as a workbook so that {@link CellReader} can evaluate formulas. With
+     * {@code -Dexcel.decode.threads} set, they are streamed by {@link ParallelSheetReader} instead, which uses the
+     * cached formula results. CSV and {@code .xlsb} files are read in full and passed as one batch.
+     *
+     * @param filePath  The path to the Excel file
+     * @param sheetName The name of the sheet to read
+     * @param batches   Receives each batch of rows
+     * @throws ExcelOperationException if there are issues reading the file
+     */
+    public static void streamExcelData(String filePath, String sheetName, Consumer<List<Map<String, Object>>> batches) {
+        if (XlsbWorkbookReader.isBinaryWorkbook(filePath) || CsvSheetReader.isDelimitedFile(filePath)) {
+            batches.accept(loadExcelDataAsList(filePath, sheetName));
+            return;
+        }
+
+        DataLoadEvents.SheetParse event = new DataLoadEvents.SheetParse();
+        event.begin();
+        int[] rowCount = {0};
+        Consumer<List<Map<String, Object>>> counted = batch -> {
+            rowCount[0] += batch.size();
+            batches.accept(batch);
+        };
+        int decodeThreads = ParallelSheetReader.configuredThreads();
+        if (decodeThreads > 0 && WorkbookSnapshot.isSupported(filePath)) {
+            new ParallelSheetReader(filePath, decodeThreads).readSheet(sheetName, counted);
+        } else {
+            try (WorkbookManager workbookManager = new WorkbookManager(filePath)) {
+                processSheet(workbookManager.getSheet(sheetName), counted);
+            } catch (IOException error) {
+                ErrorHandler.logError(error, "streamExcelData", "Failed to read Excel data");
+                throw new ExcelOperationException("Error closing workbook", error);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.file = filePath;
+            event.sheet = sheetName;
+            event.rowCount = rowCount[0];
+            event.commit();
+        }
+    }
+
+    private static List<Map<String, Object>> loadBinaryWorkbookData(String filePath, String sheetName) {
+        try (XlsbWorkbookReader reader = new XlsbWorkbookReader(filePath)) {
+            DataLoadEvents.SheetParse event = new DataLoadEvents.SheetParse();
+            event.begin();
+            List<Map<String, Object>> dataList = reader.readSheet(sheetName);
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.sheet = sheetName;
+                event.rowCount = dataList.size();
+                event.commit();
+            }
+            return dataList;
+        }
+    }
+
+    private static List<Map<String, Object>> loadInParallel(String filePath, String sheetName, int threads) {
+        DataLoadEvents.SheetParse event = new DataLoadEvents.SheetParse();
+        event.begin();
+        List<Map<String, Object>> dataList = new ParallelSheetReader(filePath, threads).readSheet(sheetName);
+        if (event.shouldCommit()) {
+            event.file = filePath;
+            event.sheet = sheetName;
+            event.rowCount = dataList.size();
+            event.commit();
+        }
+        return dataList;
+    }
+
+    private static List<Map<String, Object>> loadDelimitedData(String filePath, String sheetName) {
+        String csvSheetName = CsvSheetReader.getSheetName(filePath);
+        if (!csvSheetName.equals(sheetName)) {
+            ExcelOperationException error = new ExcelOperationException("Sheet not found: " + sheetName
+                    + " (a CSV file has the single sheet '" + csvSheetName + "')");
+            ErrorHandler.logError(error, "loadDelimitedData", "Failed to get sheet: {}", sheetName);
+            throw error;
+        }
+
+        DataLoadEvents.SheetParse event = new DataLoadEvents.SheetParse();
+        event.begin();
+        List<Map<String, Object>> dataList = CsvSheetReader.forFile(filePath).readRows();
+        if (event.shouldCommit()) {
+            event.file = filePath;
+            event.sheet = sheetName;
+            event.rowCount = dataList.size();
+            event.commit();
+        }
+        return dataList;
+    }
+
     /**
      * Process the data in an Excel sheet and convert it to a list of maps.
      * This method assumes that the first row contains the headers.
      * It processes each row, skipping completely empty rows.
-     * For each row with data, it converts the row to a map and adds it to the data list.
+     * For each row with data, it converts the row to a map and passes it on in batches of {@value #ROW_BATCH_SIZE}.
      *
-     * @param sheet    The sheet to process
-     * @param dataList The list to which the row data should be added
+     * @param sheet   The sheet to process
+     * @param batches Receives each batch of row data, in sheet order
      * @throws ExcelOperationException if there are issues processing the sheet
      */
-    private static void processSheet(Sheet sheet, List<Map<String, Object>> dataList) {
+    private static void processSheet(Sheet sheet, Consumer<List<Map<String, Object>>> batches) {
         try {
             int rowCount = sheet.getPhysicalNumberOfRows();
             if (rowCount <= 1) {
@@ -63,14 +182,29 @@ public class ExcelConfigManager {
             List<String> headers = getHeaders(headerRow);
 
             // Process each row, skipping completely empty rows
+            DataLoadEvents.RowDecodeBatch batchEvent = new DataLoadEvents.RowDecodeBatch();
+            batchEvent.begin();
+            int batchStart = 1;
+            List<Map<String, Object>> batch = new ArrayList<>();
             for (int i = 1; i < rowCount; i++) {
                 Row currentRow = sheet.getRow(i);
                 if (currentRow != null && !isRowEmpty(currentRow)) {
                     Map<String, Object> rowData = processRow(currentRow, headers);
                     if (!rowData.isEmpty()) {
-                        dataList.add(rowData);
+                        batch.add(rowData);
                     }
                 }
+
+                if (i - batchStart + 1 == ROW_BATCH_SIZE || i == rowCount - 1) {
+                    if (!batch.isEmpty()) {
+                        batches.accept(batch);
+                        batch = new ArrayList<>();
+                    }
+                    commitRowBatch(batchEvent, sheet.getSheetName(), batchStart, i - batchStart + 1);
+                    batchEvent = new DataLoadEvents.RowDecodeBatch();
+                    batchEvent.begin();
+                    batchStart = i + 1;
+                }
             }
         } catch (Exception error) {
             ErrorHandler.logError(error, "processSheet", "Failed to process sheet");
@@ -78,6 +212,15 @@ public class ExcelConfigManager {
         }
     }
 
+    private static void commitRowBatch(DataLoadEvents.RowDecodeBatch event, String sheetName, int firstRow, int rowCount) {
+        if (event.shouldCommit()) {
+            event.sheet = sheetName;
+            event.firstRow = firstRow;
+            event.rowCount = rowCount;
+            event.commit();
+        }
+    }
+
     /**
      * Retrieves the headers from a row, trims the values, and returns them as a list.
      *
@@ -0,0 +1,222 @@
+package com.data.driven.config.excel;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.results.TestResultRecord;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Streams per-row test results into a results workbook.
+ * <p>
+ * Test threads only append to a lock-free queue; a single background thread drains it in batches into an
+ * {@link SXSSFWorkbook}, whose sliding window spills written rows to a temporary file, so heap use stays bounded
+ * regardless of how many results a run produces. Strings are written inline rather than through the shared
+ * strings table, which would otherwise grow with every distinct parameter value. The workbook file itself is assembled on {@link #close()}.
+ * <p>
+ * SXSSF can only append rows, so results go to a separate workbook rather than into the source data workbook;
+ * the data source and row index columns tie each result back to its data row.
+ */
+public final class ExcelResultWriter implements AutoCloseable {
+
+    private static final Logger logger = LoggerUtils.getLogger(ExcelResultWriter.class);
+
+    private static final String[] HEADERS = {
+            "Test", "Data Source", "Row", "Parameters", "Status", "Duration (ms)", "Error", "Started"
+    };
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final int MAX_CELL_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+    private static final int MAX_ROW_INDEX = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+
+    private final Path outputPath;
+    private final String sheetName;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle timestampStyle;
+    private final Queue<TestResultRecord> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private SXSSFSheet sheet;
+    private int sheetCount;
+    private int nextRow;
+    private volatile long written;
+
+    /**
+     * Creates a writer and starts its background thread.
+     *
+     * @param outputPath Path of the results workbook written on close
+     * @param sheetName  Name of the results sheet; further sheets are numbered if a run exceeds Excel's row limit
+     */
+    public ExcelResultWriter(Path outputPath, String sheetName) {
+        this.outputPath = outputPath;
+        this.sheetName = sheetName;
+        this.workbook = new SXSSFWorkbook(null, ROW_ACCESS_WINDOW, true);
+        this.timestampStyle = workbook.createCellStyle();
+        this.timestampStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+        this.sheet = createSheet();
+        this.writerThread = Thread.ofPlatform()
+                .name("excel-result-writer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    /**
+     * Queues a result for writing. Never blocks.
+     *
+     * @param result The result to write
+     */
+    public void submit(TestResultRecord result) {
+        if (!running) {
+            logger.warn("Result for {} submitted after the writer was closed; dropping it", result.testName());
+            return;
+        }
+        pending.offer(result);
+        if (pendingCount.incrementAndGet() % BATCH_SIZE == 0) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            drainBatch();
+            if (pendingCount.get() < BATCH_SIZE) {
+                LockSupport.parkNanos(this, FLUSH_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    private void drainBatch() {
+        TestResultRecord result;
+        int drained = 0;
+        while (drained < BATCH_SIZE && (result = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            try {
+                appendRow(result);
+            } catch (Exception error) {
+                ErrorHandler.logError(error, "drainBatch", "Failed to write result row for: {}", result.testName());
+            }
+            drained++;
+        }
+        if (drained > 0) {
+            flushRows();
+        }
+    }
+
+    private void appendRow(TestResultRecord result) {
+        if (nextRow > MAX_ROW_INDEX) {
+            flushRows();
+            sheet = createSheet();
+        }
+        Row row = sheet.createRow(nextRow++);
+        row.createCell(0).setCellValue(result.testName());
+        row.createCell(1).setCellValue(truncate(result.dataSource()));
+        if (result.rowIndex() >= 0) {
+            row.createCell(2).setCellValue(result.rowIndex());
+        }
+        row.createCell(3).setCellValue(truncate(String.join(", ", result.parameters())));
+        row.createCell(4).setCellValue(result.status().name());
+        row.createCell(5).setCellValue(result.durationMillis());
+        if (result.error() != null) {
+            row.createCell(6).setCellValue(truncate(result.error()));
+        }
+        Cell started = row.createCell(7);
+        started.setCellValue(new Date(result.startMillis()));
+        started.setCellStyle(timestampStyle);
+        written++;
+    }
+
+    private SXSSFSheet createSheet() {
+        sheetCount++;
+        SXSSFSheet created = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+        created.createFreezePane(0, 1);
+        Row header = created.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            header.createCell(i).setCellValue(HEADERS[i]);
+        }
+        nextRow = 1;
+        return created;
+    }
+
+    private void flushRows() {
+        try {
+            sheet.flushRows();
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "flushRows", "Failed to flush result rows to temporary storage");
+        }
+    }
+
+    private static String truncate(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.length() <= MAX_CELL_LENGTH ? value : value.substring(0, MAX_CELL_LENGTH);
+    }
+
+    /**
+     * Stops the background thread, writes any remaining results and saves the workbook.
+     * The file is written to a temporary sibling first and then moved into place.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+            while (!pending.isEmpty()) {
+                drainBatch();
+            }
+
+            Path parent = outputPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, outputPath.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                    workbook.write(outputStream);
+                }
+                Files.move(temp, outputPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            logger.info("Wrote {} test results to {}", written, outputPath);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            ErrorHandler.logError(error, "close", "Interrupted while writing results workbook: {}", outputPath);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "close", "Failed to write results workbook: {}", outputPath);
+            throw new ExcelOperationException("Failed to write results workbook: " + outputPath, error);
+        } finally {
+            try {
+                workbook.close();
+            } catch (IOException error) {
+                logger.warn("Failed to release SXSSF temporary files: {}", error.getMessage());
+            }
+        }
+    }
+}
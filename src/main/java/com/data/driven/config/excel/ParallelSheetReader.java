@@ -0,0 +1,498 @@
+package com.data.driven.config.excel;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.profiling.DataLoadEvents;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Reads one {@code .xlsx} sheet with a tokenizer thread and a pool of decoder threads, for sheets too large to
+ * decode on a single core.
+ * <p>
+ * The calling thread streams the sheet XML and only tokenizes it into batches of raw cells (column, type tag,
+ * style and raw text). Workers turn each batch into row maps with the conversion rules of
+ * {@link ExcelConfigManager#loadExcelDataAsList}: shared strings are resolved and trimmed, numbers become Integer,
+ * Long or BigDecimal through {@link CellReader}, date-formatted numbers become Dates and blank cells are left out.
+ * Batches are collected in submission order, so rows keep their sheet order. At most a few batches per worker are
+ * in flight, which bounds the raw data held in memory.
+ * <p>
+ * Enable with {@code -Dexcel.decode.threads=N} (or {@code auto} for one thread per core). Formula cells use the
+ * result cached in the file rather than being evaluated again.
+ */
+public class ParallelSheetReader {
+
+    private static final Logger logger = LoggerUtils.getLogger(ParallelSheetReader.class);
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+    private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
+
+    private static final int BATCH_ROWS = 1000;
+    private static final int BATCHES_IN_FLIGHT_PER_THREAD = 4;
+
+    private static final byte NUMBER = 0;
+    private static final byte SHARED_STRING = 1;
+    private static final byte TEXT = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte ERROR = 4;
+
+    private final String filePath;
+    private final int threads;
+
+    public ParallelSheetReader(String filePath, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Decoder threads must be at least 1: " + threads);
+        }
+        this.filePath = filePath;
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the number of decoder threads configured with {@code -Dexcel.decode.threads}, or 0 if parallel
+     * decoding is disabled.
+     */
+    public static int configuredThreads() {
+        String configured = System.getProperty("excel.decode.threads", "0").trim();
+        if (configured.equalsIgnoreCase("auto")) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        try {
+            return Math.max(0, Integer.parseInt(configured));
+        } catch (NumberFormatException error) {
+            logger.warn("Ignoring invalid excel.decode.threads value '{}'", configured);
+            return 0;
+        }
+    }
+
+    /**
+     * Reads a sheet into row maps, one per non-empty data row.
+     *
+     * @param sheetName The name of the sheet to read
+     * @return List of maps where each map represents a row of data
+     * @throws ExcelOperationException if the sheet is missing or cannot be parsed
+     */
+    public List<Map<String, Object>> readSheet(String sheetName) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        readSheet(sheetName, rows::addAll);
+        return rows;
+    }
+
+    /**
+     * Reads a sheet and hands its rows to a consumer in batches, in sheet order, without collecting them.
+     * Batches are passed on the calling thread.
+     *
+     * @param sheetName The name of the sheet to read
+     * @param batches   Receives each decoded batch of row maps
+     * @throws ExcelOperationException if the sheet is missing or cannot be parsed
+     */
+    public void readSheet(String sheetName, Consumer<List<Map<String, Object>>> batches) {
+        DataLoadEvents.WorkbookOpen event = new DataLoadEvents.WorkbookOpen();
+        event.begin();
+        OPCPackage opcPackage = null;
+        try {
+            opcPackage = OPCPackage.open(filePath, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(opcPackage);
+            Decoder decoder = new Decoder(new ReadOnlySharedStringsTable(opcPackage, false),
+                    readDateStyles(reader.getStylesTable()), isDate1904(reader), sheetName);
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.byteCount = new File(filePath).length();
+                event.commit();
+            }
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheetData = sheets.next()) {
+                    if (sheets.getSheetName().equals(sheetName)) {
+                        tokenize(sheetData, decoder, batches);
+                        return;
+                    }
+                }
+            }
+            throw new ExcelOperationException("Sheet not found: " + sheetName);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "readSheet", "Failed to read sheet: {}", sheetName);
+            throw new ExcelOperationException("Failed to read sheet: " + sheetName, error);
+        } finally {
+            if (opcPackage != null) {
+                // Opened read-only, so there is nothing to save
+                opcPackage.revert();
+            }
+        }
+    }
+
+    /**
+     * Streams the sheet XML into raw batches on the calling thread and hands each full batch to the decoder pool.
+     */
+    private void tokenize(InputStream sheetData, Decoder decoder, Consumer<List<Map<String, Object>>> batches)
+            throws Exception {
+        RowCounter rows = new RowCounter(batches);
+        Deque<Future<List<Map<String, Object>>>> pending = new ArrayDeque<>();
+        int maxInFlight = threads * BATCHES_IN_FLIGHT_PER_THREAD;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "excel-decoder");
+            thread.setDaemon(true);
+            return thread;
+        })) {
+            XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(sheetData);
+            try {
+                RawBatch batch = new RawBatch(1);
+                int rowNumber = 0;
+                int column = -1;
+                byte type = NUMBER;
+                int style = 0;
+                String value = null;
+                StringBuilder inlineText = null;
+                int phoneticDepth = 0;
+
+                while (xml.hasNext()) {
+                    int eventType = xml.next();
+                    if (eventType == XMLStreamConstants.START_ELEMENT) {
+                        switch (xml.getLocalName()) {
+                            case "row" -> {
+                                String reference = xml.getAttributeValue(null, "r");
+                                rowNumber = reference != null ? Integer.parseInt(reference) : rowNumber + 1;
+                                column = -1;
+                            }
+                            case "c" -> {
+                                String reference = xml.getAttributeValue(null, "r");
+                                column = reference != null ? columnIndex(reference) : column + 1;
+                                type = typeTag(xml.getAttributeValue(null, "t"));
+                                String styleIndex = xml.getAttributeValue(null, "s");
+                                style = styleIndex != null ? Integer.parseInt(styleIndex) : 0;
+                                value = null;
+                                inlineText = null;
+                            }
+                            case "v" -> value = xml.getElementText();
+                            case "is" -> inlineText = new StringBuilder();
+                            case "rPh" -> phoneticDepth++;
+                            case "t" -> {
+                                if (inlineText != null && phoneticDepth == 0) {
+                                    inlineText.append(xml.getElementText());
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+                    } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+                        switch (xml.getLocalName()) {
+                            case "c" -> {
+                                if (inlineText != null) {
+                                    value = inlineText.toString();
+                                }
+                                if (value != null) {
+                                    batch.addCell(column, type, style, value);
+                                }
+                            }
+                            case "rPh" -> phoneticDepth--;
+                            case "row" -> {
+                                if (decoder.headers == null) {
+                                    decoder.readHeaders(batch, rowNumber);
+                                    batch = new RawBatch(rowNumber + 1);
+                                } else {
+                                    batch.endRow();
+                                    if (batch.rowCount == BATCH_ROWS) {
+                                        submit(executor, pending, batch, decoder, rows, maxInFlight);
+                                        batch = new RawBatch(rowNumber + 1);
+                                    }
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+                    }
+                }
+                if (batch.rowCount > 0) {
+                    submit(executor, pending, batch, decoder, rows, maxInFlight);
+                }
+                while (!pending.isEmpty()) {
+                    rows.accept(await(pending.removeFirst()));
+                }
+            } finally {
+                xml.close();
+                pending.forEach(future -> future.cancel(true));
+            }
+        }
+
+        if (rows.count == 0) {
+            logger.warn("Sheet is empty or contains only headers");
+        }
+    }
+
+    private static void submit(ExecutorService executor, Deque<Future<List<Map<String, Object>>>> pending,
+                               RawBatch batch, Decoder decoder, RowCounter rows, int maxInFlight)
+            throws ExecutionException, InterruptedException {
+        pending.addLast(executor.submit(() -> decoder.decode(batch)));
+        // Collect the oldest batch first, so rows are appended in sheet order and the tokenizer cannot run ahead
+        while (pending.size() >= maxInFlight) {
+            rows.accept(await(pending.removeFirst()));
+        }
+    }
+
+    private static List<Map<String, Object>> await(Future<List<Map<String, Object>>> future)
+            throws ExecutionException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException error) {
+            if (error.getCause() instanceof ExcelOperationException operationError) {
+                throw operationError;
+            }
+            throw error;
+        }
+    }
+
+    /**
+     * Records which cell styles apply a date number format.
+     */
+    private static boolean[] readDateStyles(StylesTable styles) {
+        boolean[] dateStyles = new boolean[styles.getNumCellStyles()];
+        for (int i = 0; i < dateStyles.length; i++) {
+            XSSFCellStyle style = styles.getStyleAt(i);
+            String format = style.getDataFormatString();
+            dateStyles[i] = format != null && DateUtil.isADateFormat(style.getDataFormat(), format);
+        }
+        return dateStyles;
+    }
+
+    private static boolean isDate1904(XSSFReader reader) throws Exception {
+        try (InputStream workbookData = reader.getWorkbookData()) {
+            XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(workbookData);
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("workbookPr")) {
+                        String date1904 = xml.getAttributeValue(null, "date1904");
+                        return "1".equals(date1904) || "true".equalsIgnoreCase(date1904);
+                    }
+                }
+                return false;
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+    private static byte typeTag(String type) {
+        if (type == null) {
+            return NUMBER;
+        }
+        return switch (type) {
+            case "s" -> SHARED_STRING;
+            case "b" -> BOOLEAN;
+            case "e" -> ERROR;
+            case "str", "inlineStr", "d" -> TEXT;
+            default -> NUMBER;
+        };
+    }
+
+    /**
+     * Converts the column letters of a cell reference such as {@code AB12} to a zero-based column index.
+     */
+    private static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Passes decoded batches on in order and counts their rows.
+     */
+    private static final class RowCounter {
+        private final Consumer<List<Map<String, Object>>> batches;
+        private long count;
+
+        private RowCounter(Consumer<List<Map<String, Object>>> batches) {
+            this.batches = batches;
+        }
+
+        private void accept(List<Map<String, Object>> batch) {
+            count += batch.size();
+            batches.accept(batch);
+        }
+    }
+
+    /**
+     * Raw cells of up to {@link #BATCH_ROWS} rows, held in parallel arrays so tokenizing allocates little more than
+     * the value strings.
+     */
+    private static final class RawBatch {
+        private final int firstRow;
+        private int rowCount;
+        private int cellCount;
+        private int[] rowEnds = new int[BATCH_ROWS];
+        private int[] columns = new int[BATCH_ROWS * 8];
+        private byte[] types = new byte[BATCH_ROWS * 8];
+        private int[] styles = new int[BATCH_ROWS * 8];
+        private String[] values = new String[BATCH_ROWS * 8];
+
+        private RawBatch(int firstRow) {
+            this.firstRow = firstRow;
+        }
+
+        private void addCell(int column, byte type, int style, String value) {
+            if (cellCount == columns.length) {
+                int capacity = columns.length * 2;
+                columns = Arrays.copyOf(columns, capacity);
+                types = Arrays.copyOf(types, capacity);
+                styles = Arrays.copyOf(styles, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            columns[cellCount] = column;
+            types[cellCount] = type;
+            styles[cellCount] = style;
+            values[cellCount] = value;
+            cellCount++;
+        }
+
+        private void endRow() {
+            // Rows without cells hold no data and are not counted
+            if (cellCount > (rowCount == 0 ? 0 : rowEnds[rowCount - 1])) {
+                rowEnds[rowCount++] = cellCount;
+            }
+        }
+    }
+
+    /**
+     * Turns raw cells into values. Holds only read-only state after the header row, so workers share one instance.
+     */
+    private static final class Decoder {
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final boolean[] dateStyles;
+        private final boolean date1904;
+        private final String sheetName;
+        private List<String> headers;
+
+        private Decoder(ReadOnlySharedStringsTable sharedStrings, boolean[] dateStyles, boolean date1904,
+                        String sheetName) {
+            this.sharedStrings = sharedStrings;
+            this.dateStyles = dateStyles;
+            this.date1904 = date1904;
+            this.sheetName = sheetName;
+        }
+
+        /**
+         * Takes the headers from the first row, skipping blank cells as {@link ExcelConfigManager} does.
+         */
+        private void readHeaders(RawBatch batch, int rowNumber) {
+            if (rowNumber != 1 || batch.cellCount == 0 || batch.columns[0] != 0
+                    || headerText(decode(batch, 0)).isEmpty()) {
+                throw new ExcelOperationException("Invalid header row");
+            }
+            headers = new ArrayList<>();
+            for (int cell = 0; cell < batch.cellCount; cell++) {
+                String header = headerText(decode(batch, cell));
+                if (!header.isEmpty()) {
+                    headers.add(header);
+                }
+            }
+        }
+
+        private List<Map<String, Object>> decode(RawBatch batch) {
+            DataLoadEvents.RowDecodeBatch event = new DataLoadEvents.RowDecodeBatch();
+            event.begin();
+            List<Map<String, Object>> rows = new ArrayList<>(batch.rowCount);
+            int cell = 0;
+            for (int row = 0; row < batch.rowCount; row++) {
+                Map<String, Object> rowData = new HashMap<>();
+                for (; cell < batch.rowEnds[row]; cell++) {
+                    int column = batch.columns[cell];
+                    if (column < headers.size()) {
+                        Object value = decode(batch, cell);
+                        if (value != null) {
+                            rowData.put(headers.get(column), value);
+                        }
+                    }
+                }
+                if (!rowData.isEmpty()) {
+                    rows.add(rowData);
+                }
+            }
+            if (event.shouldCommit()) {
+                event.sheet = sheetName;
+                event.firstRow = batch.firstRow - 1;
+                event.rowCount = batch.rowCount;
+                event.commit();
+            }
+            return rows;
+        }
+
+        private Object decode(RawBatch batch, int cell) {
+            String raw = batch.values[cell];
+            try {
+                return switch (batch.types[cell]) {
+                    case SHARED_STRING -> text(sharedStrings.getItemAt(Integer.parseInt(raw.trim())).getString());
+                    case TEXT -> text(raw);
+                    case BOOLEAN -> "1".equals(raw.trim()) || "true".equalsIgnoreCase(raw.trim());
+                    case ERROR -> null;
+                    default -> {
+                        if (raw.isBlank()) {
+                            yield null;
+                        }
+                        double value = Double.parseDouble(raw);
+                        int style = batch.styles[cell];
+                        yield style < dateStyles.length && dateStyles[style]
+                                ? DateUtil.getJavaDate(value, date1904)
+                                : CellReader.convertToAppropriateNumber(value);
+                    }
+                };
+            } catch (RuntimeException error) {
+                ErrorHandler.logError(error, "decode", "Failed to decode cell value: {}", raw);
+                throw new ExcelOperationException("Error getting cell value", error);
+            }
+        }
+
+        private static String text(String value) {
+            String trimmed = value.trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+
+        private static String headerText(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof Date date) {
+                return new SimpleDateFormat(DEFAULT_DATE_FORMAT).format(date);
+            }
+            return String.valueOf(value);
+        }
+    }
+}
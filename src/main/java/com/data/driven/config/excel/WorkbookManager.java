@@ -1,20 +1,31 @@
 package com.data.driven.config.excel;
 
 import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.profiling.DataLoadEvents;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class WorkbookManager implements AutoCloseable {
 
     private final XSSFWorkbook workbook;
 
     public WorkbookManager(String filePath) {
+        DataLoadEvents.WorkbookOpen event = new DataLoadEvents.WorkbookOpen();
+        event.begin();
         try {
             FileInputStream fis = new FileInputStream(filePath);
             this.workbook = new XSSFWorkbook(fis);
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.byteCount = new File(filePath).length();
+                event.commit();
+            }
         } catch (IOException error) {
             ErrorHandler.logError(error, "WorkbookManager", "Failed to load workbook");
             throw new ExcelOperationException("Failed to load workbook: " + filePath, error);
@@ -36,11 +47,24 @@ public class WorkbookManager implements AutoCloseable {
             }
             return sheet;
         } catch (Exception error) {
-            ErrorHandler.logError(error, "WorkbookManager", "Failed to get sheet: " + sheetName);
+            ErrorHandler.logError(error, "WorkbookManager", "Failed to get sheet: {}", sheetName);
             throw new ExcelOperationException("Failed to get sheet: " + sheetName, error);
         }
     }
 
+    /**
+     * Returns the names of all sheets in workbook order.
+     *
+     * @return The sheet names
+     */
+    public List<String> getSheetNames() {
+        List<String> sheetNames = new ArrayList<>(workbook.getNumberOfSheets());
+        for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+            sheetNames.add(workbook.getSheetName(i));
+        }
+        return sheetNames;
+    }
+
     /**
      * Closes the workbook and releases any system resources it is using. This
      * method must be called after the workbook is no longer needed, otherwise
@@ -0,0 +1,321 @@
+package com.data.driven.config.excel;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * The state of an {@code .xlsx} workbook's zip parts at one point in time, used to tell which sheets changed
+ * between two loads without parsing them.
+ * <p>
+ * A snapshot records the CRC32 and size of every zip entry, which come from the zip's central directory and cost
+ * nothing to read, plus the sheet-name-to-part mapping and a hash of every shared string. Comparing an older snapshot
+ * with a newer one finds sheets whose own part changed. It also finds unchanged parts that are affected by other
+ * changes, such as a sheet whose shared strings were rewritten or a formula sheet after another sheet changed.
+ */
+public final class WorkbookSnapshot {
+
+    private static final Logger logger = LoggerUtils.getLogger(WorkbookSnapshot.class);
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private static final String WORKBOOK_PART = "xl/workbook.xml";
+    private static final String WORKBOOK_RELS_PART = "xl/_rels/workbook.xml.rels";
+    private static final String WORKSHEET_PREFIX = "xl/worksheets/";
+
+    private final String filePath;
+    private final Map<String, PartSignature> parts;
+    private final Map<String, String> sheetParts;
+    private final String sharedStringsPart;
+    private final String stylesPart;
+    private final long[] sharedStringHashes;
+
+    private WorkbookSnapshot(String filePath, Map<String, PartSignature> parts, Map<String, String> sheetParts,
+                             String sharedStringsPart, String stylesPart, long[] sharedStringHashes) {
+        this.filePath = filePath;
+        this.parts = parts;
+        this.sheetParts = sheetParts;
+        this.sharedStringsPart = sharedStringsPart;
+        this.stylesPart = stylesPart;
+        this.sharedStringHashes = sharedStringHashes;
+    }
+
+    /**
+     * Checks whether change detection applies to a file: only zip-based XML workbooks have per-part checksums.
+     *
+     * @param filePath The path to the workbook
+     * @return true for {@code .xlsx} and {@code .xlsm} files
+     */
+    public static boolean isSupported(String filePath) {
+        String lowerCasePath = filePath.toLowerCase(Locale.ROOT);
+        return lowerCasePath.endsWith(".xlsx") || lowerCasePath.endsWith(".xlsm");
+    }
+
+    /**
+     * Captures the current state of a workbook.
+     *
+     * @param filePath The path to the workbook
+     * @param previous An earlier snapshot of the same file whose shared string hashes are reused if the shared strings
+     *                 part is unchanged, or null
+     * @return The snapshot
+     */
+    public static WorkbookSnapshot capture(String filePath, WorkbookSnapshot previous) {
+        try (ZipFile zip = new ZipFile(filePath)) {
+            Map<String, PartSignature> parts = new HashMap<>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                parts.put(entry.getName(), new PartSignature(entry.getCrc(), entry.getSize()));
+            }
+
+            Map<String, String> relationshipTargets = new HashMap<>();
+            Map<String, String> relationshipTypes = new HashMap<>();
+            readRelationships(zip, relationshipTargets, relationshipTypes);
+            Map<String, String> sheetParts = readSheetParts(zip, relationshipTargets);
+            String sharedStringsPart = partOfType(relationshipTargets, relationshipTypes, "/sharedStrings");
+            String stylesPart = partOfType(relationshipTargets, relationshipTypes, "/styles");
+
+            long[] sharedStringHashes = null;
+            if (sharedStringsPart != null && parts.containsKey(sharedStringsPart)) {
+                boolean reusable = previous != null && sharedStringsPart.equals(previous.sharedStringsPart)
+                        && parts.get(sharedStringsPart).equals(previous.parts.get(sharedStringsPart));
+                sharedStringHashes = reusable ? previous.sharedStringHashes : hashSharedStrings(zip, sharedStringsPart);
+            }
+            return new WorkbookSnapshot(filePath, parts, sheetParts, sharedStringsPart, stylesPart, sharedStringHashes);
+        } catch (IOException | XMLStreamException error) {
+            ErrorHandler.logError(error, "capture", "Failed to read workbook parts of: {}", filePath);
+            throw new ExcelOperationException("Failed to read workbook parts of: " + filePath, error);
+        }
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public Set<String> getSheetNames() {
+        return Collections.unmodifiableSet(sheetParts.keySet());
+    }
+
+    /**
+     * Returns the sheets, among those given, whose data may differ between this snapshot and a newer one. Sheets that
+     * no longer exist in the newer snapshot are reported as changed.
+     *
+     * @param current    A newer snapshot of the same workbook
+     * @param sheetNames The sheets to check
+     * @return The changed sheets, in the order given
+     */
+    public List<String> changedSheets(WorkbookSnapshot current, Collection<String> sheetNames) {
+        Set<String> changedParts = new HashSet<>();
+        current.parts.forEach((name, signature) -> {
+            if (!signature.equals(parts.get(name))) {
+                changedParts.add(name);
+            }
+        });
+        parts.keySet().stream().filter(name -> !current.parts.containsKey(name)).forEach(changedParts::add);
+
+        boolean stylesChanged = current.stylesPart != null && changedParts.contains(current.stylesPart);
+        boolean sharedStringsChanged = current.sharedStringsPart != null
+                && changedParts.contains(current.sharedStringsPart);
+        boolean worksheetsChanged = changedParts.contains(WORKBOOK_PART)
+                || changedParts.stream().anyMatch(name -> name.startsWith(WORKSHEET_PREFIX));
+
+        List<String> changed = new ArrayList<>();
+        for (String sheetName : sheetNames) {
+            String part = current.sheetParts.get(sheetName);
+            if (part == null || !part.equals(sheetParts.get(sheetName)) || changedParts.contains(part)
+                    || stylesChanged) {
+                changed.add(sheetName);
+            } else if ((sharedStringsChanged || worksheetsChanged)
+                    && current.dependenciesChanged(part, sharedStringHashes, sharedStringsChanged)) {
+                changed.add(sheetName);
+            }
+        }
+        if (!changedParts.isEmpty()) {
+            logger.debug("Changed parts in {}: {}; affected sheets: {}", filePath, changedParts, changed);
+        }
+        return changed;
+    }
+
+    /**
+     * Scans an unchanged sheet part for what it depends on: the shared strings it references must still resolve to
+     * the same text, and a sheet with formulas is treated as changed whenever any worksheet changed, because its
+     * formulas are evaluated on load and may reference other sheets.
+     */
+    private boolean dependenciesChanged(String part, long[] previousHashes, boolean sharedStringsChanged) {
+        try (ZipFile zip = new ZipFile(filePath); InputStream inputStream = zip.getInputStream(zip.getEntry(part))) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                boolean sharedStringCell = false;
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    switch (reader.getLocalName()) {
+                        case "c" -> sharedStringCell = "s".equals(reader.getAttributeValue(null, "t"));
+                        case "f" -> {
+                            return true;
+                        }
+                        case "v" -> {
+                            if (sharedStringCell && sharedStringsChanged
+                                    && !sameSharedString(Integer.parseInt(reader.getElementText().trim()), previousHashes)) {
+                                return true;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+                return false;
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException | RuntimeException error) {
+            // If the part cannot be scanned, reparsing is the safe answer
+            logger.debug("Treating {} in {} as changed: {}", part, filePath, error.getMessage());
+            return true;
+        }
+    }
+
+    private boolean sameSharedString(int index, long[] previousHashes) {
+        return previousHashes != null && sharedStringHashes != null
+                && index < previousHashes.length && index < sharedStringHashes.length
+                && previousHashes[index] == sharedStringHashes[index];
+    }
+
+    private static void readRelationships(ZipFile zip, Map<String, String> targets, Map<String, String> types)
+            throws IOException, XMLStreamException {
+        forEachElement(zip, WORKBOOK_RELS_PART, "Relationship"::equals, reader -> {
+            String id = reader.getAttributeValue(null, "Id");
+            String target = reader.getAttributeValue(null, "Target");
+            targets.put(id, target.startsWith("/") ? target.substring(1) : "xl/" + target);
+            types.put(id, reader.getAttributeValue(null, "Type"));
+        });
+    }
+
+    private static Map<String, String> readSheetParts(ZipFile zip, Map<String, String> relationshipTargets)
+            throws IOException, XMLStreamException {
+        Map<String, String> sheetParts = new LinkedHashMap<>();
+        forEachElement(zip, WORKBOOK_PART, "sheet"::equals, reader -> {
+            String relationshipId = null;
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if ("id".equals(reader.getAttributeLocalName(i))) {
+                    relationshipId = reader.getAttributeValue(i);
+                }
+            }
+            String part = relationshipTargets.get(relationshipId);
+            if (part != null) {
+                sheetParts.put(reader.getAttributeValue(null, "name"), part);
+            }
+        });
+        return sheetParts;
+    }
+
+    private static String partOfType(Map<String, String> targets, Map<String, String> types, String typeSuffix) {
+        for (Map.Entry<String, String> type : types.entrySet()) {
+            if (type.getValue() != null && type.getValue().endsWith(typeSuffix)) {
+                return targets.get(type.getKey());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hashes the text of each shared string item, so a later snapshot can tell which indices now hold other text.
+     */
+    private static long[] hashSharedStrings(ZipFile zip, String part) throws IOException, XMLStreamException {
+        List<Long> hashes = new ArrayList<>();
+        try (InputStream inputStream = zip.getInputStream(zip.getEntry(part))) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                long hash = 0;
+                int phoneticDepth = 0;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        switch (reader.getLocalName()) {
+                            case "si" -> hash = 1125899906842597L;
+                            case "rPh" -> phoneticDepth++;
+                            case "t" -> {
+                                if (phoneticDepth == 0) {
+                                    String text = reader.getElementText();
+                                    for (int i = 0; i < text.length(); i++) {
+                                        hash = 31 * hash + text.charAt(i);
+                                    }
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        if ("si".equals(reader.getLocalName())) {
+                            hashes.add(hash);
+                        } else if ("rPh".equals(reader.getLocalName())) {
+                            phoneticDepth--;
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return hashes.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void forEachElement(ZipFile zip, String part, Predicate<String> localName,
+                                       XmlElementHandler handler) throws IOException, XMLStreamException {
+        ZipEntry entry = zip.getEntry(part);
+        if (entry == null) {
+            throw new ExcelOperationException("Workbook part not found: " + part);
+        }
+        try (InputStream inputStream = zip.getInputStream(entry)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && localName.test(reader.getLocalName())) {
+                        handler.handle(reader);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    @FunctionalInterface
+    private interface XmlElementHandler {
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * CRC32 and uncompressed size of a zip entry, as recorded in the central directory.
+     */
+    private record PartSignature(long crc, long size) {
+    }
+}
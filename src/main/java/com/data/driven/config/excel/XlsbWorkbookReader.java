@@ -0,0 +1,282 @@
+package com.data.driven.config.excel;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.profiling.DataLoadEvents;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.binary.XSSFBParseException;
+import org.apache.poi.xssf.binary.XSSFBParser;
+import org.apache.poi.xssf.binary.XSSFBRecordType;
+import org.apache.poi.xssf.binary.XSSFBSharedStringsTable;
+import org.apache.poi.xssf.binary.XSSFBUtils;
+import org.apache.poi.xssf.eventusermodel.XSSFBReader;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.util.LittleEndian;
+import org.xml.sax.SAXException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads Excel Binary ({@code .xlsb}) workbooks with POI's streaming {@link XSSFBReader}.
+ * <p>
+ * Sheet records are decoded straight into the same row maps {@link ExcelConfigManager#loadExcelDataAsList} builds
+ * for {@code .xlsx} files: the first row holds the headers, numbers become Integer, Long or BigDecimal, date-formatted
+ * numbers become Dates, strings are trimmed and blank cells are left out. Formula cells use the result cached in the
+ * file, since POI cannot evaluate formulas in binary workbooks.
+ */
+public class XlsbWorkbookReader implements AutoCloseable {
+
+    private static final Logger logger = LoggerUtils.getLogger(XlsbWorkbookReader.class);
+    private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
+
+    private final String filePath;
+    private final OPCPackage opcPackage;
+    private final XSSFBReader reader;
+    private final XSSFBSharedStringsTable sharedStrings;
+    private final List<Boolean> dateStyles;
+
+    public XlsbWorkbookReader(String filePath) {
+        DataLoadEvents.WorkbookOpen event = new DataLoadEvents.WorkbookOpen();
+        event.begin();
+        try {
+            this.filePath = filePath;
+            this.opcPackage = OPCPackage.open(filePath, PackageAccess.READ);
+            this.reader = new XSSFBReader(opcPackage);
+            this.sharedStrings = new XSSFBSharedStringsTable(opcPackage);
+            this.dateStyles = readDateStyles(reader);
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.byteCount = new File(filePath).length();
+                event.commit();
+            }
+        } catch (IOException | OpenXML4JException | SAXException error) {
+            ErrorHandler.logError(error, "XlsbWorkbookReader", "Failed to load binary workbook");
+            throw new ExcelOperationException("Failed to load workbook: " + filePath, error);
+        }
+    }
+
+    /**
+     * Checks whether a file should be read as an Excel Binary workbook, based on its extension.
+     *
+     * @param filePath The path to the workbook
+     * @return true for {@code .xlsb} files
+     */
+    public static boolean isBinaryWorkbook(String filePath) {
+        return filePath.toLowerCase(Locale.ROOT).endsWith(".xlsb");
+    }
+
+    /**
+     * Returns the names of all sheets in workbook order.
+     *
+     * @return The sheet names
+     */
+    public List<String> getSheetNames() {
+        try {
+            List<String> sheetNames = new ArrayList<>();
+            XSSFReader.SheetIterator sheets = reader.getSheetIterator();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                sheetNames.add(sheets.getSheetName());
+            }
+            return sheetNames;
+        } catch (IOException | OpenXML4JException error) {
+            ErrorHandler.logError(error, "getSheetNames", "Failed to list sheets of: {}", filePath);
+            throw new ExcelOperationException("Failed to list sheets of: " + filePath, error);
+        }
+    }
+
+    /**
+     * Reads a sheet into row maps, one per non-empty data row.
+     *
+     * @param sheetName The name of the sheet to read
+     * @return List of maps where each map represents a row of data
+     * @throws ExcelOperationException if the sheet is missing or cannot be parsed
+     */
+    public List<Map<String, Object>> readSheet(String sheetName) {
+        try {
+            XSSFReader.SheetIterator sheets = reader.getSheetIterator();
+            while (sheets.hasNext()) {
+                try (InputStream sheetData = sheets.next()) {
+                    if (sheets.getSheetName().equals(sheetName)) {
+                        SheetRecordHandler handler = new SheetRecordHandler(sheetData);
+                        handler.parse();
+                        return handler.finish();
+                    }
+                }
+            }
+            throw new ExcelOperationException("Sheet not found: " + sheetName);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "readSheet", "Failed to read sheet: {}", sheetName);
+            throw new ExcelOperationException("Failed to read sheet: " + sheetName, error);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Opened read-only, so there is nothing to save
+        opcPackage.revert();
+    }
+
+    /**
+     * Reads the cell styles table and records which styles apply a date number format.
+     */
+    private static List<Boolean> readDateStyles(XSSFBReader reader) throws IOException, OpenXML4JException {
+        Map<Integer, String> formats = new HashMap<>();
+        List<Integer> styleFormats = new ArrayList<>();
+        try (InputStream stylesData = reader.getStylesData()) {
+            new XSSFBParser(stylesData) {
+                private boolean inCellStyles;
+
+                @Override
+                public void handleRecord(int recordType, byte[] data) throws XSSFBParseException {
+                    switch (XSSFBRecordType.lookup(recordType)) {
+                        case BrtFmt -> {
+                            StringBuilder format = new StringBuilder();
+                            XSSFBUtils.readXLWideString(data, 2, format);
+                            formats.put(LittleEndian.getUShort(data, 0), format.toString());
+                        }
+                        case BrtBeginCellXFs -> inCellStyles = true;
+                        case BrtEndCellXFs -> inCellStyles = false;
+                        case BrtXf -> {
+                            if (inCellStyles) {
+                                styleFormats.add(LittleEndian.getUShort(data, 2));
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }.parse();
+        }
+
+        List<Boolean> dateStyles = new ArrayList<>(styleFormats.size());
+        for (int formatIndex : styleFormats) {
+            String formatString = formats.getOrDefault(formatIndex, BuiltinFormats.getBuiltinFormat(formatIndex));
+            dateStyles.add(formatString != null && DateUtil.isADateFormat(formatIndex, formatString));
+        }
+        return dateStyles;
+    }
+
+    private boolean isDateStyle(int styleIndex) {
+        return styleIndex < dateStyles.size() && dateStyles.get(styleIndex);
+    }
+
+    /**
+     * Collects one sheet's cell records row by row, turning the first row into headers and the rest into row maps.
+     */
+    private final class SheetRecordHandler extends XSSFBParser {
+        private final List<Map<String, Object>> rows = new ArrayList<>();
+        private final TreeMap<Integer, Object> currentCells = new TreeMap<>();
+        private List<String> headers;
+        private int currentRow = -1;
+
+        private SheetRecordHandler(InputStream sheetData) {
+            super(sheetData);
+        }
+
+        @Override
+        public void handleRecord(int recordType, byte[] data) throws XSSFBParseException {
+            XSSFBRecordType type = XSSFBRecordType.lookup(recordType);
+            if (type == XSSFBRecordType.BrtRowHdr) {
+                finishRow();
+                currentRow = LittleEndian.getInt(data, 0);
+                return;
+            }
+
+            Object value = switch (type) {
+                case BrtCellRk -> numericValue(data, rkNumber(LittleEndian.getInt(data, 8)));
+                case BrtCellReal, BrtFmlaNum -> numericValue(data, LittleEndian.getDouble(data, 8));
+                case BrtCellBool, BrtFmlaBool -> data[8] != 0;
+                case BrtCellSt, BrtFmlaString -> stringValue(readWideString(data, 8));
+                // A rich string starts with a flags byte before the text
+                case BrtCellRString -> stringValue(readWideString(data, 9));
+                case BrtCellIsst -> stringValue(sharedStrings.getItemAt(LittleEndian.getInt(data, 8)).getString());
+                default -> null;
+            };
+            if (value != null) {
+                currentCells.put(LittleEndian.getInt(data, 0), value);
+            }
+        }
+
+        private List<Map<String, Object>> finish() {
+            finishRow();
+            if (headers == null || rows.isEmpty()) {
+                logger.warn("Sheet is empty or contains only headers");
+                return new ArrayList<>();
+            }
+            return rows;
+        }
+
+        private void finishRow() {
+            if (currentRow < 0) {
+                return;
+            }
+            if (headers == null) {
+                if (currentRow != 0 || !currentCells.containsKey(0)) {
+                    throw new ExcelOperationException("Invalid header row");
+                }
+                headers = new ArrayList<>();
+                currentCells.values().forEach(value -> headers.add(headerText(value)));
+            } else if (!currentCells.isEmpty()) {
+                Map<String, Object> rowData = new HashMap<>();
+                currentCells.forEach((column, value) -> {
+                    if (column < headers.size()) {
+                        rowData.put(headers.get(column), value);
+                    }
+                });
+                if (!rowData.isEmpty()) {
+                    rows.add(rowData);
+                }
+            }
+            currentCells.clear();
+        }
+
+        private Object numericValue(byte[] data, double value) {
+            int styleIndex = (data[4] & 0xFF) | (data[5] & 0xFF) << 8 | (data[6] & 0xFF) << 16;
+            return isDateStyle(styleIndex) ? DateUtil.getJavaDate(value) : CellReader.convertToAppropriateNumber(value);
+        }
+    }
+
+    private static String headerText(Object value) {
+        if (value instanceof Date date) {
+            return new SimpleDateFormat(DEFAULT_DATE_FORMAT).format(date);
+        }
+        return String.valueOf(value);
+    }
+
+    private static String stringValue(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String readWideString(byte[] data, int offset) throws XSSFBParseException {
+        StringBuilder value = new StringBuilder();
+        XSSFBUtils.readXLWideString(data, offset, value);
+        return value.toString();
+    }
+
+    /**
+     * Decodes an RK number: either a 30-bit integer or the high 30 bits of a double, optionally scaled by 1/100.
+     */
+    private static double rkNumber(int rk) {
+        double value = (rk & 0x02) != 0
+                ? rk >> 2
+                : Double.longBitsToDouble(((long) (rk & 0xFFFFFFFC)) << 32);
+        return (rk & 0x01) != 0 ? value / 100 : value;
+    }
+}
@@ -1,5 +1,6 @@
 package com.data.driven.config.jackson;
 
+import com.data.driven.utils.storage.SharedDataCache;
 
 public class JsonDataBuilder {
 
@@ -7,6 +8,8 @@ public class JsonDataBuilder {
     private boolean cacheEnabled = false; // Default value
     private String defaultSection;
     private String schemaPath;
+    private JsonDataFormat binaryFormat;
+    private SharedDataCache sharedCache;
 
     // No-argument constructor
     public JsonDataBuilder() {}
@@ -55,6 +58,29 @@ public class JsonDataBuilder {
         return this;
     }
 
+    /**
+     * Reads the data through a binary copy of the JSON file, converting it whenever the source is newer.
+     *
+     * @param binaryFormat The binary format to read (Smile or CBOR), or null to read the file as is
+     * @return This builder instance
+     */
+    public JsonDataBuilder setBinaryFormat(JsonDataFormat binaryFormat) {
+        this.binaryFormat = binaryFormat;
+        return this;
+    }
+
+    /**
+     * Parses the file once per machine: the first process stores the parsed tree in the shared cache as Smile
+     * and other processes decode that copy instead of parsing the source.
+     *
+     * @param sharedCache The cross-process cache, or null to always parse the file
+     * @return This builder instance
+     */
+    public JsonDataBuilder setSharedCache(SharedDataCache sharedCache) {
+        this.sharedCache = sharedCache;
+        return this;
+    }
+
     public String getFilePath() {
         return filePath;
     }
@@ -71,6 +97,14 @@ public class JsonDataBuilder {
         return schemaPath;
     }
 
+    public JsonDataFormat getBinaryFormat() {
+        return binaryFormat;
+    }
+
+    public SharedDataCache getSharedCache() {
+        return sharedCache;
+    }
+
 
     /**
      * Builds a {@link JsonDataReader} instance with the configured parameters.
@@ -2,25 +2,56 @@ package com.data.driven.config.jackson;
 
 import com.data.driven.utils.ErrorHandler;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class JsonDataConfig {
 
     // Thread-safe ObjectMapper instance
-    private static final ObjectMapper objectMapper = createObjectMapper();
+    private static final ObjectMapper objectMapper = createObjectMapper(new JsonFactory());
+    private static final ObjectMapper smileMapper = createObjectMapper(new SmileFactory());
+    private static final ObjectMapper cborMapper = createObjectMapper(CBORFactory.builder()
+            .enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+            .build());
+
+    // Readers and writers are immutable and thread-safe; caching them skips per-call type resolution
+    private static final Map<Class<?>, ObjectReader> readerCache = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writerCache = new ConcurrentHashMap<>();
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
 
     private JsonDataConfig() {
     }
 
-    private static ObjectMapper createObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+    private static ObjectMapper createObjectMapper(JsonFactory factory) {
+        // Share parser/generator buffers across threads, including virtual threads, instead of per-thread pools
+        factory.setRecyclerPool(JsonRecyclerPools.sharedConcurrentDequePool());
+        // Streams passed in by callers stay open; callers own their lifecycle
+        factory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+        ObjectMapper mapper = new ObjectMapper(factory);
         mapper.registerModule(new JavaTimeModule());
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
@@ -32,6 +63,45 @@ public final class JsonDataConfig {
         return objectMapper;
     }
 
+    /**
+     * Returns the shared ObjectMapper for the given data format.
+     * All mappers carry the same configuration, so data reads identically regardless of encoding.
+     *
+     * @param format The data format to read or write
+     * @return The ObjectMapper bound to the format's factory
+     */
+    public static ObjectMapper getObjectMapper(JsonDataFormat format) {
+        return switch (format) {
+            case JSON -> objectMapper;
+            case SMILE -> smileMapper;
+            case CBOR -> cborMapper;
+        };
+    }
+
+    /**
+     * Returns a cached ObjectReader bound to the given type.
+     *
+     * @param type The type to read
+     * @return The shared ObjectReader for the type
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return readerCache.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * Returns a cached ObjectWriter bound to the given type.
+     *
+     * @param type The type to write
+     * @return The shared ObjectWriter for the type
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        return writerCache.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    private static ObjectWriter writerForValue(Object value) {
+        return value == null ? objectMapper.writer() : writerFor(value.getClass());
+    }
+
     /**
      * Serializes the given object to a JSON string.
      *
@@ -40,7 +110,7 @@ public final class JsonDataConfig {
      */
     public static String serialize(Object value) {
         try {
-            return objectMapper.writeValueAsString(value);
+            return writerForValue(value).writeValueAsString(value);
         } catch (JsonProcessingException error) {
             ErrorHandler.logError(error, "serialize", "Failed to serialize object to JSON");
             throw new RuntimeException("Failed to serialize object to JSON", error);
@@ -55,7 +125,7 @@ public final class JsonDataConfig {
      */
     public static String serializePretty(Object value) {
         try {
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(value);
+            return prettyWriter.writeValueAsString(value);
         } catch (JsonProcessingException error) {
             ErrorHandler.logError(error, "serializePretty", "Failed to serialize object to pretty-printed JSON");
             throw new RuntimeException("Failed to serialize object to pretty-printed JSON", error);
@@ -71,7 +141,7 @@ public final class JsonDataConfig {
      */
     public static <T> T deserialize(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return readerFor(clazz).readValue(json);
         } catch (JsonProcessingException error) {
             ErrorHandler.logError(error, "deserialize", "Failed to deserialize JSON to object");
             throw new RuntimeException("Failed to deserialize JSON to object", error);
@@ -88,10 +158,121 @@ public final class JsonDataConfig {
      */
     public static <T> T deserialize(File file, Class<T> clazz) throws IOException {
         try {
-            return objectMapper.readValue(file, clazz);
+            return readerFor(clazz).readValue(file);
         } catch (JsonProcessingException error) {
             ErrorHandler.logError(error, "deserialize", "Failed to deserialize JSON file to object");
             throw new RuntimeException("Failed to deserialize JSON file to object", error);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Serializes the given object directly to an output stream without building an intermediate string.
+     * The stream is flushed but not closed.
+     *
+     * @param value        The object to serialize
+     * @param outputStream The stream to write to
+     */
+    public static void serialize(Object value, OutputStream outputStream) {
+        try {
+            writerForValue(value).writeValue(outputStream, value);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "serialize", "Failed to serialize object to JSON stream");
+            throw new RuntimeException("Failed to serialize object to JSON stream", error);
+        }
+    }
+
+    /**
+     * Serializes the given object directly to a file, replacing any existing content.
+     *
+     * @param value The object to serialize
+     * @param path  The file to write to
+     */
+    public static void serialize(Object value, Path path) {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            writerForValue(value).writeValue(outputStream, value);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "serialize", "Failed to serialize object to JSON file: " + path);
+            throw new RuntimeException("Failed to serialize object to JSON file: " + path, error);
+        }
+    }
+
+    /**
+     * Deserializes JSON from an input stream to the given class type. The stream is not closed.
+     *
+     * @param inputStream The stream to read from
+     * @param clazz       The class type to deserialize to
+     * @return The deserialized object of the given class type
+     */
+    public static <T> T deserialize(InputStream inputStream, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValue(inputStream);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "deserialize", "Failed to deserialize JSON stream to object");
+            throw new RuntimeException("Failed to deserialize JSON stream to object", error);
+        }
+    }
+
+    /**
+     * Deserializes a JSON file to the given class type.
+     *
+     * @param path  The file to read from
+     * @param clazz The class type to deserialize to
+     * @return The deserialized object of the given class type
+     */
+    public static <T> T deserialize(Path path, Class<T> clazz) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return readerFor(clazz).readValue(inputStream);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "deserialize", "Failed to deserialize JSON file to object: " + path);
+            throw new RuntimeException("Failed to deserialize JSON file to object: " + path, error);
+        }
+    }
+
+    /**
+     * Iterates the elements of a top-level JSON array (or a sequence of root values) one at a time,
+     * so large arrays never have to be held in memory as a whole. The iterator must be closed by the caller.
+     *
+     * @param inputStream The stream to read from
+     * @param clazz       The element type
+     * @return An iterator decoding one element per {@code next()}
+     */
+    public static <T> MappingIterator<T> iterate(InputStream inputStream, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValues(inputStream);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "iterate", "Failed to open JSON stream for iteration");
+            throw new RuntimeException("Failed to open JSON stream for iteration", error);
+        }
+    }
+
+    /**
+     * Iterates the elements of a top-level JSON array in a file one at a time.
+     * Closing the returned iterator closes the file.
+     *
+     * @param path  The file to read from
+     * @param clazz The element type
+     * @return An iterator decoding one element per {@code next()}
+     */
+    public static <T> MappingIterator<T> iterate(Path path, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValues(path.toFile());
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "iterate", "Failed to open JSON file for iteration: " + path);
+            throw new RuntimeException("Failed to open JSON file for iteration: " + path, error);
+        }
+    }
+
+    /**
+     * Creates a streaming generator for JSON Lines output. Root values are not separated by the default space,
+     * so callers write one value and then a {@code '\n'} per record. The stream is not closed with the generator.
+     *
+     * @param outputStream The stream to write to
+     * @return A generator bound to the shared mapper
+     * @throws IOException If the generator cannot be created
+     */
+    public static JsonGenerator createJsonLinesGenerator(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+}
@@ -0,0 +1,126 @@
+package com.data.driven.config.jackson;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * Converts JSON data files to a binary encoding (Smile or CBOR) and keeps the binary copy in sync with its source.
+ */
+public class JsonDataConverter {
+
+    private static final Logger logger = LoggerUtils.getLogger(JsonDataConverter.class);
+
+    private JsonDataConverter() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    /**
+     * Converts a JSON data file to the given format, writing it next to the source with the format's extension.
+     *
+     * @param jsonFilePath Path to the source JSON file
+     * @param targetFormat The format to convert to
+     * @return The path of the converted file
+     */
+    public static Path convert(String jsonFilePath, JsonDataFormat targetFormat) {
+        return convert(Path.of(jsonFilePath), resolveTargetPath(Path.of(jsonFilePath), targetFormat), targetFormat);
+    }
+
+    /**
+     * Converts a JSON data file to the given format at the given target path.
+     * The file is written to a temporary sibling first and then moved into place, so readers never see a partial file.
+     *
+     * @param source       Path to the source JSON file
+     * @param target       Path of the converted file
+     * @param targetFormat The format to convert to
+     * @return The path of the converted file
+     */
+    public static Path convert(Path source, Path target, JsonDataFormat targetFormat) {
+        try {
+            JsonDataFormat sourceFormat = JsonDataFormat.detect(source.toString());
+            JsonNode data = JsonDataConfig.getObjectMapper(sourceFormat).readTree(source.toFile());
+
+            Path tempFile = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                    JsonDataConfig.getObjectMapper(targetFormat).writeValue(outputStream, data);
+                }
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // Only left behind if writing or moving failed
+                Files.deleteIfExists(tempFile);
+            }
+
+            logger.info("Converted '{}' ({} bytes) to {} '{}' ({} bytes)",
+                    source, Files.size(source), targetFormat, target, Files.size(target));
+            return target;
+        } catch (IOException error) {
+            String errorMsg = String.format("Failed to convert %s to %s", source, targetFormat);
+            ErrorHandler.logError(error, "convert", errorMsg);
+            throw new JsonDataReader.JsonDataReaderException(errorMsg, error);
+        }
+    }
+
+    /**
+     * Returns an up-to-date binary copy of a JSON data file, converting only when the copy is missing
+     * or not newer than its source. A copy with the same timestamp is converted again, since the source may
+     * have been rewritten within the file system's timestamp resolution after the copy was made.
+     *
+     * @param jsonFilePath Path to the source JSON file
+     * @param targetFormat The binary format to keep in sync
+     * @return The path of the binary copy
+     */
+    public static Path syncBinary(String jsonFilePath, JsonDataFormat targetFormat) {
+        Path source = Path.of(jsonFilePath);
+        Path target = resolveTargetPath(source, targetFormat);
+        try {
+            if (Files.exists(target)
+                    && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) > 0) {
+                logger.debug("Binary data file '{}' is up to date", target);
+                return target;
+            }
+            return convert(source, target, targetFormat);
+        } catch (IOException error) {
+            String errorMsg = String.format("Failed to check binary copy of %s", source);
+            ErrorHandler.logError(error, "syncBinary", errorMsg);
+            throw new JsonDataReader.JsonDataReaderException(errorMsg, error);
+        }
+    }
+
+    /**
+     * Resolves the binary file path for a source, replacing its extension with the target format's extension.
+     */
+    public static Path resolveTargetPath(Path source, JsonDataFormat targetFormat) {
+        String fileName = source.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return source.resolveSibling(baseName + targetFormat.getExtension());
+    }
+
+    /**
+     * Command-line entry point: {@code JsonDataConverter <smile|cbor> <file.json>...}.
+     * Each file is converted only when its binary copy is stale.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: JsonDataConverter <smile|cbor> <file.json>...");
+            System.exit(1);
+        }
+
+        JsonDataFormat targetFormat = JsonDataFormat.valueOf(args[0].toUpperCase(Locale.ROOT));
+        if (targetFormat == JsonDataFormat.JSON) {
+            throw new IllegalArgumentException("Target format must be a binary format: smile or cbor");
+        }
+        for (int i = 1; i < args.length; i++) {
+            System.out.println(syncBinary(args[i], targetFormat));
+        }
+    }
+}
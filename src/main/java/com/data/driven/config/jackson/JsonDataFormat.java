@@ -0,0 +1,84 @@
+package com.data.driven.config.jackson;
+
+import com.data.driven.utils.ErrorHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Encodings supported for JSON test data files.
+ * Binary formats (Smile, CBOR) share the JSON data model, so they can be read through the same tree API.
+ */
+public enum JsonDataFormat {
+
+    JSON(".json"),
+    SMILE(".smile", ".sml"),
+    CBOR(".cbor");
+
+    // Smile documents start with ":)\n"
+    private static final byte[] SMILE_HEADER = {0x3A, 0x29, 0x0A};
+    // CBOR self-describe tag 55799, written by the converter as a type header
+    private static final byte[] CBOR_HEADER = {(byte) 0xD9, (byte) 0xD9, (byte) 0xF7};
+
+    private final String[] extensions;
+
+    JsonDataFormat(String... extensions) {
+        this.extensions = extensions;
+    }
+
+    public String getExtension() {
+        return extensions[0];
+    }
+
+    /**
+     * Resolves the format of a data file, first by extension and then by inspecting its leading bytes.
+     *
+     * @param filePath The path to the data file
+     * @return The detected format, defaulting to {@link #JSON}
+     */
+    public static JsonDataFormat detect(String filePath) {
+        JsonDataFormat byExtension = fromExtension(filePath);
+        if (byExtension != null) {
+            return byExtension;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(Path.of(filePath))) {
+            return fromHeader(inputStream.readNBytes(SMILE_HEADER.length));
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "detect", "Failed to read header of data file: " + filePath);
+            throw new JsonDataReader.JsonDataReaderException("Failed to read header of data file: " + filePath, error);
+        }
+    }
+
+    /**
+     * Resolves the format from the file extension only.
+     *
+     * @param filePath The path to the data file
+     * @return The matching format, or null if the extension is not recognised
+     */
+    public static JsonDataFormat fromExtension(String filePath) {
+        String lowerCasePath = filePath.toLowerCase(Locale.ROOT);
+        for (JsonDataFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (lowerCasePath.endsWith(extension)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static JsonDataFormat fromHeader(byte[] header) {
+        if (Arrays.equals(header, SMILE_HEADER)) {
+            return SMILE;
+        }
+        if (Arrays.equals(header, CBOR_HEADER)) {
+            return CBOR;
+        }
+        return JSON;
+    }
+}
@@ -2,13 +2,16 @@ package com.data.driven.config.jackson;
 
 import com.data.driven.utils.ErrorHandler;
 import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.storage.SharedDataCache;
 import org.apache.logging.log4j.Logger;
 
 public class JsonDataLoader {
     private static final Logger logger = LoggerUtils.getLogger(JsonDataLoader.class);
 
-    private static JsonDataReader jsonDataReaderInstance;
-    private static boolean isInitialized = false;
+    /**
+     * Name under which the suite-wide dataset is kept in {@link JsonDataRegistry}.
+     */
+    public static final String DEFAULT_DATASET = "default";
 
     /**
      * Loads all JSON feature data with schema validation.
@@ -16,20 +19,19 @@ public class JsonDataLoader {
      * @param jsonDataFilePath Path to the JSON data file.
      * @param schemaFilePath   Path to the JSON schema file for validation.
      */
-    public static synchronized void initializeJsonData(String jsonDataFilePath, String schemaFilePath) {
-        if (isInitialized) {
+    public static void initializeJsonData(String jsonDataFilePath, String schemaFilePath) {
+        if (JsonDataRegistry.contains(DEFAULT_DATASET)) {
             logger.warn("JSON data already loaded, ignoring new load request");
             return;
         }
 
         try {
-            jsonDataReaderInstance = JsonDataReader.builder()
+            JsonDataRegistry.register(DEFAULT_DATASET, JsonDataReader.builder()
                     .setFilePath(jsonDataFilePath)
                     .setCacheEnabled(true)
                     .setSchemaPath(schemaFilePath)
-                    .build();
+                    .setSharedCache(SharedDataCache.configured().orElse(null)));
 
-            isInitialized = true;
             logger.info("Successfully loaded JSON feature data from '{}'", jsonDataFilePath);
         } catch (Exception error) {
             ErrorHandler.logError(error, "initializeJsonData", "Failed to load JSON data");
@@ -62,10 +64,8 @@ public class JsonDataLoader {
      */
     public static JsonDataReader getJsonReaderInstance() {
         try {
-            if (!isInitialized || jsonDataReaderInstance == null) {
-                throw new IllegalStateException("JSON data not initialized. Call loadJsonData() first.");
-            }
-            return jsonDataReaderInstance;
+            return JsonDataRegistry.find(DEFAULT_DATASET)
+                    .orElseThrow(() -> new IllegalStateException("JSON data not initialized. Call loadJsonData() first."));
         } catch (IllegalStateException error) {
             ErrorHandler.logError(error, "getJsonReaderInstance", "Failed to retrieve JSON reader instance");
             throw new JsonDataLoaderException("Failed to retrieve JSON reader instance", error);
@@ -79,26 +79,35 @@ public class JsonDataLoader {
      */
     public static boolean isJsonDataLoaded() {
         try {
-            return isInitialized && jsonDataReaderInstance != null;
+            return JsonDataRegistry.contains(DEFAULT_DATASET);
         } catch (Exception error) {
             ErrorHandler.logError(error, "isJsonDataLoaded", "Failed to check if JSON data is loaded");
             throw new JsonDataLoaderException("Failed to check if JSON data is loaded", error);
         }
     }
 
+    /**
+     * Re-reads the JSON feature data and atomically replaces the loaded snapshot.
+     * Unlike {@link #resetJsonData()} followed by re-initialization, the data stays available throughout,
+     * and a file that fails to parse or validate leaves the current snapshot in place.
+     *
+     * @return The newly loaded JsonDataReader instance.
+     */
+    public static JsonDataReader reloadJsonData() {
+        try {
+            return JsonDataRegistry.reload(DEFAULT_DATASET);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "reloadJsonData", "Failed to reload JSON data");
+            throw new JsonDataLoaderException("Failed to reload JSON data", error);
+        }
+    }
+
     /**
      * Resets the loaded JSON data and cleans up resources.
      */
-    public static synchronized void resetJsonData() {
+    public static void resetJsonData() {
         try {
-            if (isInitialized && jsonDataReaderInstance != null) {
-                try {
-                    jsonDataReaderInstance.close();
-                } catch (Exception e) {
-                    logger.warn("Error while closing JsonDataReader: {}", e.getMessage());
-                }
-                jsonDataReaderInstance = null;
-                isInitialized = false;
+            if (JsonDataRegistry.remove(DEFAULT_DATASET)) {
                 logger.info("JSON data has been reset");
             }
         } catch (Exception error) {
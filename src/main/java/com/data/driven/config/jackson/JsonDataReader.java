@@ -2,32 +2,80 @@ package com.data.driven.config.jackson;
 
 import com.data.driven.utils.ErrorHandler;
 import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.metrics.DataCacheMetrics;
+import com.data.driven.utils.profiling.DataLoadEvents;
+import com.data.driven.utils.query.RowSource;
+import com.data.driven.utils.sampling.RowSampler;
+import com.data.driven.utils.storage.SharedDataCache;
+import com.data.driven.utils.storage.SpilledTable;
+import com.data.driven.utils.storage.SpillingRowBuffer;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.JsonNodePath;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.PathType;
 import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
 
 /**
  * Reads and manages JSON data with support for schema validation, caching, and thread-safe operations.
+ * <p>
+ * With a {@link SpillingRowBuffer} budget set ({@code -Ddata.spill.budget}), the file is parsed one top-level section
+ * at a time, and an array section that outgrows the budget is kept on disk as a {@link SpilledTable} of the elements'
+ * JSON text. Array access then reads elements from the segment files, and they are deleted when the reader is closed.
+ * Elements of a spilled section are checked against the section's {@code items} schema as they are streamed, and its
+ * {@code minItems}/{@code maxItems} against the number of spilled elements.
+ * <p>
+ * With a {@link SharedDataCache}, each top-level section is stored in the cache entry on its own and decoded the
+ * first time it is read, so a fork only holds the sections it uses on its heap. Schema validation reads the whole
+ * document and so decodes every section.
  */
 public class JsonDataReader implements AutoCloseable {
     private static final Logger logger = LoggerUtils.getLogger(JsonDataReader.class);
     private static final ObjectMapper objectMapper = JsonDataConfig.getObjectMapper();
-
-    // JSON data and schema
+    private static final String SPILLED_ELEMENT = "json";
+    // Parsed trees retain several times the size of their source text
+    private static final int TREE_BYTES_PER_INPUT_BYTE = 4;
+    // Array keywords of a spilled section that cannot be checked against the empty array left in the tree
+    private static final List<String> SPILLED_ARRAY_KEYWORDS =
+            List.of("items", "minItems", "maxItems", "uniqueItems", "contains");
+
+    // JSON data and schema; jsonData is null when the sections are read from the shared cache instead
     private final JsonNode jsonData;
+    private final SharedJsonSections sharedSections;
+    // Array sections that exceeded the spill budget; jsonData holds an empty array in their place
+    private final Map<String, SpilledTable> spilledSections = new ConcurrentHashMap<>();
+    // Errors found in the elements of spilled sections while they were streamed
+    private final List<ValidationMessage> spilledElementErrors = new ArrayList<>();
     private final JsonSchema schema;
     private final String defaultSection;
-
-    // Thread-local cache
-    private final ThreadLocal<Map<String, Map<String, Object>>> cache;
+    private final String filePath;
+    private final SharedDataCache sharedCache;
+
+    // Thread-local cache; every thread's map is also tracked so metrics and invalidation can reach all of them
+    private final ThreadLocal<Map<String, Map<String, Optional<Object>>>> cache;
+    private final Queue<Map<String, Map<String, Optional<Object>>>> threadCaches = new ConcurrentLinkedQueue<>();
+    private final DataCacheMetrics cacheMetrics;
+    private final DataCacheMetrics.CacheControl cacheControl;
     private final boolean cacheEnabled;
 
     // Constructor that accepts a JsonDataBuilder
@@ -36,21 +84,33 @@ public class JsonDataReader implements AutoCloseable {
             throw new IllegalArgumentException("File path cannot be null or empty");
         }
 
-        this.jsonData = loadJson(builder.getFilePath());
+        this.filePath = resolveDataPath(builder);
+        this.sharedCache = builder.getSharedCache();
+        // The schema is loaded first so that spilled sections can be validated while they are streamed
+        boolean hasSchema = builder.getSchemaPath() != null && !builder.getSchemaPath().isEmpty();
+        this.schema = hasSchema ? loadSchema(builder.getSchemaPath()) : null;
+        this.sharedSections = sharedCache != null ? loadShared(filePath) : null;
+        this.jsonData = sharedSections == null ? loadJson(filePath) : null;
         this.cacheEnabled = builder.isCacheEnabled();
         this.defaultSection = builder.getDefaultSection();
 
         // Initialize thread-local cache if enabled
-        this.cache = cacheEnabled ? ThreadLocal.withInitial(ConcurrentHashMap::new) : null;
+        this.cache = cacheEnabled ? ThreadLocal.withInitial(this::createThreadCache) : null;
+        this.cacheControl = cacheEnabled ? new ReaderCacheControl() : null;
+        this.cacheMetrics = cacheEnabled ? DataCacheMetrics.register(metricsName(), cacheControl) : null;
 
-        if (builder.getSchemaPath() != null && !builder.getSchemaPath().isEmpty()) {
-            this.schema = loadSchema(builder.getSchemaPath());
-            validateSchema();
-        } else {
-            this.schema = null;
+        if (hasSchema) {
+            validateSchema(builder.getSchemaPath());
         }
     }
 
+    /**
+     * Returns the path of the file the data was read from, which is the binary copy when a binary format is set.
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+
     // Convenience methods for required values
     public String getString(String section, String key) {
         return getData(section, key, String.class)
@@ -114,18 +174,144 @@ public class JsonDataReader implements AutoCloseable {
         return getAllData(section, Boolean.class);
     }
 
+    /**
+     * Walks an array section lazily, converting one element per {@code next()} instead of building the full list.
+     *
+     * @param section The array section to walk
+     * @param type    The type each element is converted to
+     * @return An iterator over the converted elements, empty if the section is not an array
+     */
+    public <T> Iterator<T> iterateData(String section, Class<T> type) {
+        Iterator<JsonNode> elements = sectionElements(section);
+        if (elements == null) {
+            return Collections.emptyIterator();
+        }
+
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return elements.hasNext();
+            }
+
+            @Override
+            public T next() {
+                JsonNode item = elements.next();
+                try {
+                    return objectMapper.convertValue(item, type);
+                } catch (IllegalArgumentException error) {
+                    String errorMsg = String.format("Failed to convert element %d of section: %s", index, section);
+                    ErrorHandler.logError(error, "iterateData", errorMsg);
+                    throw new JsonDataReaderException(errorMsg, error);
+                } finally {
+                    index++;
+                }
+            }
+        };
+    }
+
+    /**
+     * Samples an array section, converting only the elements the sampler keeps. A stratified sampler reads its
+     * column from each object element, or the element itself for arrays of scalars.
+     *
+     * @param section The array section to sample
+     * @param type    The type each kept element is converted to
+     * @param sampler The sampling mode
+     * @return An iterator over the sampled elements in section order, empty if the section is not an array
+     */
+    public <T> Iterator<T> sampleData(String section, Class<T> type, RowSampler sampler) {
+        Iterator<JsonNode> elements = sectionElements(section);
+        if (elements == null) {
+            return Collections.emptyIterator();
+        }
+        String column = sampler.getStratifyColumn();
+        return sampler.sample(elements,
+                item -> scalarValue(item.isObject() ? item.get(column) : item),
+                item -> {
+                    try {
+                        return objectMapper.convertValue(item, type);
+                    } catch (IllegalArgumentException error) {
+                        String errorMsg = String.format("Failed to convert sampled element of section: %s", section);
+                        ErrorHandler.logError(error, "sampleData", errorMsg);
+                        throw new JsonDataReaderException(errorMsg, error);
+                    }
+                });
+    }
+
+    /**
+     * Exposes an array section to queries without copying it. Object elements are read by their fields; scalar
+     * elements appear as a single column named {@code value}. Elements of a spilled section are read from the
+     * segment files on access, keeping the last one decoded so a row's columns are parsed once.
+     *
+     * @param section The array section to expose
+     * @return The section's elements as rows, or no rows if the section is not an array
+     */
+    public RowSource rowSource(String section) {
+        SpilledTable spilled = spilledSections.get(section);
+        JsonNode node = sectionNode(section);
+        int rowCount = spilled != null ? spilled.getRowCount() : node.isArray() ? node.size() : 0;
+        return new RowSource() {
+            private int decodedIndex = -1;
+            private JsonNode decoded;
+
+            @Override
+            public int rowCount() {
+                return rowCount;
+            }
+
+            @Override
+            public Object value(int row, String column) {
+                JsonNode item = element(row);
+                JsonNode value = item.isObject() ? item.get(column) : "value".equals(column) ? item : null;
+                return value == null ? null : objectMapper.convertValue(value, Object.class);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Map<String, Object> row(int row) {
+                JsonNode item = element(row);
+                return item.isObject() ? objectMapper.convertValue(item, Map.class)
+                        : Collections.singletonMap("value", objectMapper.convertValue(item, Object.class));
+            }
+
+            private JsonNode element(int row) {
+                if (spilled == null) {
+                    return node.get(row);
+                }
+                if (row != decodedIndex) {
+                    decoded = spilledElement(spilled, section, row);
+                    decodedIndex = row;
+                }
+                return decoded;
+            }
+        };
+    }
+
+    private static Object scalarValue(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return node.isTextual() ? node.textValue() : node.toString();
+    }
+
     // Generic method to get data by index
     private <T> Optional<T> getDataByIndex(String section, int index, Class<T> type) {
         try {
-            JsonNode node = jsonData.path(section);
-            if (node.isArray() && index >= 0 && index < node.size()) {
-                JsonNode item = node.get(index);
+            JsonNode item = sectionElement(section, index);
+            if (item != null) {
                 return Optional.ofNullable(objectMapper.convertValue(item, type));
             }
             return Optional.empty();
         } catch (Exception error) {
             ErrorHandler.logError(error, "getDataByIndex",
-                    String.format("Failed to retrieve data for section: %s, index: %d", section, index));
+                    "Failed to retrieve data for section: {}, index: {}", section, index);
             return Optional.empty();
         }
     }
@@ -134,22 +320,79 @@ public class JsonDataReader implements AutoCloseable {
     private <T> List<T> getAllData(String section, Class<T> type) {
         List<T> values = new ArrayList<>();
         try {
-            JsonNode node = jsonData.path(section);
-            if (node.isArray()) {
-                for (JsonNode item : node) {
-                    values.add(objectMapper.convertValue(item, type));
-                }
+            Iterator<JsonNode> elements = sectionElements(section);
+            while (elements != null && elements.hasNext()) {
+                values.add(objectMapper.convertValue(elements.next(), type));
             }
         } catch (Exception error) {
             ErrorHandler.logError(error, "getAllData",
-                    String.format("Failed to retrieve all data from section: %s", section));
+                    "Failed to retrieve all data from section: {}", section);
         }
         return values;
     }
 
+    /**
+     * Returns the elements of an array section, read from its segment files if it was spilled, or null if the
+     * section is not an array.
+     */
+    private Iterator<JsonNode> sectionElements(String section) {
+        SpilledTable spilled = spilledSections.get(section);
+        if (spilled != null) {
+            return IntStream.range(0, spilled.getRowCount())
+                    .mapToObj(index -> spilledElement(spilled, section, index))
+                    .iterator();
+        }
+        JsonNode node = sectionNode(section);
+        return node.isArray() ? node.elements() : null;
+    }
+
+    /**
+     * Returns one element of an array section, or null if the section is not an array or has no such element.
+     */
+    private JsonNode sectionElement(String section, int index) {
+        SpilledTable spilled = spilledSections.get(section);
+        if (spilled != null) {
+            return index >= 0 && index < spilled.getRowCount() ? spilledElement(spilled, section, index) : null;
+        }
+        JsonNode node = sectionNode(section);
+        return node.isArray() && index >= 0 && index < node.size() ? node.get(index) : null;
+    }
+
+    private static JsonNode spilledElement(SpilledTable spilled, String section, int index) {
+        try {
+            return objectMapper.readTree((String) spilled.getValue(index, SPILLED_ELEMENT));
+        } catch (JsonProcessingException error) {
+            String errorMsg = String.format("Failed to read spilled element %d of section: %s", index, section);
+            ErrorHandler.logError(error, "spilledElement", errorMsg);
+            throw new JsonDataReaderException(errorMsg, error);
+        }
+    }
+
+    private String resolveDataPath(JsonDataBuilder builder) {
+        JsonDataFormat binaryFormat = builder.getBinaryFormat();
+        if (binaryFormat == null || binaryFormat == JsonDataFormat.JSON) {
+            return builder.getFilePath();
+        }
+        return JsonDataConverter.syncBinary(builder.getFilePath(), binaryFormat).toString();
+    }
+
     private JsonNode loadJson(String filePath) {
         try {
-            return objectMapper.readTree(new File(filePath));
+            JsonDataFormat format = JsonDataFormat.detect(filePath);
+            logger.debug("Reading data file '{}' as {}", filePath, format);
+
+            DataLoadEvents.JsonParse event = new DataLoadEvents.JsonParse();
+            event.begin();
+            File file = new File(filePath);
+            JsonNode tree = SpillingRowBuffer.configuredBudget() > 0 ? loadSpilling(file, format)
+                    : JsonDataConfig.getObjectMapper(format).readTree(file);
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.format = format.name();
+                event.byteCount = file.length();
+                event.commit();
+            }
+            return tree;
         } catch (IOException error) {
             String errorMsg = String.format("Failed to load JSON file: %s", filePath);
             ErrorHandler.logError(error, "loadJson", errorMsg);
@@ -157,10 +400,135 @@ public class JsonDataReader implements AutoCloseable {
         }
     }
 
+    /**
+     * Parses the file one top-level section at a time, passing the elements of each array section through a
+     * {@link SpillingRowBuffer}. Sections that outgrow the budget are spilled and left as empty arrays in the tree.
+     */
+    private JsonNode loadSpilling(File file, JsonDataFormat format) throws IOException {
+        ObjectMapper mapper = JsonDataConfig.getObjectMapper(format);
+        try (JsonParser parser = mapper.createParser(file)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                // Only the sections of a top-level object can be spilled
+                return mapper.readTree(file);
+            }
+            ObjectNode root = mapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                root.set(section, parser.nextToken() == JsonToken.START_ARRAY
+                        ? readArraySection(parser, mapper, section)
+                        : mapper.readTree(parser));
+            }
+            return root;
+        }
+    }
+
+    private ArrayNode readArraySection(JsonParser parser, ObjectMapper mapper, String section) throws IOException {
+        SpillingRowBuffer buffer = SpillingRowBuffer.configured(filePath + "#" + section);
+        JsonSchema itemSchema = itemSchema(section);
+        ExecutionContext context = itemSchema != null ? itemSchema.createExecutionContext() : null;
+        // Only kept if the section spills; otherwise the elements are validated with the rest of the tree
+        List<ValidationMessage> elementErrors = new ArrayList<>();
+        long start = inputOffset(parser);
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonNode element = mapper.readTree(parser);
+            if (itemSchema != null) {
+                JsonNode instance = element == null ? NullNode.getInstance() : element;
+                elementErrors.addAll(itemSchema.validate(context, instance, instance,
+                        new JsonNodePath(PathType.LEGACY).append(section).append(index)));
+            }
+            index++;
+            long end = inputOffset(parser);
+            // Spilled elements are stored as their JSON text
+            buffer.add(Map.of(SPILLED_ELEMENT, element == null ? NullNode.getInstance() : element),
+                    (end - start) * TREE_BYTES_PER_INPUT_BYTE);
+            start = end;
+        }
+
+        ArrayNode array = mapper.createArrayNode();
+        if (buffer.isSpilled()) {
+            spilledSections.put(section, buffer.finish());
+            spilledElementErrors.addAll(elementErrors);
+        } else {
+            buffer.<Map<String, JsonNode>>getRows().forEach(row -> array.add(row.get(SPILLED_ELEMENT)));
+        }
+        return array;
+    }
+
+    /**
+     * Returns the schema of a section's elements, or null if there is no schema or it does not constrain them.
+     */
+    private JsonSchema itemSchema(String section) {
+        if (schema == null || !schema.getSchemaNode().path("properties").path(section).path("items").isObject()) {
+            return null;
+        }
+        JsonSchema itemSchema = schema.getSubSchema(new JsonNodePath(PathType.JSON_POINTER)
+                .append("properties").append(section).append("items"));
+        itemSchema.initializeValidators();
+        return itemSchema;
+    }
+
+    private static long inputOffset(JsonParser parser) {
+        JsonLocation location = parser.currentLocation();
+        return location.getByteOffset() >= 0 ? location.getByteOffset() : location.getCharOffset();
+    }
+
+    /**
+     * Maps the file's entry in the shared cache, publishing it first if no process has yet. Sections are decoded
+     * from the mapped entry when first accessed, so only the sections a fork reads are held on its heap.
+     */
+    private SharedJsonSections loadShared(String filePath) {
+        try {
+            JsonDataFormat format = JsonDataFormat.detect(filePath);
+            logger.debug("Mapping data file '{}' from the shared cache", filePath);
+
+            DataLoadEvents.JsonParse event = new DataLoadEvents.JsonParse();
+            event.begin();
+            File file = new File(filePath);
+            ObjectMapper smileMapper = JsonDataConfig.getObjectMapper(JsonDataFormat.SMILE);
+            ByteBuffer encoded = sharedCache.map("json-sections:" + file.getAbsolutePath(),
+                    List.of(Path.of(file.getPath())), () -> {
+                        try {
+                            return SharedJsonSections.encode(
+                                    JsonDataConfig.getObjectMapper(format).readTree(file), smileMapper);
+                        } catch (IOException error) {
+                            String errorMsg = String.format("Failed to encode JSON file for shared cache: %s", file);
+                            ErrorHandler.logError(error, "loadShared", errorMsg);
+                            throw new JsonDataReaderException(errorMsg, error);
+                        }
+                    });
+            SharedJsonSections sections = SharedJsonSections.wrap(encoded, smileMapper);
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.format = format.name();
+                event.byteCount = file.length();
+                event.commit();
+            }
+            return sections;
+        } catch (IOException error) {
+            String errorMsg = String.format("Failed to load JSON file from shared cache: %s", filePath);
+            ErrorHandler.logError(error, "loadShared", errorMsg);
+            throw new JsonDataReaderException(errorMsg, error);
+        }
+    }
+
+    /**
+     * Returns a top-level section, decoding it from the shared cache entry on first access if there is one.
+     */
+    private JsonNode sectionNode(String section) {
+        return sharedSections != null ? sharedSections.section(section) : jsonData.path(section);
+    }
+
+    /**
+     * Returns the whole document; with the shared cache, this decodes every section.
+     */
+    private JsonNode document() {
+        return sharedSections != null ? sharedSections.document() : jsonData;
+    }
+
     private JsonSchema loadSchema(String schemaPath) {
         try {
-            JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
-            return factory.getSchema(new File(schemaPath).toURI());
+            return schemaFactory().getSchema(new File(schemaPath).toURI());
         } catch (Exception error) {
             String errorMsg = String.format("Failed to load JSON schema: %s", schemaPath);
             ErrorHandler.logError(error, "loadSchema", errorMsg);
@@ -168,9 +536,26 @@ public class JsonDataReader implements AutoCloseable {
         }
     }
 
-    private void validateSchema() {
+    private static JsonSchemaFactory schemaFactory() {
+        return JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    }
+
+    private void validateSchema(String schemaPath) {
         if (schema != null) {
-            var validationErrors = schema.validate(jsonData);
+            DataLoadEvents.SchemaValidation event = new DataLoadEvents.SchemaValidation();
+            event.begin();
+            List<Object> validationErrors = new ArrayList<>(spilledElementErrors);
+            if (spilledSections.isEmpty()) {
+                validationErrors.addAll(schema.validate(document()));
+            } else {
+                validationErrors.addAll(validateSpilledTree(schemaPath));
+            }
+            if (event.shouldCommit()) {
+                event.file = filePath;
+                event.schema = schemaPath;
+                event.errorCount = validationErrors.size();
+                event.commit();
+            }
             if (!validationErrors.isEmpty()) {
                 validationErrors.forEach(error -> logger.warn("Schema validation error: {}", error));
                 throw new JsonDataReaderException("JSON data does not match schema: " + validationErrors);
@@ -178,49 +563,183 @@ public class JsonDataReader implements AutoCloseable {
         }
     }
 
+    /**
+     * Validates a tree whose spilled sections are empty placeholders. Their element keywords were checked while
+     * streaming, so they are removed from a copy of the schema, and the item counts are checked against the spilled
+     * tables instead.
+     */
+    private List<Object> validateSpilledTree(String schemaPath) {
+        ObjectNode schemaNode = schema.getSchemaNode().deepCopy();
+        List<Object> errors = new ArrayList<>();
+        spilledSections.forEach((section, table) -> {
+            if (!(schemaNode.path("properties").path(section) instanceof ObjectNode sectionSchema)) {
+                return;
+            }
+            int count = table.getRowCount();
+            JsonNode minItems = sectionSchema.get("minItems");
+            if (minItems != null && count < minItems.asInt()) {
+                errors.add(String.format("$.%s: must have at least %d items but found %d",
+                        section, minItems.asInt(), count));
+            }
+            JsonNode maxItems = sectionSchema.get("maxItems");
+            if (maxItems != null && count > maxItems.asInt()) {
+                errors.add(String.format("$.%s: must have at most %d items but found %d",
+                        section, maxItems.asInt(), count));
+            }
+            if (sectionSchema.has("uniqueItems") || sectionSchema.has("contains")) {
+                logger.warn("uniqueItems and contains are not checked for spilled section: {}", section);
+            }
+            sectionSchema.remove(SPILLED_ARRAY_KEYWORDS);
+        });
+        errors.addAll(schemaFactory().getSchema(new File(schemaPath).toURI(), schemaNode).validate(jsonData));
+        return errors;
+    }
+
     private <T> Optional<T> getData(String section, String key, Class<T> type) {
         if (cacheEnabled) {
             return getFromCache(section, key, type);
         }
+        return readData(section, key, type);
+    }
+
+    private <T> Optional<T> readData(String section, String key, Class<T> type) {
         try {
-            JsonNode node = jsonData.path(section).path(key);
+            JsonNode node = sectionNode(section).path(key);
             if (node.isMissingNode() || node.isNull()) {
                 return Optional.empty();
             }
             return Optional.ofNullable(objectMapper.convertValue(node, type));
         } catch (Exception error) {
             ErrorHandler.logError(error, "getData",
-                    String.format("Failed to retrieve data for section: %s, key: %s", section, key));
+                    "Failed to retrieve data for section: {}, key: {}", section, key);
             return Optional.empty();
         }
     }
 
     @SuppressWarnings("unchecked")
     private <T> Optional<T> getFromCache(String section, String key, Class<T> type) {
-        Map<String, Map<String, Object>> threadCache = cache.get();
-        Map<String, Object> sectionCache = threadCache.computeIfAbsent(section, k -> new HashMap<>());
+        Map<String, Map<String, Optional<Object>>> threadCache = cache.get();
+        Map<String, Optional<Object>> sectionCache = threadCache.computeIfAbsent(section, k -> new ConcurrentHashMap<>());
 
-        if (!sectionCache.containsKey(key)) {
-            Optional<T> fetchedValue = getData(section, key, type);
-            sectionCache.put(key, fetchedValue.orElse(null));
+        Optional<Object> cachedValue = sectionCache.get(key);
+        if (cachedValue != null) {
+            cacheMetrics.recordHit();
+            return (Optional<T>) cachedValue;
         }
 
-        return Optional.ofNullable((T) sectionCache.get(key));
+        cacheMetrics.recordMiss();
+        commitCacheAccess(new DataLoadEvents.CacheAccess(), section, key, DataLoadEvents.CacheAccess.MISS);
+        DataLoadEvents.CacheAccess event = new DataLoadEvents.CacheAccess();
+        event.begin();
+        long start = System.nanoTime();
+        cachedValue = (Optional<Object>) readData(section, key, type);
+        cacheMetrics.recordLoad(System.nanoTime() - start);
+        sectionCache.put(key, cachedValue);
+        commitCacheAccess(event, section, key, DataLoadEvents.CacheAccess.LOAD);
+
+        return (Optional<T>) cachedValue;
+    }
+
+    private static void commitCacheAccess(DataLoadEvents.CacheAccess event, String section, String key, String outcome) {
+        if (event.shouldCommit()) {
+            event.cache = "JsonDataReader";
+            event.key = section + "#" + key;
+            event.outcome = outcome;
+            event.commit();
+        }
     }
 
+    private Map<String, Map<String, Optional<Object>>> createThreadCache() {
+        Map<String, Map<String, Optional<Object>>> threadCache = new ConcurrentHashMap<>();
+        threadCaches.add(threadCache);
+        return threadCache;
+    }
 
     @Override
     public void close() {
         if (cacheEnabled && cache != null) {
-            Map<String, Map<String, Object>> threadCache = cache.get();
-            if (threadCache != null) {
-                threadCache.clear();
-            }
+            int entryCount = countCacheEntries();
+            threadCaches.forEach(Map::clear);
+            threadCaches.clear();
+            cacheMetrics.recordEvictions(entryCount);
             cache.remove();
+            // Drops the registry and MBean references to this reader, unless a newer reader of the file took them over
+            DataCacheMetrics.unregister(metricsName(), cacheControl);
         }
+        // Deletes the segment files of spilled sections; they stay mapped by name so later reads fail instead of
+        // finding an empty section
+        spilledSections.values().forEach(SpilledTable::close);
         logger.info("JsonDataReader resources cleaned up");
     }
 
+    private String metricsName() {
+        return "JsonDataReader:" + filePath;
+    }
+
+    private int countCacheEntries() {
+        int count = 0;
+        for (Map<String, Map<String, Optional<Object>>> threadCache : threadCaches) {
+            for (Map<String, Optional<Object>> sectionCache : threadCache.values()) {
+                count += sectionCache.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Exposes the per-thread caches to {@link DataCacheMetrics}; keys are reported as {@code section#key}.
+     */
+    private class ReaderCacheControl implements DataCacheMetrics.CacheControl {
+
+        @Override
+        public int entryCount() {
+            return countCacheEntries();
+        }
+
+        @Override
+        public Collection<?> values() {
+            List<Object> values = new ArrayList<>();
+            for (Map<String, Map<String, Optional<Object>>> threadCache : threadCaches) {
+                threadCache.values().forEach(sectionCache ->
+                        sectionCache.values().forEach(value -> value.ifPresent(values::add)));
+            }
+            return values;
+        }
+
+        @Override
+        public List<String> keys() {
+            Set<String> keys = new TreeSet<>();
+            for (Map<String, Map<String, Optional<Object>>> threadCache : threadCaches) {
+                threadCache.forEach((section, sectionCache) ->
+                        sectionCache.keySet().forEach(key -> keys.add(section + "#" + key)));
+            }
+            return new ArrayList<>(keys);
+        }
+
+        @Override
+        public boolean invalidate(String key) {
+            int separator = key.indexOf('#');
+            if (separator < 0) {
+                return false;
+            }
+            String section = key.substring(0, separator);
+            String entryKey = key.substring(separator + 1);
+            boolean removed = false;
+            for (Map<String, Map<String, Optional<Object>>> threadCache : threadCaches) {
+                Map<String, Optional<Object>> sectionCache = threadCache.get(section);
+                if (sectionCache != null && sectionCache.remove(entryKey) != null) {
+                    removed = true;
+                }
+            }
+            return removed;
+        }
+
+        @Override
+        public void invalidateAll() {
+            threadCaches.forEach(Map::clear);
+        }
+    }
+
     public static JsonDataBuilder builder() {
         return new JsonDataBuilder();
     }
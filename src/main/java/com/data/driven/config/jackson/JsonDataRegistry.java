@@ -0,0 +1,234 @@
+package com.data.driven.config.jackson;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Registry of named JSON datasets. Each dataset is an independent {@link JsonDataReader}
+ * with its own cache and schema, so any number of feature data files can be loaded side by side.
+ * <p>
+ * Registered readers are immutable snapshots: a reload builds and validates a new reader and then
+ * swaps it in atomically, so callers holding the previous reader keep a consistent view of the data.
+ * The previous reader is closed after the swap, which drops its cache and metrics and deletes any sections it
+ * spilled to disk; callers that hold it across a reload should look the dataset up again.
+ */
+public final class JsonDataRegistry {
+
+    private static final Logger logger = LoggerUtils.getLogger(JsonDataRegistry.class);
+
+    private static final Map<String, JsonDataReader> DATASETS = new ConcurrentHashMap<>();
+    private static final Map<String, JsonDataBuilder> SOURCES = new ConcurrentHashMap<>();
+
+    private JsonDataRegistry() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    /**
+     * Loads a dataset and registers it under the given name.
+     * If a dataset with the same name is already registered, the existing reader is kept and returned.
+     *
+     * @param name    The dataset name
+     * @param builder The configured builder for the dataset's reader
+     * @return The registered reader
+     */
+    public static JsonDataReader register(String name, JsonDataBuilder builder) {
+        validateName(name);
+        JsonDataReader existing = DATASETS.get(name);
+        if (existing != null) {
+            logger.warn("Dataset '{}' already registered, ignoring new load request", name);
+            return existing;
+        }
+
+        try {
+            JsonDataReader reader = builder.build();
+            existing = DATASETS.putIfAbsent(name, reader);
+            if (existing != null) {
+                // Another thread registered the same name while this one was parsing
+                reader.close();
+                return existing;
+            }
+            SOURCES.put(name, builder);
+            logger.info("Registered dataset '{}' from '{}'", name, builder.getFilePath());
+            return reader;
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "register", "Failed to load dataset: " + name);
+            throw new JsonDataLoader.JsonDataLoaderException("Failed to load dataset: " + name, error);
+        }
+    }
+
+    /**
+     * Loads several datasets concurrently, one virtual thread per dataset.
+     * All datasets are attempted; if any fail, an exception carrying every failure is thrown.
+     *
+     * @param builders Builders keyed by dataset name
+     * @return The registered readers keyed by dataset name
+     */
+    public static Map<String, JsonDataReader> registerAll(Map<String, JsonDataBuilder> builders) {
+        Map<String, Future<JsonDataReader>> pending = new LinkedHashMap<>();
+        Map<String, JsonDataReader> loaded = new LinkedHashMap<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            builders.forEach((name, builder) -> pending.put(name, executor.submit(() -> register(name, builder))));
+
+            for (Map.Entry<String, Future<JsonDataReader>> entry : pending.entrySet()) {
+                try {
+                    loaded.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException error) {
+                    failures.add(error.getCause());
+                } catch (InterruptedException error) {
+                    Thread.currentThread().interrupt();
+                    failures.add(error);
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            JsonDataLoader.JsonDataLoaderException exception = new JsonDataLoader.JsonDataLoaderException(
+                    String.format("Failed to load %d of %d datasets", failures.size(), builders.size()));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+
+        logger.info("Registered {} datasets", loaded.size());
+        return loaded;
+    }
+
+    /**
+     * Re-reads a registered dataset from its source and publishes the new snapshot with a single atomic swap.
+     * The file is parsed and validated before the swap, so a broken file leaves the current snapshot in place.
+     *
+     * @param name The dataset name
+     * @return The newly published reader
+     * @throws JsonDataLoader.JsonDataLoaderException if the dataset is not registered or fails to load
+     */
+    public static JsonDataReader reload(String name) {
+        JsonDataBuilder builder = SOURCES.get(name);
+        if (builder == null) {
+            throw new JsonDataLoader.JsonDataLoaderException("Dataset not registered: " + name);
+        }
+
+        JsonDataReader fresh;
+        try {
+            fresh = builder.build();
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "reload", "Failed to reload dataset, keeping current snapshot: " + name);
+            throw new JsonDataLoader.JsonDataLoaderException("Failed to reload dataset: " + name, error);
+        }
+
+        JsonDataReader[] replaced = new JsonDataReader[1];
+        if (DATASETS.computeIfPresent(name, (key, current) -> {
+            replaced[0] = current;
+            return fresh;
+        }) == null) {
+            fresh.close();
+            throw new JsonDataLoader.JsonDataLoaderException("Dataset removed during reload: " + name);
+        }
+        logger.info("Reloaded dataset '{}' from '{}'", name, builder.getFilePath());
+        closeQuietly(name, replaced[0]);
+        return fresh;
+    }
+
+    /**
+     * Reloads a dataset on a new virtual thread, which ends with the reload, so there is no executor to shut down.
+     *
+     * @param name The dataset name
+     * @return A future completing with the newly published reader, or exceptionally if the reload failed
+     */
+    public static CompletableFuture<JsonDataReader> reloadAsync(String name) {
+        return CompletableFuture.supplyAsync(() -> reload(name),
+                task -> Thread.ofVirtual().name("dataset-reload-" + name).start(task));
+    }
+
+    /**
+     * Returns the source file path a dataset was registered with.
+     *
+     * @param name The dataset name
+     * @return The source file path, if the dataset is registered
+     */
+    public static Optional<String> getSourcePath(String name) {
+        return Optional.ofNullable(SOURCES.get(name)).map(JsonDataBuilder::getFilePath);
+    }
+
+    /**
+     * Retrieves a registered dataset.
+     *
+     * @param name The dataset name
+     * @return The dataset's reader
+     * @throws JsonDataLoader.JsonDataLoaderException if no dataset is registered under the name
+     */
+    public static JsonDataReader get(String name) {
+        JsonDataReader reader = DATASETS.get(name);
+        if (reader == null) {
+            throw new JsonDataLoader.JsonDataLoaderException("Dataset not registered: " + name);
+        }
+        return reader;
+    }
+
+    public static Optional<JsonDataReader> find(String name) {
+        return Optional.ofNullable(DATASETS.get(name));
+    }
+
+    public static boolean contains(String name) {
+        return DATASETS.containsKey(name);
+    }
+
+    public static Set<String> names() {
+        return Set.copyOf(DATASETS.keySet());
+    }
+
+    /**
+     * Unregisters a dataset and releases its resources.
+     *
+     * @param name The dataset name
+     * @return true if a dataset was removed
+     */
+    public static boolean remove(String name) {
+        SOURCES.remove(name);
+        JsonDataReader reader = DATASETS.remove(name);
+        if (reader == null) {
+            return false;
+        }
+        closeQuietly(name, reader);
+        logger.info("Dataset '{}' has been removed", name);
+        return true;
+    }
+
+    /**
+     * Unregisters all datasets and releases their resources.
+     */
+    public static void clear() {
+        for (String name : names()) {
+            remove(name);
+        }
+    }
+
+    private static void closeQuietly(String name, JsonDataReader reader) {
+        try {
+            reader.close();
+            logger.info("Dataset '{}' has been closed", name);
+        } catch (Exception error) {
+            logger.warn("Error while closing dataset '{}': {}", name, error.getMessage());
+        }
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Dataset name cannot be null or empty");
+        }
+    }
+}
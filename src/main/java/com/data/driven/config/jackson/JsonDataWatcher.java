@@ -0,0 +1,120 @@
+package com.data.driven.config.jackson;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watches the source files of registered datasets and hot-reloads a dataset when its file changes.
+ * Reloads go through {@link JsonDataRegistry#reloadAsync(String)}, so tests keep running against
+ * the current snapshot until the new one has been parsed, validated and swapped in.
+ */
+public class JsonDataWatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerUtils.getLogger(JsonDataWatcher.class);
+
+    // Editors often write a file in several steps; wait for the burst of events to settle
+    private static final long DEBOUNCE_MILLIS = 250;
+
+    private final WatchService watchService;
+    private final Map<Path, Set<String>> datasetsByFile = new ConcurrentHashMap<>();
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+    private final Thread watcherThread;
+
+    public JsonDataWatcher() {
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "JsonDataWatcher", "Failed to create file watch service");
+            throw new JsonDataLoader.JsonDataLoaderException("Failed to create file watch service", error);
+        }
+        this.watcherThread = Thread.ofPlatform()
+                .name("json-data-watcher")
+                .daemon()
+                .start(this::processEvents);
+    }
+
+    /**
+     * Starts watching the source file of a registered dataset.
+     *
+     * @param datasetName The dataset name
+     * @return This watcher instance
+     */
+    public JsonDataWatcher watch(String datasetName) {
+        String sourcePath = JsonDataRegistry.getSourcePath(datasetName)
+                .orElseThrow(() -> new JsonDataLoader.JsonDataLoaderException("Dataset not registered: " + datasetName));
+        Path file = Path.of(sourcePath).toAbsolutePath().normalize();
+        Path directory = file.getParent();
+
+        try {
+            if (watchedDirectories.add(directory)) {
+                directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        } catch (IOException error) {
+            watchedDirectories.remove(directory);
+            ErrorHandler.logError(error, "watch", "Failed to watch directory: " + directory);
+            throw new JsonDataLoader.JsonDataLoaderException("Failed to watch directory: " + directory, error);
+        }
+
+        datasetsByFile.computeIfAbsent(file, key -> ConcurrentHashMap.newKeySet()).add(datasetName);
+        logger.info("Watching '{}' for dataset '{}'", file, datasetName);
+        return this;
+    }
+
+    private void processEvents() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(DEBOUNCE_MILLIS);
+
+                Path directory = (Path) key.watchable();
+                Set<String> changedDatasets = new HashSet<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        continue;
+                    }
+                    Path changedFile = directory.resolve((Path) event.context()).normalize();
+                    changedDatasets.addAll(datasetsByFile.getOrDefault(changedFile, Set.of()));
+                }
+                key.reset();
+
+                changedDatasets.forEach(this::triggerReload);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException error) {
+            logger.debug("JSON data watcher stopped");
+        }
+    }
+
+    private void triggerReload(String datasetName) {
+        logger.info("Source of dataset '{}' changed, reloading", datasetName);
+        JsonDataRegistry.reloadAsync(datasetName).exceptionally(error -> {
+            logger.warn("Hot reload of dataset '{}' failed, keeping current snapshot: {}",
+                    datasetName, error.getMessage());
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException error) {
+            logger.warn("Error while closing JSON data watcher: {}", error.getMessage());
+        }
+        watcherThread.interrupt();
+    }
+}
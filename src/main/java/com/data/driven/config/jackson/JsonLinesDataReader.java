@@ -0,0 +1,385 @@
+package com.data.driven.config.jackson;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.batching.RowBatch;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.sampling.RowSampler;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Reads newline-delimited JSON (JSON Lines) data files, where every line holds one record.
+ * <p>
+ * Bulk reads split the file into byte ranges aligned on line boundaries and parse the ranges in parallel
+ * on the common fork/join pool. Provider iteration reads the file lazily, one record per {@code next()}.
+ */
+public class JsonLinesDataReader {
+
+    private static final Logger logger = LoggerUtils.getLogger(JsonLinesDataReader.class);
+
+    private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final byte NEWLINE = '\n';
+
+    private final Path filePath;
+    private final int chunkSize;
+
+    public JsonLinesDataReader(String filePath) {
+        this(filePath, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param filePath  Path to the JSON Lines file
+     * @param chunkSize Target size in bytes of each range parsed as one fork/join task
+     */
+    public JsonLinesDataReader(String filePath, int chunkSize) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new IllegalArgumentException("File path cannot be null or empty");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.filePath = Path.of(filePath);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parses every record in the file in parallel, preserving file order.
+     *
+     * @param type The type each record is bound to
+     * @return All records in file order
+     */
+    public <T> List<T> readAll(Class<T> type) {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            List<long[]> ranges = splitOnLineBoundaries(channel);
+            List<T> records = ForkJoinPool.commonPool()
+                    .invoke(new ChunkParseTask<>(channel, ranges, 0, ranges.size(), JsonDataConfig.readerFor(type)));
+            logger.debug("Parsed {} records from '{}' in {} chunks", records.size(), filePath, ranges.size());
+            return records;
+        } catch (IOException error) {
+            String errorMsg = String.format("Failed to read JSON Lines file: %s", filePath);
+            ErrorHandler.logError(error, "readAll", errorMsg);
+            throw new JsonDataReader.JsonDataReaderException(errorMsg, error);
+        }
+    }
+
+    /**
+     * Returns all records bound to the given type as a stream, parsed in parallel up front.
+     *
+     * @param type The type each record is bound to
+     * @return A stream of records in file order
+     */
+    public <T> Stream<T> stream(Class<T> type) {
+        return readAll(type).stream();
+    }
+
+    /**
+     * Returns a lazy TestNG provider iterator that decodes one record per {@code next()}.
+     * The file is closed once the last record has been read.
+     *
+     * @param type The type each record is bound to
+     * @return An iterator of single-element parameter arrays
+     */
+    public <T> Iterator<Object[]> iterator(Class<T> type) {
+        MappingIterator<T> records = JsonDataConfig.iterate(filePath, type);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = records.hasNext();
+                if (!hasNext) {
+                    closeQuietly(records);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Object[]{records.next()};
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy TestNG provider iterator that hands each invocation a {@link RowBatch} of consecutive records,
+     * decoding one batch per {@code next()}. The file is closed once the last record has been read.
+     *
+     * @param type      The type each record is bound to
+     * @param batchSize The number of records per batch
+     * @return An iterator of single-batch parameter arrays, in file order
+     */
+    public <T> Iterator<Object[]> batches(Class<T> type, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        MappingIterator<T> records = JsonDataConfig.iterate(filePath, type);
+        return RowBatch.chunks(new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = records.hasNext();
+                if (!hasNext) {
+                    closeQuietly(records);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                return records.next();
+            }
+        }, batchSize);
+    }
+
+    /**
+     * Returns a TestNG provider iterator over a sample of the records, reading the file as a stream of lines.
+     * Only kept lines are bound to the type; a stratified sampler reads just its top-level field from each line.
+     *
+     * @param type    The type each sampled record is bound to
+     * @param sampler The sampling mode
+     * @return An iterator of single-element parameter arrays, in file order
+     */
+    public <T> Iterator<Object[]> sample(Class<T> type, RowSampler sampler) {
+        ObjectReader reader = JsonDataConfig.readerFor(type);
+        String column = sampler.getStratifyColumn();
+        Iterator<T> records = sampler.sample(lines(), line -> topLevelValue(reader, line, column), line -> {
+            try {
+                return reader.readValue(line);
+            } catch (IOException error) {
+                String errorMsg = String.format("Failed to parse sampled record in '%s'", filePath);
+                ErrorHandler.logError(error, "sample", errorMsg);
+                throw new JsonDataReader.JsonDataReaderException(errorMsg, error);
+            }
+        });
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{records.next()};
+            }
+        };
+    }
+
+    /**
+     * Reads the non-blank lines of the file lazily, closing it after the last line.
+     */
+    private Iterator<String> lines() {
+        try {
+            BufferedReader lines = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+            return new Iterator<>() {
+                private String next;
+
+                @Override
+                public boolean hasNext() {
+                    try {
+                        while (next == null) {
+                            String line = lines.readLine();
+                            if (line == null) {
+                                lines.close();
+                                return false;
+                            }
+                            if (!line.isBlank()) {
+                                next = line;
+                            }
+                        }
+                        return true;
+                    } catch (IOException error) {
+                        throw new UncheckedIOException(error);
+                    }
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    String line = next;
+                    next = null;
+                    return line;
+                }
+            };
+        } catch (IOException error) {
+            String errorMsg = String.format("Failed to read JSON Lines file: %s", filePath);
+            ErrorHandler.logError(error, "lines", errorMsg);
+            throw new JsonDataReader.JsonDataReaderException(errorMsg, error);
+        }
+    }
+
+    /**
+     * Streams through one record until its top-level field is found, without building the record.
+     */
+    private static Object topLevelValue(ObjectReader reader, String line, String field) {
+        try (JsonParser parser = reader.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals(field)) {
+                    return switch (value) {
+                        case VALUE_STRING -> parser.getText();
+                        case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+                        case VALUE_TRUE, VALUE_FALSE -> parser.getBooleanValue();
+                        case VALUE_NULL -> null;
+                        default -> reader.readTree(parser).toString();
+                    };
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException error) {
+            String errorMsg = String.format("Failed to parse record field '%s'", field);
+            ErrorHandler.logError(error, "topLevelValue", errorMsg);
+            throw new JsonDataReader.JsonDataReaderException(errorMsg, error);
+        }
+    }
+
+    /**
+     * Splits the file into ranges of roughly {@code chunkSize} bytes, moving each split point
+     * forward to just past the next newline so no record straddles two ranges.
+     */
+    private List<long[]> splitOnLineBoundaries(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        List<long[]> ranges = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+
+        long start = 0;
+        while (start < fileSize) {
+            long end = Math.min(start + chunkSize, fileSize);
+            if (end < fileSize) {
+                end = findNextLineStart(channel, end, fileSize, probe);
+            }
+            ranges.add(new long[]{start, end});
+            start = end;
+        }
+        return ranges;
+    }
+
+    private static long findNextLineStart(FileChannel channel, long position, long fileSize, ByteBuffer probe)
+            throws IOException {
+        while (position < fileSize) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == NEWLINE) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+
+    private static void closeQuietly(MappingIterator<?> records) {
+        try {
+            records.close();
+        } catch (IOException error) {
+            logger.warn("Error while closing JSON Lines iterator: {}", error.getMessage());
+        }
+    }
+
+    /**
+     * Parses a contiguous run of line-aligned ranges, splitting in half until a single range remains.
+     */
+    private static class ChunkParseTask<T> extends RecursiveTask<List<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        // Tasks only run within the pool of a single read and are never serialized
+        private final transient FileChannel channel;
+        private final transient List<long[]> ranges;
+        private final int from;
+        private final int to;
+        private final ObjectReader reader;
+
+        ChunkParseTask(FileChannel channel, List<long[]> ranges, int from, int to, ObjectReader reader) {
+            this.channel = channel;
+            this.ranges = ranges;
+            this.from = from;
+            this.to = to;
+            this.reader = reader;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= 1) {
+                return from < to ? parseRange(ranges.get(from)) : new ArrayList<>();
+            }
+
+            int middle = (from + to) >>> 1;
+            ChunkParseTask<T> left = new ChunkParseTask<>(channel, ranges, from, middle, reader);
+            ChunkParseTask<T> right = new ChunkParseTask<>(channel, ranges, middle, to, reader);
+            left.fork();
+            List<T> rightRecords = right.compute();
+            List<T> records = left.join();
+            records.addAll(rightRecords);
+            return records;
+        }
+
+        private List<T> parseRange(long[] range) {
+            long start = range[0];
+            byte[] bytes = new byte[(int) (range[1] - start)];
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, start + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+
+                List<T> records = new ArrayList<>();
+                int lineStart = 0;
+                for (int i = 0; i <= bytes.length; i++) {
+                    if (i == bytes.length || bytes[i] == NEWLINE) {
+                        if (!isBlank(bytes, lineStart, i)) {
+                            records.add(reader.readValue(bytes, lineStart, i - lineStart));
+                        }
+                        lineStart = i + 1;
+                    }
+                }
+                return records;
+            } catch (IOException error) {
+                String errorMsg = String.format("Failed to parse JSON Lines range starting at byte %d", start);
+                ErrorHandler.logError(error, "parseRange", errorMsg);
+                throw new JsonDataReader.JsonDataReaderException(errorMsg, error);
+            }
+        }
+
+        private static boolean isBlank(byte[] bytes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (!Character.isWhitespace(bytes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
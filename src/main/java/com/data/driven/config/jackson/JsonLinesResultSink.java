@@ -0,0 +1,308 @@
+package com.data.driven.config.jackson;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.results.TestResultRecord;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes test results to a JSON Lines file, one record per line, off the test threads.
+ * <p>
+ * Test threads enqueue into a bounded ring buffer; a single writer thread drains it in batches through a streaming
+ * generator on {@link JsonDataConfig}'s mapper and forces the file to disk at a fixed interval, so a crashed run
+ * loses at most that interval of results. When the buffer is full, {@link OverflowPolicy} decides whether the
+ * test thread waits for space or the record is dropped and counted.
+ */
+public final class JsonLinesResultSink implements AutoCloseable {
+
+    private static final Logger logger = LoggerUtils.getLogger(JsonLinesResultSink.class);
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+    private static final int BATCH_SIZE = 256;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // How often a waiting producer checks that the writer thread is still running
+    private static final long ENQUEUE_CHECK_MILLIS = 100;
+
+    // Signals the writer thread that no further records will arrive
+    private static final TestResultRecord END_OF_STREAM =
+            new TestResultRecord("", "", -1, List.of(), TestResultRecord.Status.SKIP, 0, 0, null);
+
+    /**
+     * What {@link #submit(TestResultRecord)} does when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** The test thread waits until the writer frees space. No results are lost; tests slow to disk speed. */
+        BLOCK,
+        /** The record is discarded and counted in {@link #getDroppedCount()}. Tests never wait. */
+        DROP;
+
+        /**
+         * Parses an overflow policy, ignoring case.
+         *
+         * @param value The configured policy
+         * @return The matching policy
+         * @throws IllegalArgumentException if the value names no policy
+         */
+        public static OverflowPolicy parse(String value) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(value.trim())) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Invalid results.jsonl.overflow '%s', expected one of %s", value, Arrays.toString(values())));
+        }
+    }
+
+    private final Path filePath;
+    private final OverflowPolicy overflowPolicy;
+    private final long syncIntervalNanos;
+    private final BlockingQueue<TestResultRecord> buffer;
+    private final FileChannel channel;
+    private final OutputStream outputStream;
+    private final JsonGenerator generator;
+    // Records are flushed once per batch rather than after each value
+    private final ObjectWriter writer = JsonDataConfig.writerFor(TestResultRecord.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private final Thread writerThread;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean open = true;
+    private volatile boolean failed;
+
+    public JsonLinesResultSink(Path filePath) {
+        this(filePath, DEFAULT_CAPACITY, OverflowPolicy.BLOCK, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens the file (replacing any existing content) and starts the writer thread.
+     *
+     * @param filePath           Path of the JSON Lines file
+     * @param capacity           Number of records the buffer holds before the overflow policy applies
+     * @param overflowPolicy     What to do when the buffer is full
+     * @param syncIntervalMillis How often written records are forced to disk
+     */
+    public JsonLinesResultSink(Path filePath, int capacity, OverflowPolicy overflowPolicy, long syncIntervalMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (syncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        this.filePath = filePath;
+        this.overflowPolicy = overflowPolicy;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        try {
+            Path parent = filePath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            this.channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.outputStream = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            this.generator = JsonDataConfig.createJsonLinesGenerator(outputStream);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "JsonLinesResultSink", "Failed to open result file: {}", filePath);
+            throw new RuntimeException("Failed to open result file: " + filePath, error);
+        }
+        this.writerThread = Thread.ofPlatform()
+                .name("jsonl-result-sink")
+                .daemon(true)
+                .start(this::writeLoop);
+    }
+
+    /**
+     * Queues a record for writing, applying the overflow policy if the buffer is full.
+     *
+     * @param result The record to write
+     * @return {@code true} if the record was queued, {@code false} if it was dropped
+     */
+    public boolean submit(TestResultRecord result) {
+        if (!open) {
+            logger.warn("Result for {} submitted after the sink was closed; dropping it", result.testName());
+            dropped.increment();
+            return false;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (buffer.offer(result)) {
+                return true;
+            }
+            // Warn on the first drop only; the total is reported when the sink closes
+            dropped.increment();
+            if (dropped.sum() == 1) {
+                logger.warn("Result buffer for {} is full; dropping records", filePath);
+            }
+            return false;
+        }
+        try {
+            if (enqueue(result)) {
+                return true;
+            }
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Waits for buffer space, giving up if the writer thread has stopped and can no longer free any.
+     *
+     * @return {@code true} if the record was queued
+     */
+    private boolean enqueue(TestResultRecord result) throws InterruptedException {
+        while (!buffer.offer(result, ENQUEUE_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!writerThread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of records waiting to be written.
+     */
+    public int getBacklog() {
+        return buffer.size();
+    }
+
+    private void writeLoop() {
+        List<TestResultRecord> batch = new ArrayList<>(BATCH_SIZE);
+        long lastSync = System.nanoTime();
+        boolean endOfStream = false;
+        while (!endOfStream) {
+            try {
+                TestResultRecord first = buffer.poll(syncIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, BATCH_SIZE - 1);
+                    endOfStream = writeBatch(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException error) {
+                // Only close() stops the writer; keep draining so blocked producers are released
+                continue;
+            }
+            if (endOfStream || System.nanoTime() - lastSync >= syncIntervalNanos) {
+                sync();
+                lastSync = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the batch contained the end-of-stream marker
+     */
+    private boolean writeBatch(List<TestResultRecord> batch) {
+        boolean endOfStream = false;
+        int batchWritten = 0;
+        for (TestResultRecord result : batch) {
+            if (result == END_OF_STREAM) {
+                endOfStream = true;
+                continue;
+            }
+            if (failed) {
+                dropped.increment();
+                continue;
+            }
+            try {
+                writer.writeValue(generator, result);
+                generator.writeRaw('\n');
+                written.increment();
+                batchWritten++;
+            } catch (IOException error) {
+                failed = true;
+                dropped.increment();
+                ErrorHandler.logError(error, "writeBatch", "Failed to write result record to: {}", filePath);
+            }
+        }
+        if (batchWritten > 0 && !failed) {
+            try {
+                generator.flush();
+            } catch (IOException error) {
+                failed = true;
+                ErrorHandler.logError(error, "writeBatch", "Failed to flush result records to: {}", filePath);
+            }
+        }
+        return endOfStream;
+    }
+
+    private void sync() {
+        if (failed) {
+            return;
+        }
+        try {
+            generator.flush();
+            channel.force(false);
+        } catch (IOException error) {
+            failed = true;
+            ErrorHandler.logError(error, "sync", "Failed to sync result file: {}", filePath);
+        }
+    }
+
+    /**
+     * Writes every queued record, forces the file to disk and closes it. Records submitted afterwards are dropped.
+     */
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            if (enqueue(END_OF_STREAM)) {
+                writerThread.join();
+            } else {
+                logger.warn("Result writer for {} has stopped; dropping {} queued records", filePath, buffer.size());
+            }
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while closing result sink for {}", filePath);
+        }
+        if (!writerThread.isAlive()) {
+            // Records the writer did not reach before it stopped
+            buffer.remove(END_OF_STREAM);
+            dropped.add(buffer.size());
+            buffer.clear();
+        }
+        try {
+            generator.close();
+            outputStream.close();
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "close", "Failed to close result file: {}", filePath);
+        }
+        if (dropped.sum() > 0) {
+            logger.warn("Wrote {} results to {}; {} were dropped", written.sum(), filePath, dropped.sum());
+        } else {
+            logger.info("Wrote {} results to {}", written.sum(), filePath);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.data.driven.config.jackson;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.storage.SharedDataCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A JSON document held in a {@link SharedDataCache} entry, with each top-level section stored as its own Smile
+ * document so that a section can be decoded without the others. Sections are decoded on first access and kept, so
+ * a reader only holds the sections it was asked for on its heap.
+ * <p>
+ * The entry starts with the section count, followed by the UTF-8 name and Smile length of each section, and then
+ * the sections' Smile bytes in the same order. A document whose root is not an object is stored whole, with a
+ * section count of -1.
+ */
+final class SharedJsonSections {
+
+    private static final int WHOLE_DOCUMENT = -1;
+
+    private final ObjectMapper smileMapper;
+    private final ByteBuffer encoded;
+    // Buffer position and length of each section's Smile bytes, in document order
+    private final Map<String, int[]> sectionBounds = new LinkedHashMap<>();
+    private final Map<String, JsonNode> decodedSections = new ConcurrentHashMap<>();
+    private final JsonNode wholeDocument;
+
+    private SharedJsonSections(ByteBuffer encoded, ObjectMapper smileMapper) throws IOException {
+        this.smileMapper = smileMapper;
+        this.encoded = encoded.duplicate();
+        ByteBuffer header = encoded.duplicate();
+        int sectionCount = header.getInt();
+        if (sectionCount == WHOLE_DOCUMENT) {
+            wholeDocument = decode(header.position(), header.remaining());
+            return;
+        }
+
+        String[] names = new String[sectionCount];
+        int[] lengths = new int[sectionCount];
+        for (int section = 0; section < sectionCount; section++) {
+            byte[] name = new byte[header.getInt()];
+            header.get(name);
+            names[section] = new String(name, StandardCharsets.UTF_8);
+            lengths[section] = header.getInt();
+        }
+        int position = header.position();
+        for (int section = 0; section < sectionCount; section++) {
+            sectionBounds.put(names[section], new int[]{position, lengths[section]});
+            position += lengths[section];
+        }
+        wholeDocument = null;
+    }
+
+    /**
+     * Wraps a mapped entry written by {@link #encode}.
+     *
+     * @param encoded     The mapped entry
+     * @param smileMapper The mapper the sections are decoded with
+     * @return The sections of the document
+     */
+    static SharedJsonSections wrap(ByteBuffer encoded, ObjectMapper smileMapper) throws IOException {
+        return new SharedJsonSections(encoded, smileMapper);
+    }
+
+    /**
+     * Encodes a parsed document section by section.
+     *
+     * @param document    The parsed document
+     * @param smileMapper The mapper the sections are encoded with
+     * @return The entry to publish
+     */
+    static SharedDataCache.Payload encode(JsonNode document, ObjectMapper smileMapper) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            if (!document.isObject()) {
+                output.writeInt(WHOLE_DOCUMENT);
+                output.write(smileMapper.writeValueAsBytes(document));
+                return SharedDataCache.Payload.of(bytes.toByteArray());
+            }
+
+            Map<String, byte[]> sections = new LinkedHashMap<>();
+            document.fields().forEachRemaining(field -> {
+                try {
+                    sections.put(field.getKey(), smileMapper.writeValueAsBytes(field.getValue()));
+                } catch (IOException error) {
+                    ErrorHandler.logError(error, "encode", "Failed to encode section: {}", field.getKey());
+                    throw new JsonDataReader.JsonDataReaderException("Failed to encode section: " + field.getKey(), error);
+                }
+            });
+            output.writeInt(sections.size());
+            for (Map.Entry<String, byte[]> section : sections.entrySet()) {
+                byte[] name = section.getKey().getBytes(StandardCharsets.UTF_8);
+                output.writeInt(name.length);
+                output.write(name);
+                output.writeInt(section.getValue().length);
+            }
+            for (byte[] section : sections.values()) {
+                output.write(section);
+            }
+        }
+        return SharedDataCache.Payload.of(bytes.toByteArray());
+    }
+
+    /**
+     * Returns a top-level section, decoding it on first access, or a missing node if the document has no such
+     * section.
+     */
+    JsonNode section(String name) {
+        if (wholeDocument != null) {
+            return wholeDocument.path(name);
+        }
+        int[] bounds = sectionBounds.get(name);
+        if (bounds == null) {
+            return MissingNode.getInstance();
+        }
+        return decodedSections.computeIfAbsent(name, key -> {
+            try {
+                return decode(bounds[0], bounds[1]);
+            } catch (IOException error) {
+                ErrorHandler.logError(error, "section", "Failed to decode shared section: {}", name);
+                throw new JsonDataReader.JsonDataReaderException("Failed to decode shared section: " + name, error);
+            }
+        });
+    }
+
+    /**
+     * Returns the whole document, decoding every section that was not read yet.
+     */
+    JsonNode document() {
+        if (wholeDocument != null) {
+            return wholeDocument;
+        }
+        ObjectNode document = smileMapper.createObjectNode();
+        sectionBounds.keySet().forEach(name -> document.set(name, section(name)));
+        return document;
+    }
+
+    private JsonNode decode(int position, int length) throws IOException {
+        ByteBuffer section = encoded.duplicate();
+        section.limit(position + length).position(position);
+        try (InputStream inputStream = new ByteBufferBackedInputStream(section.slice())) {
+            return smileMapper.readTree(inputStream);
+        }
+    }
+}
@@ -2,17 +2,41 @@ package com.data.driven.utils;
 
 import com.data.driven.utils.logging.LoggerUtils;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ErrorHandler {
 
     private static final Logger logger = LoggerUtils.getLogger(ErrorHandler.class);
 
+    // Throwables whose stack trace has already been logged, tracked by identity and released with the throwable
+    private static final Set<Throwable> REPORTED_ERRORS = Collections.newSetFromMap(
+            Collections.synchronizedMap(new WeakHashMap<>()));
+
+    // Repeated identical failures are logged at most this many times per window
+    private static final int MAX_REPEATS_PER_WINDOW = 5;
+    private static final long RATE_LIMIT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_TRACKED_FAILURES = 1024;
+    private static final Map<String, FailureWindow> FAILURE_WINDOWS = new ConcurrentHashMap<>();
+
     private ErrorHandler() {
         throw new AssertionError("Utility class - do not instantiate");
     }
 
     /**
-     * Logs an error with detailed information and returns the error for further handling.
+     * Logs an error with detailed information.
+     * <p>
+     * Each exception chain is logged with its stack trace only once: when the error, or any of its causes,
+     * has already been reported (typically by a lower layer that then wrapped and rethrew it), only a one-line
+     * context message is logged at debug level. Repeated identical failures are rate-limited.
      *
      * @param error        The throwable instance representing the error (required)
      * @param methodName   The name of the method where the error occurred (required)
@@ -23,8 +47,42 @@ public class ErrorHandler {
         validateParameters(error, "error");
         validateParameters(methodName, "methodName");
 
-        String detailedMessage = buildErrorMessage(methodName, errorMessage, error);
-        logger.error(detailedMessage, error);
+        report(error, methodName, errorMessage);
+    }
+
+    /**
+     * Logs an error whose context message is built from a pattern with {@code {}} placeholders.
+     * The message is only formatted if it is actually logged.
+     *
+     * @param error          The throwable instance representing the error (required)
+     * @param methodName     The name of the method where the error occurred (required)
+     * @param messagePattern The context message pattern, using {@code {}} placeholders
+     * @param params         The values for the placeholders
+     * @throws IllegalArgumentException if required parameters are null or invalid
+     */
+    public static void logError(Throwable error, String methodName, String messagePattern, Object... params) {
+        validateParameters(error, "error");
+        validateParameters(methodName, "methodName");
+
+        report(error, methodName, new ParameterizedMessage(messagePattern, params));
+    }
+
+    private static void report(Throwable error, String methodName, Object errorMessage) {
+        if (isAlreadyReported(error)) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Error in method '{}': {}. Cause already reported: {}",
+                        methodName, describe(errorMessage), error.getMessage());
+            }
+            markReported(error);
+            return;
+        }
+        markReported(error);
+
+        if (!logger.isErrorEnabled() || !acquireRatePermit(methodName, error)) {
+            return;
+        }
+        logger.error("Error in method '{}': {}. Error details: {}",
+                methodName, describe(errorMessage), error.getMessage(), error);
     }
 
     private static void validateParameters(Object param, String paramName) {
@@ -36,21 +94,68 @@ public class ErrorHandler {
         }
     }
 
+    private static String describe(Object errorMessage) {
+        if (errorMessage == null) {
+            return "No additional error message provided";
+        }
+        return errorMessage instanceof ParameterizedMessage message
+                ? message.getFormattedMessage()
+                : errorMessage.toString();
+    }
+
+    private static boolean isAlreadyReported(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (REPORTED_ERRORS.contains(current)) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static void markReported(Throwable error) {
+        for (Throwable current = error; current != null && REPORTED_ERRORS.add(current); current = current.getCause()) {
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+    }
+
     /**
-     * Builds a detailed error message with additional context.
-     *
-     * @param methodName   The name of the method where the error occurred (required)
-     * @param errorMessage Additional context about the error (optional)
-     * @param error        The throwable instance representing the error (required)
-     * @return A detailed error message with additional context
+     * Decides whether a failure may be logged, allowing {@link #MAX_REPEATS_PER_WINDOW} identical failures
+     * (same method, exception type and message) per window and summarising the suppressed ones afterwards.
      */
-    private static String buildErrorMessage(String methodName, String errorMessage, Throwable error) {
-        return String.format(
-                "Error in method '%s': %s. Error details: %s",
-                methodName,
-                errorMessage != null ? errorMessage : "No additional error message provided",
-                error.getMessage()
-        );
+    private static boolean acquireRatePermit(String methodName, Throwable error) {
+        if (FAILURE_WINDOWS.size() > MAX_TRACKED_FAILURES) {
+            FAILURE_WINDOWS.clear();
+        }
+
+        String failureKey = methodName + '|' + error.getClass().getName() + '|' + error.getMessage();
+        FailureWindow window = FAILURE_WINDOWS.computeIfAbsent(failureKey, key -> new FailureWindow());
+        long now = System.nanoTime();
+        long windowStart = window.start.get();
+
+        if (now - windowStart > RATE_LIMIT_WINDOW_NANOS && window.start.compareAndSet(windowStart, now)) {
+            int suppressed = window.suppressed.getAndSet(0);
+            window.count.set(0);
+            if (suppressed > 0) {
+                logger.warn("Suppressed {} repeated errors in method '{}': {}", suppressed, methodName, error.getMessage());
+            }
+        }
+
+        if (window.count.incrementAndGet() <= MAX_REPEATS_PER_WINDOW) {
+            return true;
+        }
+        window.suppressed.incrementAndGet();
+        return false;
+    }
+
+    private static final class FailureWindow {
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger suppressed = new AtomicInteger();
     }
 
     /**
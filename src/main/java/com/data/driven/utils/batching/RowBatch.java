@@ -0,0 +1,286 @@
+package com.data.driven.utils.batching;
+
+import com.data.driven.utils.query.RowSource;
+import com.data.driven.utils.results.TestResultRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/**
+ * A chunk of consecutive data rows handed to a single test invocation, so that TestNG's per-invocation work
+ * (listeners, reporters, {@code @BeforeMethod}/{@code @AfterMethod}) is paid once per chunk instead of once per row.
+ * <p>
+ * A batch is either a bound list of rows ({@link #chunks(Iterator, int)}) or a slice of a {@link RowSource}
+ * ({@link #slices(RowSource, int)}); a slice reads single values through {@link #value(int, String)} without
+ * building row maps. Tests check each row through {@link #forEachRow(RowCheck)}, which records a
+ * {@link RowOutcome} per row and fails the invocation if any row failed. The result listeners report those
+ * outcomes as one result per row.
+ *
+ * @param <T> The row type
+ */
+public final class RowBatch<T> implements Iterable<T> {
+
+    private final int firstRow;
+    private final int size;
+    private final IntFunction<T> rowAt;
+    private final RowSource source;
+    private final List<RowOutcome> outcomes = new ArrayList<>();
+
+    private RowBatch(int firstRow, int size, IntFunction<T> rowAt, RowSource source) {
+        this.firstRow = firstRow;
+        this.size = size;
+        this.rowAt = rowAt;
+        this.source = source;
+    }
+
+    /**
+     * Creates a batch over rows that are already bound.
+     *
+     * @param firstRow The provider index of the first row
+     * @param rows     The rows of the batch
+     */
+    public static <T> RowBatch<T> of(int firstRow, List<T> rows) {
+        // Rows may be null, e.g. a JSON null element, so List.copyOf does not fit here
+        List<T> bound = new ArrayList<>(rows);
+        return new RowBatch<>(firstRow, bound.size(), bound::get, null);
+    }
+
+    /**
+     * Creates a batch that reads rows {@code firstRow} to {@code firstRow + size - 1} of a source on demand.
+     *
+     * @param source   The rows to slice
+     * @param firstRow The first row of the slice
+     * @param size     The number of rows in the slice
+     */
+    public static RowBatch<Map<String, Object>> slice(RowSource source, int firstRow, int size) {
+        if (firstRow < 0 || size < 0 || firstRow + size > source.rowCount()) {
+            throw new IllegalArgumentException(String.format("Slice %d+%d is outside a source of %d rows",
+                    firstRow, size, source.rowCount()));
+        }
+        return new RowBatch<>(firstRow, size, row -> source.row(firstRow + row), source);
+    }
+
+    /**
+     * Groups a stream of rows into bound batches, reading one batch ahead of the test at a time.
+     *
+     * @param rows      The rows to group
+     * @param batchSize The number of rows per batch; the last batch may be smaller
+     * @return Iterator of single-element test data, one batch each
+     */
+    public static <T> Iterator<Object[]> chunks(Iterator<T> rows, int batchSize) {
+        validateBatchSize(batchSize);
+        return new Iterator<>() {
+            private int nextRow;
+
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> chunk = new ArrayList<>(batchSize);
+                while (chunk.size() < batchSize && rows.hasNext()) {
+                    chunk.add(rows.next());
+                }
+                RowBatch<T> batch = new RowBatch<>(nextRow, chunk.size(), chunk::get, null);
+                nextRow += chunk.size();
+                return new Object[]{batch};
+            }
+        };
+    }
+
+    /**
+     * Splits a source into consecutive slices; no row is read until a test asks for it.
+     *
+     * @param source    The rows to split
+     * @param batchSize The number of rows per slice; the last slice may be smaller
+     * @return Iterator of single-element test data, one slice each
+     */
+    public static Iterator<Object[]> slices(RowSource source, int batchSize) {
+        validateBatchSize(batchSize);
+        int rowCount = source.rowCount();
+        return new Iterator<>() {
+            private int nextRow;
+
+            @Override
+            public boolean hasNext() {
+                return nextRow < rowCount;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int size = Math.min(batchSize, rowCount - nextRow);
+                RowBatch<Map<String, Object>> batch = slice(source, nextRow, size);
+                nextRow += size;
+                return new Object[]{batch};
+            }
+        };
+    }
+
+    private static void validateBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+    }
+
+    /**
+     * Returns the provider index of the first row in this batch.
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a row of this batch.
+     *
+     * @param row The position within the batch, from 0
+     */
+    public T get(int row) {
+        return rowAt.apply(checkIndex(row));
+    }
+
+    /**
+     * Returns one value of a row. A slice reads the value straight from its source; a bound batch of maps looks
+     * it up in the row.
+     *
+     * @param row    The position within the batch, from 0
+     * @param column The column name
+     * @return The value, or null if the row has no value for the column
+     * @throws IllegalStateException if the rows are bound to a type other than a map
+     */
+    public Object value(int row, String column) {
+        if (source != null) {
+            return source.value(firstRow + checkIndex(row), column);
+        }
+        T data = get(row);
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof Map<?, ?> map) {
+            return map.get(column);
+        }
+        throw new IllegalStateException("Rows of type " + data.getClass().getSimpleName()
+                + " have no columns; use get(row)");
+    }
+
+    private int checkIndex(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is outside a batch of " + size + " rows");
+        }
+        return row;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return row < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return rowAt.apply(row++);
+            }
+        };
+    }
+
+    /**
+     * Runs a check against every row, recording a pass or failure for each. All rows are checked even after a
+     * failure; the invocation then fails with the first failure as the cause.
+     *
+     * @param check The per-row test body
+     * @throws AssertionError if any row failed
+     */
+    public void forEachRow(RowCheck<? super T> check) {
+        outcomes.clear();
+        Throwable firstFailure = null;
+        int firstFailedRow = -1;
+        int failures = 0;
+        for (int row = 0; row < size; row++) {
+            T data = rowAt.apply(row);
+            long startMillis = System.currentTimeMillis();
+            long start = System.nanoTime();
+            Throwable error = null;
+            try {
+                check.check(data);
+            } catch (Exception | AssertionError failure) {
+                error = failure;
+            }
+            outcomes.add(new RowOutcome(firstRow + row, data,
+                    error == null ? TestResultRecord.Status.PASS : TestResultRecord.Status.FAIL,
+                    startMillis, System.nanoTime() - start, error));
+            if (error != null) {
+                failures++;
+                if (firstFailure == null) {
+                    firstFailure = error;
+                    firstFailedRow = firstRow + row;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw new AssertionError(String.format("%d of %d rows failed, first at row %d: %s", failures, size,
+                    firstFailedRow, firstFailure.getMessage()), firstFailure);
+        }
+    }
+
+    /**
+     * Returns the per-row outcomes of the last {@link #forEachRow(RowCheck)} call, empty if it was not called.
+     */
+    public List<RowOutcome> getOutcomes() {
+        return Collections.unmodifiableList(outcomes);
+    }
+
+    @Override
+    public String toString() {
+        return "rows " + firstRow + ".." + (firstRow + size - 1);
+    }
+
+    /**
+     * The body of a batched test for a single row.
+     */
+    @FunctionalInterface
+    public interface RowCheck<T> {
+        void check(T row) throws Exception;
+    }
+
+    /**
+     * The result of checking one row of a batch.
+     *
+     * @param rowIndex      The provider index of the row
+     * @param row           The row
+     * @param status        The outcome
+     * @param startMillis   Start time in epoch milliseconds
+     * @param durationNanos Time spent checking the row
+     * @param error         The failure, or {@code null} if the row passed
+     */
+    public record RowOutcome(
+            int rowIndex,
+            Object row,
+            TestResultRecord.Status status,
+            long startMillis,
+            long durationNanos,
+            Throwable error) {
+    }
+}
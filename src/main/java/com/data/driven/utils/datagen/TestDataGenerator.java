@@ -0,0 +1,469 @@
+package com.data.driven.utils.datagen;
+
+import com.data.driven.config.jackson.JsonDataConfig;
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic test data at scale, as an Excel workbook and as matching JSON, JSON Lines and schema files.
+ * <p>
+ * Every cell is derived from the seed and its own row and column, so the same settings always produce byte-for-byte
+ * comparable data in every format, and any cell can be recomputed without generating the rows before it. Workbooks
+ * are written with {@link SXSSFWorkbook}, which keeps only a small window of rows in memory, so row counts are
+ * limited by disk rather than heap.
+ */
+public class TestDataGenerator {
+
+    private static final Logger logger = LoggerUtils.getLogger(TestDataGenerator.class);
+
+    // Rows kept in memory by SXSSF before they are flushed to the temporary sheet file
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+    private static final int DATE_RANGE_DAYS = 3650;
+    private static final String[] WORDS = {
+            "Alpha", "Bravo", "Cedar", "Delta", "Ember", "Falcon", "Granite", "Harbor",
+            "Indigo", "Juniper", "Kestrel", "Lagoon", "Meadow", "Nimbus", "Orchid", "Pioneer"
+    };
+
+    private final int rows;
+    private final long seed;
+    private final double formulaDensity;
+    private final int sharedStringCardinality;
+    private final String sheetName;
+    private final ColumnType[] columnTypes;
+    private final String[] columnNames;
+
+    public static TestDataGeneratorBuilder builder() {
+        return new TestDataGeneratorBuilder();
+    }
+
+    TestDataGenerator(TestDataGeneratorBuilder builder) {
+        this.rows = builder.getRows();
+        this.seed = builder.getSeed();
+        this.formulaDensity = builder.getFormulaDensity();
+        this.sharedStringCardinality = builder.getSharedStringCardinality();
+        this.sheetName = builder.getSheetName();
+        this.columnTypes = assignColumnTypes(builder.getColumns(), builder.getTypeWeights(), seed);
+        this.columnNames = new String[columnTypes.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnNames[i] = "Column" + i;
+        }
+    }
+
+    private static ColumnType[] assignColumnTypes(int columns, Map<ColumnType, Integer> weights, long seed) {
+        Map<ColumnType, Integer> effective = new EnumMap<>(ColumnType.class);
+        weights.forEach((type, weight) -> {
+            if (weight > 0) {
+                effective.put(type, weight);
+            }
+        });
+        if (effective.isEmpty()) {
+            for (ColumnType type : ColumnType.values()) {
+                effective.put(type, 1);
+            }
+        }
+
+        int totalWeight = effective.values().stream().mapToInt(Integer::intValue).sum();
+        SplittableRandom random = new SplittableRandom(seed);
+        ColumnType[] types = new ColumnType[columns];
+        for (int c = 0; c < columns; c++) {
+            int pick = random.nextInt(totalWeight);
+            for (Map.Entry<ColumnType, Integer> entry : effective.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    types[c] = entry.getKey();
+                    break;
+                }
+            }
+        }
+        return types;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public String[] getColumnNames() {
+        return columnNames.clone();
+    }
+
+    public ColumnType[] getColumnTypes() {
+        return columnTypes.clone();
+    }
+
+    /**
+     * Returns the value of a data cell. Strings, {@link Long}s, {@link Double}s, {@link Boolean}s and
+     * {@link LocalDate}s are returned for the respective column types.
+     *
+     * @param row    Zero-based data row index (the header is not counted)
+     * @param column Zero-based column index
+     * @return The cell value
+     */
+    public Object valueAt(int row, int column) {
+        SplittableRandom random = cellRandom(row, column, 0);
+        return switch (columnTypes[column]) {
+            case STRING -> sharedString(random.nextInt(sharedStringCardinality));
+            case INTEGER -> (long) random.nextInt(100_000);
+            case DECIMAL -> BigDecimal.valueOf(random.nextDouble() * 10_000).setScale(2, RoundingMode.HALF_UP).doubleValue();
+            case BOOLEAN -> random.nextBoolean();
+            case DATE -> BASE_DATE.plusDays(random.nextInt(DATE_RANGE_DAYS));
+        };
+    }
+
+    /**
+     * Returns whether a numeric cell is written to workbooks as a formula rather than a literal.
+     *
+     * @param row    Zero-based data row index
+     * @param column Zero-based column index
+     * @return {@code true} if the cell is a formula cell
+     */
+    public boolean isFormula(int row, int column) {
+        ColumnType type = columnTypes[column];
+        if (formulaDensity == 0.0 || (type != ColumnType.INTEGER && type != ColumnType.DECIMAL)) {
+            return false;
+        }
+        return cellRandom(row, column, 1).nextDouble() < formulaDensity;
+    }
+
+    /**
+     * Returns one data row, with values in column order.
+     *
+     * @param row Zero-based data row index
+     * @return The row values
+     */
+    public Object[] rowAt(int row) {
+        Object[] values = new Object[columnTypes.length];
+        for (int c = 0; c < values.length; c++) {
+            values[c] = valueAt(row, c);
+        }
+        return values;
+    }
+
+    private SplittableRandom cellRandom(int row, int column, int stream) {
+        long cellSeed = seed;
+        cellSeed = cellSeed * 0x9E3779B97F4A7C15L + row;
+        cellSeed = cellSeed * 0x9E3779B97F4A7C15L + column;
+        cellSeed = cellSeed * 0x9E3779B97F4A7C15L + stream;
+        return new SplittableRandom(cellSeed);
+    }
+
+    private static String sharedString(int index) {
+        return WORDS[index % WORDS.length] + "-" + index;
+    }
+
+    /**
+     * Writes the data as an {@code .xlsx} workbook with a header row followed by the data rows.
+     * String cells go through the shared strings table, so its size follows the configured cardinality.
+     *
+     * @param target Path of the workbook to write
+     * @return The target path
+     */
+    public Path writeWorkbook(Path target) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, ROW_ACCESS_WINDOW, true, true);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+            Sheet sheet = workbook.createSheet(sheetName);
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < columnNames.length; c++) {
+                header.createCell(c).setCellValue(columnNames[c]);
+            }
+
+            for (int r = 0; r < rows; r++) {
+                Row row = sheet.createRow(r + 1);
+                for (int c = 0; c < columnTypes.length; c++) {
+                    writeCell(row.createCell(c), r, c, dateStyle);
+                }
+            }
+
+            writeAtomically(target, workbook::write);
+            logger.info("Generated workbook {} ({} rows x {} columns)", target, rows, columnTypes.length);
+            return target;
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "writeWorkbook", "Failed to generate workbook: {}", target);
+            throw new RuntimeException("Failed to generate workbook: " + target, error);
+        } finally {
+            closeQuietly(workbook);
+        }
+    }
+
+    private void writeCell(Cell cell, int row, int column, CellStyle dateStyle) {
+        Object value = valueAt(row, column);
+        switch (value) {
+            case String text -> cell.setCellValue(text);
+            case Boolean flag -> cell.setCellValue(flag);
+            case LocalDate date -> {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateStyle);
+            }
+            case Long number when isFormula(row, column) -> {
+                long half = number / 2;
+                cell.setCellFormula(String.format(Locale.ROOT, "SUM(%d,%d)", half, number - half));
+                cell.setCellValue(number);
+            }
+            case Double number when isFormula(row, column) -> {
+                cell.setCellFormula(String.format(Locale.ROOT, "ROUND(%s,2)", BigDecimal.valueOf(number).toPlainString()));
+                cell.setCellValue(number);
+            }
+            case Number number -> cell.setCellValue(number.doubleValue());
+            default -> cell.setCellValue(value.toString());
+        }
+    }
+
+    private static void closeQuietly(SXSSFWorkbook workbook) {
+        try {
+            workbook.close();
+        } catch (IOException error) {
+            logger.warn("Failed to release SXSSF temporary files: {}", error.getMessage());
+        }
+    }
+
+    /**
+     * Writes the data as a JSON object with one array section per column, the layout {@code JsonDataReader} expects.
+     * Dates are written as ISO-8601 strings.
+     *
+     * @param target Path of the JSON file to write
+     * @return The target path
+     */
+    public Path writeJson(Path target) {
+        try {
+            writeAtomically(target, outputStream -> {
+                try (JsonGenerator generator = createGenerator(outputStream)) {
+                    generator.writeStartObject();
+                    for (int c = 0; c < columnNames.length; c++) {
+                        generator.writeArrayFieldStart(columnNames[c]);
+                        for (int r = 0; r < rows; r++) {
+                            writeJsonValue(generator, valueAt(r, c));
+                        }
+                        generator.writeEndArray();
+                    }
+                    generator.writeEndObject();
+                }
+            });
+            logger.info("Generated JSON data {} ({} values per section)", target, rows);
+            return target;
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "writeJson", "Failed to generate JSON data: {}", target);
+            throw new RuntimeException("Failed to generate JSON data: " + target, error);
+        }
+    }
+
+    /**
+     * Writes the data as JSON Lines, one object per row keyed by column name.
+     *
+     * @param target Path of the JSON Lines file to write
+     * @return The target path
+     */
+    public Path writeJsonLines(Path target) {
+        try {
+            writeAtomically(target, outputStream -> {
+                try (JsonGenerator generator = JsonDataConfig.createJsonLinesGenerator(outputStream)) {
+                    for (int r = 0; r < rows; r++) {
+                        generator.writeStartObject();
+                        for (int c = 0; c < columnNames.length; c++) {
+                            generator.writeFieldName(columnNames[c]);
+                            writeJsonValue(generator, valueAt(r, c));
+                        }
+                        generator.writeEndObject();
+                        generator.writeRaw('\n');
+                    }
+                }
+            });
+            logger.info("Generated JSON Lines data {} ({} records)", target, rows);
+            return target;
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "writeJsonLines", "Failed to generate JSON Lines data: {}", target);
+            throw new RuntimeException("Failed to generate JSON Lines data: " + target, error);
+        }
+    }
+
+    /**
+     * Writes a draft-07 schema describing the file produced by {@link #writeJson(Path)}.
+     *
+     * @param target Path of the schema file to write
+     * @return The target path
+     */
+    public Path writeSchema(Path target) {
+        try {
+            writeAtomically(target, outputStream -> {
+                try (JsonGenerator generator = createGenerator(outputStream)) {
+                    generator.useDefaultPrettyPrinter();
+                    generator.writeStartObject();
+                    generator.writeStringField("$schema", "http://json-schema.org/draft-07/schema#");
+                    generator.writeStringField("type", "object");
+                    generator.writeObjectFieldStart("properties");
+                    for (int c = 0; c < columnNames.length; c++) {
+                        generator.writeObjectFieldStart(columnNames[c]);
+                        generator.writeStringField("type", "array");
+                        generator.writeObjectFieldStart("items");
+                        generator.writeStringField("type", columnTypes[c].getSchemaType());
+                        if (columnTypes[c] == ColumnType.DATE) {
+                            generator.writeStringField("format", "date");
+                        }
+                        generator.writeEndObject();
+                        generator.writeNumberField("minItems", rows);
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndObject();
+                    generator.writeArrayFieldStart("required");
+                    for (String name : columnNames) {
+                        generator.writeString(name);
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+            });
+            return target;
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "writeSchema", "Failed to generate JSON schema: {}", target);
+            throw new RuntimeException("Failed to generate JSON schema: " + target, error);
+        }
+    }
+
+    /**
+     * Writes the workbook, JSON, JSON Lines and schema files into a directory, named after {@code baseName}.
+     *
+     * @param directory The output directory, created if missing
+     * @param baseName  The file name without extension
+     * @return The written paths, in the order workbook, JSON, JSON Lines, schema
+     */
+    public List<Path> writeAll(Path directory, String baseName) {
+        List<Path> written = new ArrayList<>(4);
+        written.add(writeWorkbook(directory.resolve(baseName + ".xlsx")));
+        written.add(writeJson(directory.resolve(baseName + ".json")));
+        written.add(writeJsonLines(directory.resolve(baseName + ".jsonl")));
+        written.add(writeSchema(directory.resolve(baseName + ".schema.json")));
+        return written;
+    }
+
+    private static JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return JsonDataConfig.getObjectMapper().getFactory().createGenerator(outputStream);
+    }
+
+    private static void writeJsonValue(JsonGenerator generator, Object value) throws IOException {
+        switch (value) {
+            case String text -> generator.writeString(text);
+            case Long number -> generator.writeNumber(number);
+            case Double number -> generator.writeNumber(number);
+            case Boolean flag -> generator.writeBoolean(flag);
+            default -> generator.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Writes to a temporary sibling and moves it into place, so a reader never sees a partially generated file.
+     */
+    private static void writeAtomically(Path target, OutputWriter writer) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                writer.write(outputStream);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    private interface OutputWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Command-line entry point.
+     * <pre>
+     * TestDataGenerator [--rows N] [--columns N] [--seed N] [--formula-density F] [--cardinality N]
+     *                   [--mix STRING=2,INTEGER=1,...] [--sheet NAME] [--output DIR] [--name BASE]
+     * </pre>
+     */
+    public static void main(String[] args) {
+        TestDataGeneratorBuilder builder = builder();
+        Path output = Path.of("target", "generated-data");
+        String baseName = "generated";
+
+        for (int i = 0; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + args[i]);
+            }
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--rows" -> builder.setRows(Integer.parseInt(value));
+                case "--columns" -> builder.setColumns(Integer.parseInt(value));
+                case "--seed" -> builder.setSeed(Long.parseLong(value));
+                case "--formula-density" -> builder.setFormulaDensity(Double.parseDouble(value));
+                case "--cardinality" -> builder.setSharedStringCardinality(Integer.parseInt(value));
+                case "--sheet" -> builder.setSheetName(value);
+                case "--output" -> output = Path.of(value);
+                case "--name" -> baseName = value;
+                case "--mix" -> Arrays.stream(value.split(",")).forEach(entry -> {
+                    String[] parts = entry.split("=", 2);
+                    int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1;
+                    builder.setTypeWeight(ColumnType.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+                });
+                default -> usage("Unknown option " + args[i - 1]);
+            }
+        }
+
+        builder.build().writeAll(output, baseName).forEach(System.out::println);
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: TestDataGenerator [--rows N] [--columns N] [--seed N] [--formula-density F] "
+                + "[--cardinality N] [--mix STRING=2,INTEGER=1,DECIMAL=1,BOOLEAN=1,DATE=1] [--sheet NAME] "
+                + "[--output DIR] [--name BASE]");
+        System.exit(1);
+    }
+
+    /**
+     * Column types the generator can produce, with the JSON schema type each maps to.
+     */
+    public enum ColumnType {
+        STRING("string"),
+        INTEGER("integer"),
+        DECIMAL("number"),
+        BOOLEAN("boolean"),
+        DATE("string");
+
+        private final String schemaType;
+
+        ColumnType(String schemaType) {
+            this.schemaType = schemaType;
+        }
+
+        public String getSchemaType() {
+            return schemaType;
+        }
+    }
+}
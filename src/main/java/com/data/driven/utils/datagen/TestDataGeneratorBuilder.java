@@ -0,0 +1,147 @@
+package com.data.driven.utils.datagen;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class TestDataGeneratorBuilder {
+
+    private int rows = 1000;
+    private int columns = 10;
+    private long seed = 42L;
+    private double formulaDensity = 0.0;
+    private int sharedStringCardinality = 1000;
+    private String sheetName = "Data";
+    private final Map<TestDataGenerator.ColumnType, Integer> typeWeights = new EnumMap<>(TestDataGenerator.ColumnType.class);
+
+    public TestDataGeneratorBuilder() {}
+
+    /**
+     * Sets the number of data rows, excluding the header row.
+     *
+     * @param rows The number of data rows
+     * @return This builder instance
+     */
+    public TestDataGeneratorBuilder setRows(int rows) {
+        this.rows = rows;
+        return this;
+    }
+
+    /**
+     * Sets the number of columns.
+     *
+     * @param columns The number of columns
+     * @return This builder instance
+     */
+    public TestDataGeneratorBuilder setColumns(int columns) {
+        this.columns = columns;
+        return this;
+    }
+
+    /**
+     * Sets the seed all generated values derive from. The same seed and settings always produce the same data.
+     *
+     * @param seed The random seed
+     * @return This builder instance
+     */
+    public TestDataGeneratorBuilder setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of numeric cells written to workbooks as formulas (with a cached result).
+     *
+     * @param formulaDensity A fraction between 0 and 1
+     * @return This builder instance
+     */
+    public TestDataGeneratorBuilder setFormulaDensity(double formulaDensity) {
+        this.formulaDensity = formulaDensity;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct values string columns draw from, which drives the size of
+     * the workbook's shared strings table.
+     *
+     * @param sharedStringCardinality The number of distinct string values
+     * @return This builder instance
+     */
+    public TestDataGeneratorBuilder setSharedStringCardinality(int sharedStringCardinality) {
+        this.sharedStringCardinality = sharedStringCardinality;
+        return this;
+    }
+
+    /**
+     * Sets the relative weight of a column type in the type mix. Types without a weight are not generated,
+     * unless no weights are set at all, in which case every type is equally likely.
+     *
+     * @param type   The column type
+     * @param weight The relative weight
+     * @return This builder instance
+     */
+    public TestDataGeneratorBuilder setTypeWeight(TestDataGenerator.ColumnType type, int weight) {
+        this.typeWeights.put(type, weight);
+        return this;
+    }
+
+    /**
+     * Sets the sheet name used in generated workbooks.
+     *
+     * @param sheetName The sheet name
+     * @return This builder instance
+     */
+    public TestDataGeneratorBuilder setSheetName(String sheetName) {
+        this.sheetName = sheetName;
+        return this;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getFormulaDensity() {
+        return formulaDensity;
+    }
+
+    public int getSharedStringCardinality() {
+        return sharedStringCardinality;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public Map<TestDataGenerator.ColumnType, Integer> getTypeWeights() {
+        return typeWeights;
+    }
+
+    /**
+     * Builds a {@link TestDataGenerator} instance with the configured parameters.
+     *
+     * @return A new {@link TestDataGenerator} instance
+     * @throws IllegalStateException If a parameter is out of range
+     */
+    public TestDataGenerator build() {
+        if (rows < 0) {
+            throw new IllegalStateException("rows must not be negative");
+        }
+        if (columns <= 0) {
+            throw new IllegalStateException("columns must be positive");
+        }
+        if (formulaDensity < 0.0 || formulaDensity > 1.0) {
+            throw new IllegalStateException("formulaDensity must be between 0 and 1");
+        }
+        if (sharedStringCardinality <= 0) {
+            throw new IllegalStateException("sharedStringCardinality must be positive");
+        }
+        return new TestDataGenerator(this);
+    }
+}
@@ -0,0 +1,127 @@
+package com.data.driven.utils.metrics;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-thread capture of what a data provider read and how long it spent preparing each row.
+ * <p>
+ * A test listener opens a capture on the thread that runs a data provider; the provider code reports its sources
+ * and row timings into it, and the listener collects the result when the provider returns. Outside a capture every
+ * call is a {@link ThreadLocal} lookup and nothing more, so benchmarks and tools calling the same provider code
+ * pay no measurable cost.
+ */
+public final class DataAccessTelemetry {
+
+    private static final ThreadLocal<Capture> CAPTURE = new ThreadLocal<>();
+
+    private DataAccessTelemetry() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    /**
+     * Starts capturing on the current thread, discarding any unfinished capture.
+     */
+    public static void beginCapture() {
+        CAPTURE.set(new Capture());
+    }
+
+    /**
+     * Ends the capture on the current thread.
+     *
+     * @return The captured data, or {@code null} if no capture was open
+     */
+    public static Capture endCapture() {
+        Capture capture = CAPTURE.get();
+        CAPTURE.remove();
+        return capture;
+    }
+
+    /**
+     * Records a data source read by the running provider. Unused coordinates may be {@code null}.
+     *
+     * @param file    The data file
+     * @param sheet   The sheet, for Excel sources
+     * @param section The section, for JSON sources
+     * @param columns The columns projected from the source
+     */
+    public static void recordSource(String file, String sheet, String section, String... columns) {
+        Capture capture = CAPTURE.get();
+        if (capture != null) {
+            capture.sources.add(new DataSource(file, sheet, section, columns == null ? List.of() : Arrays.asList(columns)));
+        }
+    }
+
+    /**
+     * Marks the start of preparing one row.
+     *
+     * @return A start timestamp to pass to {@link #rowEnd(long)}, or 0 when not capturing
+     */
+    public static long rowStart() {
+        return CAPTURE.get() == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records the time spent preparing one row since {@link #rowStart()}.
+     *
+     * @param start The value returned by {@link #rowStart()}
+     */
+    public static void rowEnd(long start) {
+        if (start == 0) {
+            return;
+        }
+        Capture capture = CAPTURE.get();
+        if (capture != null) {
+            capture.rows.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * What one provider invocation read and how long its rows took to prepare.
+     */
+    public static final class Capture {
+        private final List<DataSource> sources = new ArrayList<>(1);
+        private final LatencyHistogram rows = new LatencyHistogram();
+
+        public List<DataSource> getSources() {
+            return sources;
+        }
+
+        public LatencyHistogram getRows() {
+            return rows;
+        }
+
+        /**
+         * The sources as a single string, for example {@code booking.xlsx#BookingData[Location, Hotels]}.
+         */
+        public String describeSources() {
+            return sources.stream().map(DataSource::describe).reduce((a, b) -> a + " + " + b).orElse("");
+        }
+    }
+
+    /**
+     * Coordinates of a data source; unused coordinates are {@code null}.
+     */
+    public record DataSource(String file, String sheet, String section, List<String> columns) {
+
+        public String describe() {
+            StringBuilder description = new StringBuilder();
+            if (file != null) {
+                Path fileName = Path.of(file).getFileName();
+                description.append(fileName == null ? file : fileName.toString());
+            }
+            if (sheet != null) {
+                description.append('#').append(sheet);
+            }
+            if (section != null) {
+                description.append(description.isEmpty() ? "" : "/").append(section);
+            }
+            if (!columns.isEmpty()) {
+                description.append(columns);
+            }
+            return description.toString();
+        }
+    }
+}
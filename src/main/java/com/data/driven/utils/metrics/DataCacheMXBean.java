@@ -0,0 +1,46 @@
+package com.data.driven.utils.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of a data cache, published under {@code com.data.driven:type=DataCache,name=<cache>}.
+ */
+public interface DataCacheMXBean {
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRatio();
+
+    long getLoadCount();
+
+    long getLoadFailureCount();
+
+    double getAverageLoadTimeMillis();
+
+    double getMaxLoadTimeMillis();
+
+    /**
+     * Load-time distribution, keyed by bucket upper bound (for example {@code "<4ms"}).
+     */
+    Map<String, Long> getLoadTimeHistogram();
+
+    long getEvictionCount();
+
+    int getEntryCount();
+
+    /**
+     * Rough estimate of the heap retained by the cached values, computed on each read.
+     */
+    long getEstimatedRetainedBytes();
+
+    List<String> dumpKeys();
+
+    boolean invalidate(String key);
+
+    void invalidateAll();
+
+    void resetStatistics();
+}
@@ -0,0 +1,322 @@
+package com.data.driven.utils.metrics;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss, load and eviction statistics for one data cache, exposed over JMX.
+ * <p>
+ * Counters are {@link LongAdder}s so recording from many test threads does not contend. One instance exists per
+ * cache name; a cache that is rebuilt (for example a reloaded dataset) re-binds its {@link CacheControl} and keeps
+ * accumulating into the same counters.
+ */
+public final class DataCacheMetrics implements DataCacheMXBean {
+
+    private static final Logger logger = LoggerUtils.getLogger(DataCacheMetrics.class);
+
+    private static final String OBJECT_NAME_PATTERN = "com.data.driven:type=DataCache,name=%s";
+    private static final Map<String, DataCacheMetrics> INSTANCES = new ConcurrentHashMap<>();
+
+    // Power-of-two millisecond buckets: <1ms, <2ms, <4ms ... <1024ms, and an overflow bucket
+    private static final int HISTOGRAM_BUCKETS = 12;
+
+    private final String cacheName;
+    private volatile CacheControl control;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+    private final AtomicLongArray loadTimeHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+    private DataCacheMetrics(String cacheName, CacheControl control) {
+        this.cacheName = cacheName;
+        this.control = control;
+    }
+
+    /**
+     * Returns the metrics for a cache, creating and registering its MBean on first use.
+     * Subsequent calls for the same name re-bind the control to the latest cache instance.
+     *
+     * @param cacheName The cache name used in the MBean's object name
+     * @param control   Callbacks into the cache for sizes, keys and invalidation
+     * @return The metrics instance for the cache
+     */
+    public static DataCacheMetrics register(String cacheName, CacheControl control) {
+        DataCacheMetrics metrics = INSTANCES.computeIfAbsent(cacheName, name -> {
+            DataCacheMetrics created = new DataCacheMetrics(name, control);
+            registerMBean(created);
+            return created;
+        });
+        metrics.control = control;
+        return metrics;
+    }
+
+    /**
+     * Removes a cache's metrics and unregisters its MBean, so neither keeps the cache reachable after it is closed.
+     *
+     * @param cacheName The cache name passed to {@link #register(String, CacheControl)}
+     */
+    public static void unregister(String cacheName) {
+        DataCacheMetrics metrics = INSTANCES.remove(cacheName);
+        if (metrics != null) {
+            unregisterMBean(metrics);
+        }
+    }
+
+    /**
+     * Unregisters a cache only while the given control is still bound to it. A replaced cache that is closed after
+     * its successor registered under the same name leaves the successor's metrics in place.
+     *
+     * @param cacheName The cache name passed to {@link #register(String, CacheControl)}
+     * @param control   The control the closing cache registered with
+     */
+    public static void unregister(String cacheName, CacheControl control) {
+        DataCacheMetrics metrics = INSTANCES.get(cacheName);
+        if (metrics != null && metrics.control == control && INSTANCES.remove(cacheName, metrics)) {
+            unregisterMBean(metrics);
+        }
+    }
+
+    private static ObjectName objectName(DataCacheMetrics metrics) throws Exception {
+        return new ObjectName(String.format(OBJECT_NAME_PATTERN, ObjectName.quote(metrics.cacheName)));
+    }
+
+    private static void unregisterMBean(DataCacheMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(metrics));
+            logger.debug("Unregistered cache MBean for '{}'", metrics.cacheName);
+        } catch (InstanceNotFoundException error) {
+            logger.debug("Cache MBean for '{}' was not registered", metrics.cacheName);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "unregisterMBean", "Failed to unregister cache MBean for: {}", metrics.cacheName);
+        }
+    }
+
+    private static void registerMBean(DataCacheMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(metrics);
+            server.registerMBean(metrics, objectName);
+            logger.debug("Registered cache MBean {}", objectName);
+        } catch (InstanceAlreadyExistsException error) {
+            logger.debug("Cache MBean for '{}' already registered", metrics.cacheName);
+        } catch (Exception error) {
+            // Metrics are best effort and must never break data loading
+            ErrorHandler.logError(error, "registerMBean", "Failed to register cache MBean for: {}", metrics.cacheName);
+        }
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordLoad(long durationNanos) {
+        loads.increment();
+        totalLoadNanos.add(durationNanos);
+        maxLoadNanos.accumulateAndGet(durationNanos, Math::max);
+        loadTimeHistogram.incrementAndGet(bucketOf(durationNanos));
+    }
+
+    public void recordLoadFailure() {
+        loadFailures.increment();
+    }
+
+    public void recordEvictions(long count) {
+        evictions.add(count);
+    }
+
+    private static int bucketOf(long durationNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        int bucket = millis == 0 ? 0 : 64 - Long.numberOfLeadingZeros(millis);
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    @Override
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    @Override
+    public double getAverageLoadTimeMillis() {
+        long loadCount = loads.sum();
+        return loadCount == 0 ? 0.0 : totalLoadNanos.sum() / (loadCount * 1_000_000.0);
+    }
+
+    @Override
+    public double getMaxLoadTimeMillis() {
+        return maxLoadNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public Map<String, Long> getLoadTimeHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < HISTOGRAM_BUCKETS - 1; i++) {
+            histogram.put("<" + (1L << i) + "ms", loadTimeHistogram.get(i));
+        }
+        histogram.put(">=" + (1L << (HISTOGRAM_BUCKETS - 2)) + "ms", loadTimeHistogram.get(HISTOGRAM_BUCKETS - 1));
+        return histogram;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public int getEntryCount() {
+        return control.entryCount();
+    }
+
+    @Override
+    public long getEstimatedRetainedBytes() {
+        long total = 0;
+        for (Object value : control.values()) {
+            total += estimateSize(value);
+        }
+        return total;
+    }
+
+    @Override
+    public List<String> dumpKeys() {
+        return control.keys();
+    }
+
+    @Override
+    public boolean invalidate(String key) {
+        boolean removed = control.invalidate(key);
+        if (removed) {
+            evictions.increment();
+        }
+        return removed;
+    }
+
+    @Override
+    public void invalidateAll() {
+        evictions.add(control.entryCount());
+        control.invalidateAll();
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        loads.reset();
+        loadFailures.reset();
+        evictions.reset();
+        totalLoadNanos.reset();
+        maxLoadNanos.set(0);
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            loadTimeHistogram.set(i, 0);
+        }
+    }
+
+    /**
+     * Estimates the shallow-plus-contents heap size of a cached value using typical 64-bit JVM layouts
+     * with compressed references. Good enough to compare caches and spot growth, not an exact measure.
+     *
+     * @param value The cached value
+     * @return The estimated size in bytes
+     */
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return 40 + string.length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16;
+        }
+        if (value instanceof Date) {
+            return 24;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 48 + 16L * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32 + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 40 + 4L * collection.size();
+            for (Object element : collection) {
+                size += estimateSize(element);
+            }
+            return size;
+        }
+        if (value instanceof Object[] array) {
+            long size = 16 + 4L * array.length;
+            for (Object element : array) {
+                size += estimateSize(element);
+            }
+            return size;
+        }
+        return 16;
+    }
+
+    /**
+     * Callbacks a cache provides so its MBean can report sizes and act on entries.
+     */
+    public interface CacheControl {
+
+        int entryCount();
+
+        /**
+         * The cached values, used to estimate retained heap.
+         */
+        Collection<?> values();
+
+        List<String> keys();
+
+        boolean invalidate(String key);
+
+        void invalidateAll();
+    }
+}
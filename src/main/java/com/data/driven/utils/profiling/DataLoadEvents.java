@@ -0,0 +1,160 @@
+package com.data.driven.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events for the data-loading phases.
+ * <p>
+ * Events are recorded with {@code begin()}/{@code commit()}; when no recording is running, or the event type is
+ * disabled, {@code commit()} is a no-op and the cost is a single enabled check. High-frequency events carry a
+ * threshold and no stack trace so they can stay enabled in CI recordings.
+ * <p>
+ * Record with {@code -XX:StartFlightRecording:filename=data-load.jfr} and inspect under the "Data Driven" category.
+ */
+public final class DataLoadEvents {
+
+    private DataLoadEvents() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    @Name("com.data.driven.WorkbookOpen")
+    @Label("Workbook Open")
+    @Category({"Data Driven", "Excel"})
+    @Description("Opening and parsing an Excel workbook")
+    public static class WorkbookOpen extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("File Size")
+        @DataAmount
+        public long byteCount;
+    }
+
+    @Name("com.data.driven.SheetParse")
+    @Label("Sheet Parse")
+    @Category({"Data Driven", "Excel"})
+    @Description("Converting a sheet to row maps")
+    public static class SheetParse extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("Sheet")
+        public String sheet;
+
+        @Label("Row Count")
+        public int rowCount;
+    }
+
+    @Name("com.data.driven.RowDecodeBatch")
+    @Label("Row Decode Batch")
+    @Category({"Data Driven", "Excel"})
+    @Description("Decoding a batch of consecutive rows")
+    @StackTrace(false)
+    @Threshold("1 ms")
+    public static class RowDecodeBatch extends Event {
+        @Label("Sheet")
+        public String sheet;
+
+        @Label("First Row")
+        public int firstRow;
+
+        @Label("Row Count")
+        public int rowCount;
+    }
+
+    @Name("com.data.driven.FormulaEvaluation")
+    @Label("Formula Evaluation")
+    @Category({"Data Driven", "Excel"})
+    @Description("Evaluating a single formula cell")
+    @StackTrace(false)
+    @Threshold("1 ms")
+    public static class FormulaEvaluation extends Event {
+        @Label("Sheet")
+        public String sheet;
+
+        @Label("Row")
+        public int row;
+
+        @Label("Column")
+        public int column;
+    }
+
+    @Name("com.data.driven.JsonParse")
+    @Label("JSON Parse")
+    @Category({"Data Driven", "JSON"})
+    @Description("Parsing a JSON data file into a tree")
+    public static class JsonParse extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("Format")
+        public String format;
+
+        @Label("File Size")
+        @DataAmount
+        public long byteCount;
+    }
+
+    @Name("com.data.driven.SchemaValidation")
+    @Label("Schema Validation")
+    @Category({"Data Driven", "JSON"})
+    @Description("Validating JSON data against its schema")
+    public static class SchemaValidation extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("Schema")
+        public String schema;
+
+        @Label("Error Count")
+        public int errorCount;
+    }
+
+    @Name("com.data.driven.CacheAccess")
+    @Label("Cache Access")
+    @Category({"Data Driven", "Cache"})
+    @Description("Miss in a data cache; load events span the time to populate the missing entry")
+    @StackTrace(false)
+    public static class CacheAccess extends Event {
+        // Hits are only counted in DataCacheMetrics; an event per cached getter would cost more than the lookup
+        public static final String MISS = "miss";
+        public static final String LOAD = "load";
+
+        @Label("Cache")
+        public String cache;
+
+        @Label("Key")
+        public String key;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("com.data.driven.DataProviderIteration")
+    @Label("Data Provider Iteration")
+    @Category({"Data Driven", "Data Provider"})
+    @Description("Building the rows handed to a TestNG data provider")
+    public static class DataProviderIteration extends Event {
+        @Label("Provider")
+        public String provider;
+
+        @Label("File")
+        public String file;
+
+        @Label("Sheet")
+        public String sheet;
+
+        @Label("Section")
+        public String section;
+
+        @Label("Row Count")
+        public int rowCount;
+    }
+}
@@ -0,0 +1,61 @@
+package com.data.driven.utils.query;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A hash index from the values of one column to the rows holding them, in ascending row order.
+ * <p>
+ * Keys are compared the way query conditions compare values: numbers by numeric value whatever their type, so
+ * {@code 2}, {@code 2L} and {@code 2.0} find the same rows, and everything else by {@code equals}. Rows without a
+ * value for the column are not indexed.
+ */
+public final class ColumnIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final Map<Object, int[]> rowsByKey;
+
+    private ColumnIndex(Map<Object, int[]> rowsByKey) {
+        this.rowsByKey = rowsByKey;
+    }
+
+    /**
+     * Builds an index by scanning one column of a source.
+     *
+     * @param source The rows to index
+     * @param column The column to index
+     * @return The index
+     */
+    public static ColumnIndex build(RowSource source, String column) {
+        Map<Object, int[]> rowsByKey = new HashMap<>();
+        Map<Object, Integer> counts = new HashMap<>();
+        for (int row = 0; row < source.rowCount(); row++) {
+            Object value = source.value(row, column);
+            if (value != null) {
+                Object key = QueryValues.key(value);
+                int count = counts.merge(key, 1, Integer::sum);
+                int[] rows = rowsByKey.get(key);
+                if (rows == null || rows.length < count) {
+                    rows = rows == null ? new int[4] : Arrays.copyOf(rows, rows.length * 2);
+                    rowsByKey.put(key, rows);
+                }
+                rows[count - 1] = row;
+            }
+        }
+        rowsByKey.replaceAll((key, rows) -> Arrays.copyOf(rows, counts.get(key)));
+        return new ColumnIndex(rowsByKey);
+    }
+
+    /**
+     * Returns the rows whose value equals a key, in ascending order.
+     */
+    public int[] lookup(Object value) {
+        return value == null ? NO_ROWS : rowsByKey.getOrDefault(QueryValues.key(value), NO_ROWS);
+    }
+
+    public int size() {
+        return rowsByKey.size();
+    }
+}
@@ -0,0 +1,142 @@
+package com.data.driven.utils.query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A compiled {@code WHERE} clause. Conditions read only the columns they reference, one value at a time.
+ */
+sealed interface Condition {
+
+    boolean test(RowSource source, int row);
+
+    enum Operator {
+        EQ("="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        private boolean accepts(int comparison) {
+            return switch (this) {
+                case EQ -> comparison == 0;
+                case NE -> comparison != 0;
+                case LT -> comparison < 0;
+                case LE -> comparison <= 0;
+                case GT -> comparison > 0;
+                case GE -> comparison >= 0;
+            };
+        }
+    }
+
+    record And(List<Condition> conditions) implements Condition {
+        @Override
+        public boolean test(RowSource source, int row) {
+            for (Condition condition : conditions) {
+                if (!condition.test(source, row)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return conditions.stream().map(Condition::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    record Or(List<Condition> conditions) implements Condition {
+        @Override
+        public boolean test(RowSource source, int row) {
+            for (Condition condition : conditions) {
+                if (condition.test(source, row)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return conditions.stream().map(Condition::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    record Not(Condition condition) implements Condition {
+        @Override
+        public boolean test(RowSource source, int row) {
+            return !condition.test(source, row);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + condition;
+        }
+    }
+
+    /**
+     * A comparison with a literal. Rows without a value never match; use {@link IsNull} for those.
+     */
+    record Compare(String column, Operator operator, Object literal) implements Condition {
+        @Override
+        public boolean test(RowSource source, int row) {
+            Object value = source.value(row, column);
+            if (value == null) {
+                return false;
+            }
+            Integer comparison = QueryValues.compare(value, literal);
+            if (comparison == null) {
+                // Values of another type are unequal to the literal and neither smaller nor larger
+                return operator == Operator.NE;
+            }
+            return operator.accepts(comparison);
+        }
+
+        @Override
+        public String toString() {
+            return column + " " + operator.symbol + " " + literal;
+        }
+    }
+
+    record In(String column, List<Object> literals, Set<Object> keys) implements Condition {
+        @Override
+        public boolean test(RowSource source, int row) {
+            Object value = source.value(row, column);
+            return value != null && keys.contains(QueryValues.key(value));
+        }
+
+        @Override
+        public String toString() {
+            return column + " IN " + literals;
+        }
+    }
+
+    record IsNull(String column, boolean negated) implements Condition {
+        @Override
+        public boolean test(RowSource source, int row) {
+            return (source.value(row, column) == null) != negated;
+        }
+
+        @Override
+        public String toString() {
+            return column + (negated ? " IS NOT NULL" : " IS NULL");
+        }
+    }
+
+    record Like(String column, String pattern, Pattern regex) implements Condition {
+        @Override
+        public boolean test(RowSource source, int row) {
+            return source.value(row, column) instanceof String value && regex.matcher(value).matches();
+        }
+
+        @Override
+        public String toString() {
+            return column + " LIKE '" + pattern + "'";
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.data.driven.utils.query;
+
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A compiled query over rows of test data, for providers that need more than a column projection, e.g.
+ * <pre>
+ * SELECT DISTINCT Hotels WHERE NumberOfRooms &gt; 2 AND Location IN ('Sydney', 'Melbourne')
+ *     ORDER BY Location LIMIT 50
+ * </pre>
+ * See {@link QueryParser} for the full grammar. {@link #compile(String)} caches compiled queries by their text, so
+ * a provider can pass the same query on every call without parsing it again.
+ * <p>
+ * Execution is lazy and runs in this order:
+ * <ol>
+ *     <li>Candidate rows come from an index lookup when the source has an index on a column that a top-level
+ *     {@code =} or {@code IN} condition constrains; otherwise all rows are scanned.</li>
+ *     <li>The {@code WHERE} condition is checked one value at a time through {@link RowSource#value}, so a
+ *     columnar source only decodes the referenced columns.</li>
+ *     <li>{@code ORDER BY} collects and sorts the matching rows on first use; without it, rows are streamed.</li>
+ *     <li>{@code DISTINCT}, {@code OFFSET}, {@code LIMIT} and the projection are applied as rows are pulled.</li>
+ * </ol>
+ * Each result row is a single row map for {@code SELECT *}, or the selected values in column order otherwise.
+ */
+public final class DataQuery {
+
+    private static final Logger logger = LoggerUtils.getLogger(DataQuery.class);
+    private static final int MAX_CACHED_PLANS = 512;
+    private static final Map<String, DataQuery> PLAN_CACHE = new ConcurrentHashMap<>();
+
+    private final String text;
+    private final List<String> columns;
+    private final boolean distinct;
+    private final Condition where;
+    private final List<SortKey> orderBy;
+    private final long limit;
+    private final long offset;
+    private final List<IndexProbe> indexProbes;
+
+    DataQuery(String text, List<String> columns, boolean distinct, Condition where, List<SortKey> orderBy,
+              long limit, long offset) {
+        this.text = text;
+        this.columns = columns == null ? null : List.copyOf(columns);
+        this.distinct = distinct;
+        this.where = where;
+        this.orderBy = List.copyOf(orderBy);
+        this.limit = limit;
+        this.offset = offset;
+        this.indexProbes = indexProbes(where);
+    }
+
+    /**
+     * Compiles a query, or returns the cached plan for the same text.
+     *
+     * @param text The query text
+     * @return The compiled query
+     * @throws IllegalArgumentException if the text is not a valid query
+     */
+    public static DataQuery compile(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        DataQuery cached = PLAN_CACHE.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        DataQuery compiled = QueryParser.parse(text);
+        if (PLAN_CACHE.size() >= MAX_CACHED_PLANS) {
+            // Queries are written in test code, so a full cache means generated query text; start over
+            PLAN_CACHE.clear();
+        }
+        PLAN_CACHE.put(text, compiled);
+        logger.debug("Compiled query plan: {}", compiled);
+        return compiled;
+    }
+
+    /**
+     * Returns the selected columns, or an empty list for {@code SELECT *}.
+     */
+    public List<String> getColumns() {
+        return columns == null ? List.of() : columns;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Runs the query lazily: nothing is read from the source until the first call to {@code hasNext()}.
+     *
+     * @param source The rows to query
+     * @return Iterator of result rows in data provider form
+     */
+    public Iterator<Object[]> execute(RowSource source) {
+        return new Iterator<>() {
+            private RowStream rows;
+            private Object[] nextRow;
+
+            @Override
+            public boolean hasNext() {
+                if (nextRow == null) {
+                    if (rows == null) {
+                        rows = plan(source);
+                    }
+                    int row = rows.next();
+                    nextRow = row < 0 ? null : project(source, row);
+                }
+                return nextRow != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] result = nextRow;
+                nextRow = null;
+                return result;
+            }
+        };
+    }
+
+    private RowStream plan(RowSource source) {
+        RowStream rows = candidates(source);
+        if (where != null) {
+            RowStream unfiltered = rows;
+            rows = () -> {
+                int row;
+                while ((row = unfiltered.next()) >= 0) {
+                    if (where.test(source, row)) {
+                        return row;
+                    }
+                }
+                return -1;
+            };
+        }
+        if (!orderBy.isEmpty()) {
+            rows = sorted(source, rows);
+        }
+        if (distinct) {
+            RowStream all = rows;
+            Set<List<Object>> seen = new HashSet<>();
+            rows = () -> {
+                int row;
+                while ((row = all.next()) >= 0) {
+                    if (seen.add(distinctKey(source, row))) {
+                        return row;
+                    }
+                }
+                return -1;
+            };
+        }
+        if (offset > 0 || limit >= 0) {
+            RowStream all = rows;
+            long[] position = {0};
+            rows = () -> {
+                while (position[0] < offset) {
+                    if (all.next() < 0) {
+                        return -1;
+                    }
+                    position[0]++;
+                }
+                if (limit >= 0 && position[0] >= offset + limit) {
+                    return -1;
+                }
+                position[0]++;
+                return all.next();
+            };
+        }
+        return rows;
+    }
+
+    /**
+     * Looks up candidate rows in the smallest matching index, or falls back to a full scan.
+     */
+    private RowStream candidates(RowSource source) {
+        int[] best = null;
+        for (IndexProbe probe : indexProbes) {
+            Optional<ColumnIndex> index = source.index(probe.column());
+            if (index.isPresent()) {
+                int[] rows = probe.literals().stream()
+                        .flatMapToInt(literal -> Arrays.stream(index.get().lookup(literal)))
+                        .sorted()
+                        .distinct()
+                        .toArray();
+                if (best == null || rows.length < best.length) {
+                    best = rows;
+                }
+            }
+        }
+        if (best != null) {
+            int[] rows = best;
+            int[] position = {0};
+            return () -> position[0] < rows.length ? rows[position[0]++] : -1;
+        }
+        int rowCount = source.rowCount();
+        int[] position = {0};
+        return () -> position[0] < rowCount ? position[0]++ : -1;
+    }
+
+    private RowStream sorted(RowSource source, RowStream rows) {
+        List<SortedRow> matches = new ArrayList<>();
+        int row;
+        while ((row = rows.next()) >= 0) {
+            Object[] keys = new Object[orderBy.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = source.value(row, orderBy.get(i).column());
+            }
+            matches.add(new SortedRow(row, keys));
+        }
+        // List.sort is stable, so rows with equal keys stay in source order
+        matches.sort((left, right) -> {
+            for (int i = 0; i < orderBy.size(); i++) {
+                int comparison = QueryValues.SORT_ORDER.compare(left.keys()[i], right.keys()[i]);
+                if (comparison != 0) {
+                    boolean bothPresent = left.keys()[i] != null && right.keys()[i] != null;
+                    // Missing values stay last in both directions
+                    return orderBy.get(i).descending() && bothPresent ? -comparison : comparison;
+                }
+            }
+            return 0;
+        });
+        Iterator<SortedRow> iterator = matches.iterator();
+        return () -> iterator.hasNext() ? iterator.next().row() : -1;
+    }
+
+    private List<Object> distinctKey(RowSource source, int row) {
+        if (columns == null) {
+            return Collections.singletonList(source.row(row));
+        }
+        List<Object> key = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            Object value = source.value(row, column);
+            key.add(value == null ? null : QueryValues.key(value));
+        }
+        return key;
+    }
+
+    private Object[] project(RowSource source, int row) {
+        if (columns == null) {
+            return new Object[]{source.row(row)};
+        }
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = source.value(row, columns.get(i));
+        }
+        return values;
+    }
+
+    /**
+     * Collects the {@code =} and {@code IN} conditions an index can answer: the whole condition, or the direct
+     * terms of a top-level {@code AND}. The full condition is still checked on every candidate.
+     */
+    private static List<IndexProbe> indexProbes(Condition where) {
+        List<Condition> terms = where instanceof Condition.And and ? and.conditions()
+                : where == null ? List.of() : List.of(where);
+        List<IndexProbe> probes = new ArrayList<>();
+        for (Condition term : terms) {
+            if (term instanceof Condition.Compare compare && compare.operator() == Condition.Operator.EQ) {
+                probes.add(new IndexProbe(compare.column(), List.of(compare.literal())));
+            } else if (term instanceof Condition.In in) {
+                probes.add(new IndexProbe(in.column(), in.literals()));
+            }
+        }
+        return List.copyOf(probes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder plan = new StringBuilder("SELECT ");
+        if (distinct) {
+            plan.append("DISTINCT ");
+        }
+        plan.append(columns == null ? "*" : String.join(", ", columns));
+        if (where != null) {
+            plan.append(" WHERE ").append(where);
+        }
+        if (!orderBy.isEmpty()) {
+            plan.append(" ORDER BY ").append(orderBy.stream()
+                    .map(key -> key.column() + (key.descending() ? " DESC" : ""))
+                    .collect(Collectors.joining(", ")));
+        }
+        if (limit >= 0) {
+            plan.append(" LIMIT ").append(limit);
+        }
+        if (offset > 0) {
+            plan.append(" OFFSET ").append(offset);
+        }
+        if (!indexProbes.isEmpty()) {
+            plan.append(" [index candidates: ")
+                    .append(indexProbes.stream().map(IndexProbe::column).collect(Collectors.joining(", ")))
+                    .append(']');
+        }
+        return plan.toString();
+    }
+
+    record SortKey(String column, boolean descending) {
+    }
+
+    private record IndexProbe(String column, List<Object> literals) {
+    }
+
+    private record SortedRow(int row, Object[] keys) {
+    }
+
+    /**
+     * A stage of the execution pipeline: returns the next row number, or -1 when exhausted.
+     */
+    @FunctionalInterface
+    private interface RowStream {
+        int next();
+    }
+}
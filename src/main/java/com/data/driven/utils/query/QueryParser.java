@@ -0,0 +1,330 @@
+package com.data.driven.utils.query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Parses query text into a {@link DataQuery}. The grammar, with keywords in any case:
+ * <pre>
+ * query     := [SELECT [DISTINCT] (* | column {, column})] [WHERE condition]
+ *              [ORDER BY column [ASC | DESC] {, column [ASC | DESC]}] [LIMIT n [OFFSET n]]
+ * condition := and {OR and}
+ * and       := not {AND not}
+ * not       := NOT not | ( condition ) | column operator literal | column [NOT] IN ( literal {, literal} )
+ *            | column IS [NOT] NULL | column [NOT] LIKE 'pattern'
+ * operator  := = | != | &lt;&gt; | &lt; | &lt;= | &gt; | &gt;=
+ * literal   := 'text' | number | TRUE | FALSE
+ * </pre>
+ * Column names are bare words or, if they contain other characters or clash with a keyword, are wrapped in
+ * double quotes or backticks. In {@code LIKE} patterns {@code %} matches any text and {@code _} one character.
+ */
+final class QueryParser {
+
+    private static final Set<String> KEYWORDS = Set.of("SELECT", "DISTINCT", "WHERE", "AND", "OR", "NOT", "IN",
+            "IS", "NULL", "LIKE", "ORDER", "BY", "ASC", "DESC", "LIMIT", "OFFSET", "TRUE", "FALSE");
+
+    private enum Kind {
+        WORD, QUOTED_NAME, STRING, NUMBER, SYMBOL, END
+    }
+
+    private record Token(Kind kind, String text, int position) {
+    }
+
+    private final String text;
+    private final List<Token> tokens;
+    private int current;
+
+    private QueryParser(String text) {
+        this.text = text;
+        this.tokens = tokenize(text);
+    }
+
+    static DataQuery parse(String text) {
+        return new QueryParser(text).query();
+    }
+
+    private DataQuery query() {
+        List<String> columns = null;
+        boolean distinct = false;
+        if (acceptKeyword("SELECT")) {
+            distinct = acceptKeyword("DISTINCT");
+            if (!acceptSymbol("*")) {
+                columns = new ArrayList<>();
+                do {
+                    columns.add(column());
+                } while (acceptSymbol(","));
+            }
+        }
+
+        Condition where = acceptKeyword("WHERE") ? condition() : null;
+
+        List<DataQuery.SortKey> orderBy = new ArrayList<>();
+        if (acceptKeyword("ORDER")) {
+            expectKeyword("BY");
+            do {
+                String column = column();
+                boolean descending = acceptKeyword("DESC");
+                if (!descending) {
+                    acceptKeyword("ASC");
+                }
+                orderBy.add(new DataQuery.SortKey(column, descending));
+            } while (acceptSymbol(","));
+        }
+
+        long limit = -1;
+        long offset = 0;
+        if (acceptKeyword("LIMIT")) {
+            limit = count("LIMIT");
+            if (acceptKeyword("OFFSET")) {
+                offset = count("OFFSET");
+            }
+        }
+
+        if (peek().kind() != Kind.END) {
+            throw error("Unexpected '" + peek().text() + "'", peek());
+        }
+        return new DataQuery(text, columns, distinct, where, orderBy, limit, offset);
+    }
+
+    private Condition condition() {
+        List<Condition> terms = new ArrayList<>();
+        do {
+            terms.add(andCondition());
+        } while (acceptKeyword("OR"));
+        return terms.size() == 1 ? terms.get(0) : new Condition.Or(List.copyOf(terms));
+    }
+
+    private Condition andCondition() {
+        List<Condition> terms = new ArrayList<>();
+        do {
+            terms.add(notCondition());
+        } while (acceptKeyword("AND"));
+        return terms.size() == 1 ? terms.get(0) : new Condition.And(List.copyOf(terms));
+    }
+
+    private Condition notCondition() {
+        if (acceptKeyword("NOT")) {
+            return new Condition.Not(notCondition());
+        }
+        if (acceptSymbol("(")) {
+            Condition condition = condition();
+            expectSymbol(")");
+            return condition;
+        }
+
+        String column = column();
+        if (acceptKeyword("IS")) {
+            boolean negated = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return new Condition.IsNull(column, negated);
+        }
+        boolean negated = acceptKeyword("NOT");
+        if (acceptKeyword("IN")) {
+            expectSymbol("(");
+            List<Object> literals = new ArrayList<>();
+            Set<Object> keys = new LinkedHashSet<>();
+            do {
+                Object literal = literal();
+                literals.add(literal);
+                keys.add(QueryValues.key(literal));
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            Condition in = new Condition.In(column, List.copyOf(literals), Set.copyOf(keys));
+            return negated ? new Condition.Not(in) : in;
+        }
+        if (acceptKeyword("LIKE")) {
+            Token pattern = next();
+            if (pattern.kind() != Kind.STRING) {
+                throw error("Expected a quoted pattern after LIKE", pattern);
+            }
+            Condition like = new Condition.Like(column, pattern.text(), likePattern(pattern.text()));
+            return negated ? new Condition.Not(like) : like;
+        }
+        if (negated) {
+            throw error("Expected IN or LIKE after NOT", peek());
+        }
+
+        Token operator = next();
+        Condition.Operator comparison = switch (operator.kind() == Kind.SYMBOL ? operator.text() : "") {
+            case "=" -> Condition.Operator.EQ;
+            case "!=", "<>" -> Condition.Operator.NE;
+            case "<" -> Condition.Operator.LT;
+            case "<=" -> Condition.Operator.LE;
+            case ">" -> Condition.Operator.GT;
+            case ">=" -> Condition.Operator.GE;
+            default -> throw error("Expected a comparison after column '" + column + "'", operator);
+        };
+        return new Condition.Compare(column, comparison, literal());
+    }
+
+    private String column() {
+        Token token = next();
+        if (token.kind() == Kind.QUOTED_NAME || (token.kind() == Kind.WORD && !isKeyword(token))) {
+            return token.text();
+        }
+        throw error("Expected a column name", token);
+    }
+
+    private Object literal() {
+        Token token = next();
+        return switch (token.kind()) {
+            case STRING -> token.text();
+            case NUMBER -> number(token.text());
+            case WORD -> switch (token.text().toUpperCase(Locale.ROOT)) {
+                case "TRUE" -> Boolean.TRUE;
+                case "FALSE" -> Boolean.FALSE;
+                case "NULL" -> throw error("Compare with NULL using IS NULL or IS NOT NULL", token);
+                default -> throw error("Expected a literal; quote text values", token);
+            };
+            default -> throw error("Expected a literal", token);
+        };
+    }
+
+    private long count(String clause) {
+        Token token = next();
+        if (token.kind() != Kind.NUMBER || token.text().contains(".") || token.text().startsWith("-")) {
+            throw error(clause + " takes a non-negative whole number", token);
+        }
+        return Long.parseLong(token.text());
+    }
+
+    private static Object number(String text) {
+        if (!text.contains(".")) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException tooLarge) {
+                // Falls through to BigDecimal
+            }
+        }
+        return new BigDecimal(text);
+    }
+
+    private static Pattern likePattern(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            if (c == '%' || c == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token.kind() == Kind.WORD && token.text().equalsIgnoreCase(keyword)) {
+            current++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw error("Expected " + keyword, peek());
+        }
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        Token token = peek();
+        if (token.kind() == Kind.SYMBOL && token.text().equals(symbol)) {
+            current++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!acceptSymbol(symbol)) {
+            throw error("Expected '" + symbol + "'", peek());
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(current);
+    }
+
+    private Token next() {
+        Token token = tokens.get(current);
+        if (token.kind() != Kind.END) {
+            current++;
+        }
+        return token;
+    }
+
+    private static boolean isKeyword(Token token) {
+        return KEYWORDS.contains(token.text().toUpperCase(Locale.ROOT));
+    }
+
+    private IllegalArgumentException error(String message, Token token) {
+        return new IllegalArgumentException(message + " at position " + token.position() + " in query: " + text);
+    }
+
+    private static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                StringBuilder value = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= text.length()) {
+                        throw new IllegalArgumentException("Unterminated quote at position " + start + " in query: " + text);
+                    }
+                    char ch = text.charAt(i++);
+                    if (ch == c) {
+                        // A doubled quote stands for the quote character itself
+                        if (i < text.length() && text.charAt(i) == c) {
+                            value.append(c);
+                            i++;
+                            continue;
+                        }
+                        break;
+                    }
+                    value.append(ch);
+                }
+                tokens.add(new Token(c == '\'' ? Kind.STRING : Kind.QUOTED_NAME, value.toString(), start));
+            } else if (Character.isDigit(c) || (c == '-' && i + 1 < text.length() && Character.isDigit(text.charAt(i + 1)))) {
+                i++;
+                while (i < text.length() && (Character.isDigit(text.charAt(i)) || text.charAt(i) == '.')) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.NUMBER, text.substring(start, i), start));
+            } else if (Character.isLetter(c) || c == '_') {
+                while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i)) || text.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.WORD, text.substring(start, i), start));
+            } else if ((c == '<' || c == '>' || c == '!') && i + 1 < text.length()
+                    && (text.charAt(i + 1) == '=' || (c == '<' && text.charAt(i + 1) == '>'))) {
+                tokens.add(new Token(Kind.SYMBOL, text.substring(i, i + 2), start));
+                i += 2;
+            } else if ("=<>(),*".indexOf(c) >= 0) {
+                tokens.add(new Token(Kind.SYMBOL, String.valueOf(c), start));
+                i++;
+            } else {
+                throw new IllegalArgumentException("Unexpected character '" + c + "' at position " + start + " in query: " + text);
+            }
+        }
+        tokens.add(new Token(Kind.END, "end of query", text.length()));
+        return tokens;
+    }
+}
@@ -0,0 +1,108 @@
+package com.data.driven.utils.query;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.Date;
+
+/**
+ * Comparison rules shared by conditions, sorting and indexes.
+ * <p>
+ * Numbers compare by value across Integer, Long, BigDecimal and Double; strings, booleans and dates compare within
+ * their own type. Values of different types are never equal and have no order for conditions; when sorting they are
+ * grouped by type, with missing values last.
+ */
+final class QueryValues {
+
+    static final Comparator<Object> SORT_ORDER = QueryValues::compareForSort;
+
+    private QueryValues() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    /**
+     * Compares two non-null values, or returns null if they are of types that do not compare.
+     */
+    static Integer compare(Object left, Object right) {
+        if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            return compareNumbers(leftNumber, rightNumber);
+        }
+        if (left instanceof String leftString && right instanceof String rightString) {
+            return leftString.compareTo(rightString);
+        }
+        if (left instanceof Boolean leftBoolean && right instanceof Boolean rightBoolean) {
+            return leftBoolean.compareTo(rightBoolean);
+        }
+        if (left instanceof Date leftDate && right instanceof Date rightDate) {
+            return leftDate.compareTo(rightDate);
+        }
+        return null;
+    }
+
+    /**
+     * Normalizes a value for hashing, so values that {@link #compare} finds equal have equal keys.
+     */
+    static Object key(Object value) {
+        if (!(value instanceof Number number)) {
+            return value;
+        }
+        if (isIntegral(number)) {
+            return number.longValue();
+        }
+        BigDecimal decimal = toBigDecimal(number).stripTrailingZeros();
+        if (decimal.scale() <= 0 && decimal.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0
+                && decimal.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0) {
+            return decimal.longValueExact();
+        }
+        return decimal;
+    }
+
+    private static int compareForSort(Object left, Object right) {
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : 1) : -1;
+        }
+        Integer result = compare(left, right);
+        if (result != null) {
+            return result;
+        }
+        int rankOrder = Integer.compare(typeRank(left), typeRank(right));
+        return rankOrder != 0 ? rankOrder : left.toString().compareTo(right.toString());
+    }
+
+    private static int typeRank(Object value) {
+        if (value instanceof Number) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return 1;
+        }
+        if (value instanceof Boolean) {
+            return 2;
+        }
+        return value instanceof Date ? 3 : 4;
+    }
+
+    private static int compareNumbers(Number left, Number right) {
+        if (isIntegral(left) && isIntegral(right)) {
+            return Long.compare(left.longValue(), right.longValue());
+        }
+        return toBigDecimal(left).compareTo(toBigDecimal(right));
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return BigDecimal.valueOf(number.doubleValue());
+    }
+}
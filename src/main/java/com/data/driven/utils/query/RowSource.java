@@ -0,0 +1,56 @@
+package com.data.driven.utils.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rows a {@link DataQuery} can run against: a cached sheet, a JSON section or any list of row maps.
+ * <p>
+ * Queries read single values through {@link #value(int, String)} while filtering and sorting, so a columnar source
+ * only decodes the columns a query references, and only builds full rows for the rows it returns.
+ */
+public interface RowSource {
+
+    int rowCount();
+
+    /**
+     * Returns one value of a row, or null if the row has no value for the column.
+     */
+    Object value(int row, String column);
+
+    /**
+     * Returns a full row as a map of column name to value.
+     */
+    Map<String, Object> row(int row);
+
+    /**
+     * Returns an equality index over a column if the source keeps one. Queries use it to look up the rows matching
+     * {@code =} and {@code IN} conditions instead of scanning.
+     */
+    default Optional<ColumnIndex> index(String column) {
+        return Optional.empty();
+    }
+
+    /**
+     * Wraps a list of row maps, without indexes.
+     */
+    static RowSource of(List<? extends Map<String, Object>> rows) {
+        return new RowSource() {
+            @Override
+            public int rowCount() {
+                return rows.size();
+            }
+
+            @Override
+            public Object value(int row, String column) {
+                return rows.get(row).get(column);
+            }
+
+            @Override
+            public Map<String, Object> row(int row) {
+                return rows.get(row);
+            }
+        };
+    }
+}
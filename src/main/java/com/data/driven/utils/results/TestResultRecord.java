@@ -0,0 +1,40 @@
+package com.data.driven.utils.results;
+
+import java.util.List;
+
+/**
+ * Outcome of one test invocation, identifying the data row it ran against.
+ *
+ * @param testName      Qualified test method name
+ * @param dataSource    Where the row came from, for example the data provider name or {@code file#sheet}
+ * @param rowIndex      Zero-based index of the data row within its provider, or -1 for non data-driven tests
+ * @param parameters    The invocation parameters, rendered as strings
+ * @param status        The outcome
+ * @param startMillis   Start time in epoch milliseconds
+ * @param durationNanos Time spent in the test body
+ * @param error         The failure message, or {@code null} if the test passed
+ */
+public record TestResultRecord(
+        String testName,
+        String dataSource,
+        int rowIndex,
+        List<String> parameters,
+        Status status,
+        long startMillis,
+        long durationNanos,
+        String error) {
+
+    public TestResultRecord {
+        parameters = parameters == null ? List.of() : List.copyOf(parameters);
+    }
+
+    public double durationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+
+    public enum Status {
+        PASS,
+        FAIL,
+        SKIP
+    }
+}
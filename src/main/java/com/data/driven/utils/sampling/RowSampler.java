@@ -0,0 +1,251 @@
+package com.data.driven.utils.sampling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Draws a seeded random sample from a stream of rows in a single pass, for smoke runs that need a representative
+ * subset of a large dataset rather than its first rows.
+ * <ul>
+ *     <li>{@link #reservoir(int, long)} keeps a uniform sample of a fixed size (Algorithm L, which skips ahead
+ *     between replacements instead of drawing a random number per row).</li>
+ *     <li>{@link #bernoulli(double, long)} keeps each row independently with a fixed probability and emits rows as
+ *     the stream is read.</li>
+ *     <li>{@link #stratified(String, int, long)} keeps a uniform sample of up to a fixed size from each distinct
+ *     value of a column, so rare values such as a small Location are always represented.</li>
+ * </ul>
+ * The sampler sees rows as cheap candidates (a row number, a parsed node, a line of text) and only materializes the
+ * ones it keeps, so rows that are not sampled are never bound or decoded. A stratified sample reads only the
+ * stratification column of every candidate. The same seed over the same data always selects the same rows, and
+ * samples are returned in stream order.
+ */
+public final class RowSampler {
+
+    private enum Mode {
+        RESERVOIR, BERNOULLI, STRATIFIED
+    }
+
+    private final Mode mode;
+    private final int sampleSize;
+    private final double rate;
+    private final String column;
+    private final long seed;
+
+    private RowSampler(Mode mode, int sampleSize, double rate, String column, long seed) {
+        this.mode = mode;
+        this.sampleSize = sampleSize;
+        this.rate = rate;
+        this.column = column;
+        this.seed = seed;
+    }
+
+    /**
+     * Samples a fixed number of rows, each row equally likely to be chosen.
+     *
+     * @param sampleSize The number of rows to keep; all rows are kept if there are fewer
+     * @param seed       The random seed
+     */
+    public static RowSampler reservoir(int sampleSize, long seed) {
+        if (sampleSize < 1) {
+            throw new IllegalArgumentException("Sample size must be at least 1: " + sampleSize);
+        }
+        return new RowSampler(Mode.RESERVOIR, sampleSize, 0, null, seed);
+    }
+
+    /**
+     * Keeps each row independently with the given probability.
+     *
+     * @param rate The probability of keeping a row, between 0 and 1
+     * @param seed The random seed
+     */
+    public static RowSampler bernoulli(double rate, long seed) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Sampling rate must be between 0 and 1: " + rate);
+        }
+        return new RowSampler(Mode.BERNOULLI, 0, rate, null, seed);
+    }
+
+    /**
+     * Samples up to a fixed number of rows for each distinct value of a column. Rows without a value for the column
+     * form a stratum of their own.
+     *
+     * @param column            The column whose values define the strata
+     * @param samplesPerStratum The number of rows to keep per stratum
+     * @param seed              The random seed
+     */
+    public static RowSampler stratified(String column, int samplesPerStratum, long seed) {
+        if (column == null || column.trim().isEmpty()) {
+            throw new IllegalArgumentException("Stratification column cannot be null or empty");
+        }
+        if (samplesPerStratum < 1) {
+            throw new IllegalArgumentException("Samples per stratum must be at least 1: " + samplesPerStratum);
+        }
+        return new RowSampler(Mode.STRATIFIED, samplesPerStratum, 0, column, seed);
+    }
+
+    /**
+     * Returns the stratification column, or null if this sampler does not stratify.
+     */
+    public String getStratifyColumn() {
+        return column;
+    }
+
+    /**
+     * Samples a stream of candidates. Bernoulli sampling reads the candidates as the result is iterated; the other
+     * modes read all of them on the first call to {@code hasNext()}.
+     *
+     * @param candidates  The rows to sample from, in a stable order
+     * @param stratumOf   Reads the stratification column of a candidate; only called by stratified samplers
+     * @param materialize Turns a kept candidate into a row
+     * @return The sampled rows in stream order
+     */
+    public <S, T> Iterator<T> sample(Iterator<S> candidates, Function<? super S, ?> stratumOf,
+                                     Function<? super S, ? extends T> materialize) {
+        Random random = new Random(seed);
+        if (mode == Mode.BERNOULLI) {
+            return bernoulli(candidates, materialize, random);
+        }
+        return new Iterator<>() {
+            private Iterator<T> sampled;
+
+            @Override
+            public boolean hasNext() {
+                return sampled().hasNext();
+            }
+
+            @Override
+            public T next() {
+                return sampled().next();
+            }
+
+            private Iterator<T> sampled() {
+                if (sampled == null) {
+                    List<Kept<T>> kept = mode == Mode.RESERVOIR
+                            ? reservoir(candidates, materialize, random)
+                            : stratified(candidates, stratumOf, materialize, random);
+                    kept.sort(Comparator.comparingLong(Kept::position));
+                    sampled = kept.stream().map(Kept::row).iterator();
+                }
+                return sampled;
+            }
+        };
+    }
+
+    private <S, T> Iterator<T> bernoulli(Iterator<S> candidates, Function<? super S, ? extends T> materialize,
+                                         Random random) {
+        return new Iterator<>() {
+            private T next;
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && candidates.hasNext()) {
+                    S candidate = candidates.next();
+                    // One draw per candidate, so the selection depends only on the seed and the row position
+                    if (random.nextDouble() < rate) {
+                        next = materialize.apply(candidate);
+                        ready = true;
+                    }
+                }
+                return ready;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                T row = next;
+                next = null;
+                return row;
+            }
+        };
+    }
+
+    /**
+     * Algorithm L: after the reservoir fills, the gap to the next replacement is drawn from its geometric
+     * distribution, so skipped candidates cost neither a random draw nor materialization.
+     */
+    private <S, T> List<Kept<T>> reservoir(Iterator<S> candidates, Function<? super S, ? extends T> materialize,
+                                           Random random) {
+        List<Kept<T>> reservoir = new ArrayList<>(sampleSize);
+        long position = 0;
+        while (reservoir.size() < sampleSize && candidates.hasNext()) {
+            reservoir.add(new Kept<>(position++, materialize.apply(candidates.next())));
+        }
+
+        double weight = Math.exp(Math.log(uniform(random)) / sampleSize);
+        long nextReplacement = position + skip(random, weight);
+        while (candidates.hasNext()) {
+            S candidate = candidates.next();
+            if (position == nextReplacement) {
+                reservoir.set(random.nextInt(sampleSize), new Kept<>(position, materialize.apply(candidate)));
+                weight *= Math.exp(Math.log(uniform(random)) / sampleSize);
+                nextReplacement = position + 1 + skip(random, weight);
+            }
+            position++;
+        }
+        return reservoir;
+    }
+
+    /**
+     * Algorithm R per stratum, sharing one random sequence so the result depends only on the seed and the data.
+     */
+    private <S, T> List<Kept<T>> stratified(Iterator<S> candidates, Function<? super S, ?> stratumOf,
+                                            Function<? super S, ? extends T> materialize, Random random) {
+        Map<Object, Stratum<T>> strata = new HashMap<>();
+        long position = 0;
+        while (candidates.hasNext()) {
+            S candidate = candidates.next();
+            Stratum<T> stratum = strata.computeIfAbsent(stratumOf.apply(candidate), key -> new Stratum<>());
+            stratum.seen++;
+            if (stratum.kept.size() < sampleSize) {
+                stratum.kept.add(new Kept<>(position, materialize.apply(candidate)));
+            } else {
+                long slot = random.nextLong(stratum.seen);
+                if (slot < sampleSize) {
+                    stratum.kept.set((int) slot, new Kept<>(position, materialize.apply(candidate)));
+                }
+            }
+            position++;
+        }
+        List<Kept<T>> kept = new ArrayList<>();
+        strata.values().forEach(stratum -> kept.addAll(stratum.kept));
+        return kept;
+    }
+
+    private static long skip(Random random, double weight) {
+        double gap = Math.floor(Math.log(uniform(random)) / Math.log(1 - weight));
+        return Double.isFinite(gap) ? (long) Math.min(gap, Long.MAX_VALUE / 2) : Long.MAX_VALUE / 2;
+    }
+
+    // In (0, 1], so the logarithm is finite
+    private static double uniform(Random random) {
+        return 1.0 - random.nextDouble();
+    }
+
+    @Override
+    public String toString() {
+        return switch (mode) {
+            case RESERVOIR -> "reservoir(" + sampleSize + ", seed=" + seed + ")";
+            case BERNOULLI -> "bernoulli(" + rate + ", seed=" + seed + ")";
+            case STRATIFIED -> "stratified(" + column + ", " + sampleSize + ", seed=" + seed + ")";
+        };
+    }
+
+    private record Kept<T>(long position, T row) {
+    }
+
+    private static final class Stratum<T> {
+        private final List<Kept<T>> kept = new ArrayList<>();
+        private long seen;
+    }
+}
@@ -0,0 +1,67 @@
+package com.data.driven.utils.storage;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * How one column of a {@link ColumnarTable} is laid out. Fixed-width encodings store one slot per row;
+ * {@link #STRING} and {@link #DECIMAL_TEXT} store an offset array and a byte region; {@link #MIXED} tags every
+ * value with its own encoding.
+ */
+enum ColumnEncoding {
+    /** No row has a value. */
+    EMPTY(0),
+    INT(Integer.BYTES),
+    LONG(Long.BYTES),
+    DOUBLE(Double.BYTES),
+    /** {@link BigDecimal}s that round-trip exactly through a double, as produced by {@code CellReader}. */
+    DECIMAL(Double.BYTES),
+    BOOLEAN(1),
+    /** {@link Date}s as epoch milliseconds. */
+    DATE(Long.BYTES),
+    STRING(-1),
+    /** Other {@link BigDecimal}s, stored as their plain string form. */
+    DECIMAL_TEXT(-1),
+    MIXED(-1);
+
+    private final int width;
+
+    ColumnEncoding(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Bytes per row for fixed-width encodings, or -1 for variable-width ones.
+     */
+    int width() {
+        return width;
+    }
+
+    boolean isFixedWidth() {
+        return width >= 0;
+    }
+
+    /**
+     * Returns the encoding a single value needs on its own. Values of unsupported types are stored as strings.
+     */
+    static ColumnEncoding of(Object value) {
+        return switch (value) {
+            case Integer ignored -> INT;
+            case Long ignored -> LONG;
+            case Double ignored -> DOUBLE;
+            case BigDecimal decimal -> isExactDouble(decimal) ? DECIMAL : DECIMAL_TEXT;
+            case Boolean ignored -> BOOLEAN;
+            case Date ignored -> DATE;
+            default -> STRING;
+        };
+    }
+
+    static boolean isExactDouble(BigDecimal decimal) {
+        return toDecimal(decimal.doubleValue()).equals(decimal);
+    }
+
+    static BigDecimal toDecimal(double value) {
+        // Mirrors how CellReader creates decimals, so decoded values equal the originals
+        return BigDecimal.valueOf(value).stripTrailingZeros();
+    }
+}
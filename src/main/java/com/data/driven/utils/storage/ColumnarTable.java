@@ -0,0 +1,243 @@
+package com.data.driven.utils.storage;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable table of rows stored column by column outside the Java heap.
+ * <p>
+ * The table lives in a direct or memory-mapped {@link ByteBuffer} in the layout written by
+ * {@link ColumnarTableWriter}. Numeric, boolean and date columns are fixed width; strings are offset and length
+ * pairs into a byte region. Only the column directory is held on the heap: rows are decoded into fresh maps on each
+ * access and become garbage as soon as the caller drops them, so the resident data never adds to GC work.
+ * <p>
+ * Reads use absolute buffer access only, so one table can be shared by any number of threads.
+ */
+public final class ColumnarTable {
+
+    private static final Logger logger = LoggerUtils.getLogger(ColumnarTable.class);
+
+    private final ByteBuffer buffer;
+    private final int rowCount;
+    private final String[] columnNames;
+    private final ColumnEncoding[] encodings;
+    private final int[] dataOffsets;
+
+    private ColumnarTable(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.remaining() < ColumnarTableWriter.HEADER_BYTES
+                || buffer.getInt(0) != ColumnarTableWriter.MAGIC) {
+            throw new IllegalArgumentException("Buffer does not contain a columnar table");
+        }
+        int version = buffer.getInt(4);
+        if (version != ColumnarTableWriter.VERSION) {
+            throw new IllegalArgumentException("Unsupported columnar table version: " + version);
+        }
+        this.rowCount = buffer.getInt(8);
+        int columnCount = buffer.getInt(12);
+        this.columnNames = new String[columnCount];
+        this.encodings = new ColumnEncoding[columnCount];
+        this.dataOffsets = new int[columnCount];
+
+        int position = ColumnarTableWriter.HEADER_BYTES;
+        ColumnEncoding[] allEncodings = ColumnEncoding.values();
+        for (int column = 0; column < columnCount; column++) {
+            int nameLength = buffer.getInt(position);
+            position += Integer.BYTES;
+            columnNames[column] = decodeString(position, nameLength);
+            position += nameLength;
+            encodings[column] = allEncodings[buffer.get(position)];
+            position += 1;
+            dataOffsets[column] = buffer.getInt(position);
+            position += Integer.BYTES;
+        }
+    }
+
+    /**
+     * Reads a table from a buffer holding the layout written by {@link ColumnarTableWriter}, starting at
+     * the buffer's position. The buffer is not copied.
+     *
+     * @param buffer The encoded table
+     * @return The table
+     * @throws IllegalArgumentException If the buffer does not hold a table of a supported version
+     */
+    public static ColumnarTable wrap(ByteBuffer buffer) {
+        return new ColumnarTable(buffer.slice().asReadOnlyBuffer());
+    }
+
+    /**
+     * Encodes rows into a direct buffer. The memory is released when the table becomes unreachable.
+     *
+     * @param rows The rows to encode
+     * @return The off-heap table
+     */
+    public static ColumnarTable allocateDirect(List<? extends Map<String, ?>> rows) {
+        ColumnarTableWriter writer = new ColumnarTableWriter(rows);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(writer.size());
+        writer.writeTo(buffer);
+        buffer.flip();
+        return wrap(buffer);
+    }
+
+    /**
+     * Encodes rows into a memory-mapped temporary file in the given directory. The file is unlinked once mapped
+     * where the platform allows it, so its pages are backed by the page cache rather than the heap or swap and
+     * disappear with the mapping.
+     *
+     * @param rows      The rows to encode
+     * @param directory Directory for the temporary file
+     * @return The memory-mapped table
+     */
+    public static ColumnarTable mapTemporary(List<? extends Map<String, ?>> rows, Path directory) {
+        ColumnarTableWriter writer = new ColumnarTableWriter(rows);
+        Path file = null;
+        try {
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, "table-", ".ddct");
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, writer.size());
+            }
+            writer.writeTo(buffer);
+            buffer.flip();
+            return wrap(buffer);
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "mapTemporary", "Failed to map columnar table file in: {}", directory);
+            throw new RuntimeException("Failed to map columnar table file in: " + directory, error);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException error) {
+            // Platforms that lock mapped files (Windows) refuse the delete; clean up at exit instead
+            logger.debug("Deferring delete of mapped table file {}: {}", file, error.getMessage());
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public List<String> getColumnNames() {
+        return Arrays.asList(columnNames.clone());
+    }
+
+    /**
+     * Size of the encoded table in bytes, all of it outside the Java heap.
+     */
+    public long getByteSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Decodes one row into a new map holding only the columns the row has values for.
+     *
+     * @param row Zero-based row index
+     * @return The row's values by column name
+     */
+    public Map<String, Object> getRow(int row) {
+        checkRow(row);
+        Map<String, Object> values = new HashMap<>();
+        for (int column = 0; column < columnNames.length; column++) {
+            Object value = decode(column, row);
+            if (value != null) {
+                values.put(columnNames[column], value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Decodes a single value.
+     *
+     * @param row    Zero-based row index
+     * @param column The column name
+     * @return The value, or {@code null} if the row has no value for the column or the column does not exist
+     */
+    public Object getValue(int row, String column) {
+        checkRow(row);
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equals(column)) {
+                return decode(i, row);
+            }
+        }
+        return null;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Invalid row: " + row + " (row count " + rowCount + ")");
+        }
+    }
+
+    private Object decode(int column, int row) {
+        int offset = dataOffsets[column];
+        if ((buffer.get(offset + (row >>> 3)) & (1 << (row & 7))) == 0) {
+            return null;
+        }
+        int dataStart = offset + (rowCount + 7) / 8;
+        ColumnEncoding encoding = encodings[column];
+
+        if (encoding.isFixedWidth()) {
+            return decodeFixed(encoding, dataStart + row * encoding.width());
+        }
+
+        ColumnEncoding valueEncoding = encoding;
+        int offsetStart = dataStart;
+        if (encoding == ColumnEncoding.MIXED) {
+            valueEncoding = ColumnEncoding.values()[buffer.get(dataStart + row)];
+            offsetStart = dataStart + rowCount;
+        }
+        int payloadStart = offsetStart + (rowCount + 1) * Integer.BYTES;
+        int start = buffer.getInt(offsetStart + row * Integer.BYTES);
+        int end = buffer.getInt(offsetStart + (row + 1) * Integer.BYTES);
+
+        if (valueEncoding.isFixedWidth()) {
+            return decodeFixed(valueEncoding, payloadStart + start);
+        }
+        String text = decodeString(payloadStart + start, end - start);
+        return valueEncoding == ColumnEncoding.DECIMAL_TEXT ? new BigDecimal(text) : text;
+    }
+
+    private Object decodeFixed(ColumnEncoding encoding, int index) {
+        return switch (encoding) {
+            case INT -> buffer.getInt(index);
+            case LONG -> buffer.getLong(index);
+            case DOUBLE -> buffer.getDouble(index);
+            case DECIMAL -> ColumnEncoding.toDecimal(buffer.getDouble(index));
+            case BOOLEAN -> buffer.get(index) != 0;
+            case DATE -> new Date(buffer.getLong(index));
+            default -> null;
+        };
+    }
+
+    private String decodeString(int index, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(index, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,214 @@
+package com.data.driven.utils.storage;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes row maps into the {@link ColumnarTable} binary layout.
+ * <p>
+ * Layout (big-endian, offsets relative to the start of the table):
+ * <pre>
+ * int magic, int version, int rowCount, int columnCount
+ * per column: int nameLength, byte[] name (UTF-8), byte encoding, int dataOffset
+ * per column, at dataOffset:
+ *   byte[(rowCount + 7) / 8] presence bitmap (bit set = the row has a value for the column)
+ *   fixed width:   rowCount slots of {@link ColumnEncoding#width()} bytes
+ *   variable:      int[rowCount + 1] offsets, then the UTF-8 bytes they index
+ *   MIXED:         byte[rowCount] tags, int[rowCount + 1] offsets, then each value in its tag's encoding
+ * </pre>
+ * The writer analyses the rows once in the constructor, so {@link #size()} is known before a buffer or file of
+ * exactly that size is allocated.
+ */
+public final class ColumnarTableWriter implements SharedDataCache.Payload {
+
+    static final int MAGIC = 0x44445443; // "DDCT"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private final int rowCount;
+    private final List<ColumnPlan> columns = new ArrayList<>();
+    private final long size;
+
+    public ColumnarTableWriter(List<? extends Map<String, ?>> rows) {
+        this.rowCount = rows.size();
+
+        Set<String> names = new LinkedHashSet<>();
+        rows.forEach(row -> names.addAll(row.keySet()));
+
+        long headerSize = HEADER_BYTES;
+        for (String name : names) {
+            ColumnPlan column = new ColumnPlan(name, rows);
+            columns.add(column);
+            headerSize += Integer.BYTES + column.nameBytes.length + 1 + Integer.BYTES;
+        }
+
+        long offset = headerSize;
+        for (ColumnPlan column : columns) {
+            column.dataOffset = offset;
+            offset += column.dataSize();
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Encoded table exceeds 2 GB (" + offset + " bytes)");
+        }
+        this.size = offset;
+    }
+
+    /**
+     * Number of bytes {@link #writeTo(ByteBuffer)} writes.
+     */
+    @Override
+    public int size() {
+        return (int) size;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the encoded table at the buffer's position and advances the position past it.
+     *
+     * @param target A buffer with at least {@link #size()} bytes remaining
+     */
+    @Override
+    public void writeTo(ByteBuffer target) {
+        if (target.remaining() < size) {
+            throw new IllegalArgumentException("Buffer has " + target.remaining() + " bytes remaining, needs " + size);
+        }
+        int base = target.position();
+        target.putInt(MAGIC).putInt(VERSION).putInt(rowCount).putInt(columns.size());
+        for (ColumnPlan column : columns) {
+            target.putInt(column.nameBytes.length)
+                    .put(column.nameBytes)
+                    .put((byte) column.encoding.ordinal())
+                    .putInt((int) column.dataOffset);
+        }
+        for (ColumnPlan column : columns) {
+            column.write(target, base + (int) column.dataOffset);
+        }
+        target.position(base + (int) size);
+    }
+
+    /**
+     * One column's values and chosen encoding.
+     */
+    private final class ColumnPlan {
+        private final byte[] nameBytes;
+        private final Object[] values;
+        private final ColumnEncoding encoding;
+        // UTF-8 or binary payloads for variable-width and MIXED columns, null otherwise
+        private byte[][] payloads;
+        private ColumnEncoding[] tags;
+        private long payloadBytes;
+        private long dataOffset;
+
+        private ColumnPlan(String name, List<? extends Map<String, ?>> rows) {
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            this.values = new Object[rowCount];
+
+            Set<ColumnEncoding> seen = EnumSet.noneOf(ColumnEncoding.class);
+            for (int row = 0; row < rowCount; row++) {
+                Object value = rows.get(row).get(name);
+                values[row] = value;
+                if (value != null) {
+                    seen.add(ColumnEncoding.of(value));
+                }
+            }
+            this.encoding = seen.isEmpty() ? ColumnEncoding.EMPTY
+                    : seen.size() == 1 ? seen.iterator().next()
+                    : ColumnEncoding.MIXED;
+
+            if (!encoding.isFixedWidth()) {
+                payloads = new byte[rowCount][];
+                tags = encoding == ColumnEncoding.MIXED ? new ColumnEncoding[rowCount] : null;
+                for (int row = 0; row < rowCount; row++) {
+                    if (values[row] != null) {
+                        ColumnEncoding valueEncoding = encoding == ColumnEncoding.MIXED ? ColumnEncoding.of(values[row]) : encoding;
+                        if (tags != null) {
+                            tags[row] = valueEncoding;
+                        }
+                        payloads[row] = payload(valueEncoding, values[row]);
+                        payloadBytes += payloads[row].length;
+                    }
+                }
+            }
+        }
+
+        private long dataSize() {
+            long bitmap = (rowCount + 7) / 8;
+            return switch (encoding) {
+                case STRING, DECIMAL_TEXT -> bitmap + (rowCount + 1L) * Integer.BYTES + payloadBytes;
+                case MIXED -> bitmap + rowCount + (rowCount + 1L) * Integer.BYTES + payloadBytes;
+                default -> bitmap + (long) rowCount * encoding.width();
+            };
+        }
+
+        private void write(ByteBuffer target, int offset) {
+            int bitmapBytes = (rowCount + 7) / 8;
+            for (int i = 0; i < bitmapBytes; i++) {
+                target.put(offset + i, (byte) 0);
+            }
+            for (int row = 0; row < rowCount; row++) {
+                if (values[row] != null) {
+                    int index = offset + (row >>> 3);
+                    target.put(index, (byte) (target.get(index) | (1 << (row & 7))));
+                }
+            }
+            int dataStart = offset + bitmapBytes;
+
+            if (encoding.isFixedWidth()) {
+                for (int row = 0; row < rowCount; row++) {
+                    if (values[row] != null) {
+                        writeFixed(target, dataStart + row * encoding.width(), encoding, values[row]);
+                    }
+                }
+                return;
+            }
+
+            int tagStart = dataStart;
+            int offsetStart = encoding == ColumnEncoding.MIXED ? dataStart + rowCount : dataStart;
+            int payloadStart = offsetStart + (rowCount + 1) * Integer.BYTES;
+            int position = 0;
+            for (int row = 0; row < rowCount; row++) {
+                target.putInt(offsetStart + row * Integer.BYTES, position);
+                if (payloads[row] != null) {
+                    if (tags != null) {
+                        target.put(tagStart + row, (byte) tags[row].ordinal());
+                    }
+                    target.put(payloadStart + position, payloads[row]);
+                    position += payloads[row].length;
+                }
+            }
+            target.putInt(offsetStart + rowCount * Integer.BYTES, position);
+        }
+    }
+
+    private static void writeFixed(ByteBuffer target, int index, ColumnEncoding encoding, Object value) {
+        switch (encoding) {
+            case INT -> target.putInt(index, (Integer) value);
+            case LONG -> target.putLong(index, (Long) value);
+            case DOUBLE -> target.putDouble(index, (Double) value);
+            case DECIMAL -> target.putDouble(index, ((BigDecimal) value).doubleValue());
+            case BOOLEAN -> target.put(index, (byte) ((Boolean) value ? 1 : 0));
+            case DATE -> target.putLong(index, ((Date) value).getTime());
+            default -> throw new IllegalStateException("Not a fixed-width encoding: " + encoding);
+        }
+    }
+
+    private static byte[] payload(ColumnEncoding encoding, Object value) {
+        if (encoding.isFixedWidth()) {
+            ByteBuffer buffer = ByteBuffer.allocate(encoding.width());
+            writeFixed(buffer, 0, encoding, value);
+            return buffer.array();
+        }
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,267 @@
+package com.data.driven.utils.storage;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * A cache of encoded datasets in memory-mapped files, shared by every JVM on the machine that points at the same
+ * directory — typically the surefire forks of one build.
+ * <p>
+ * The first process to need a dataset takes an exclusive {@link FileLock} on the entry's lock file, encodes the
+ * dataset into a temporary file and atomically renames it into place. Every other process, and every later request,
+ * maps the finished file read-only instead of parsing the source again. A file is only used if its header matches
+ * the current source fingerprint (path, size and modification time of each source) and its payload checksum is
+ * intact, so files left behind by an older source or a crashed writer are rewritten rather than trusted.
+ * <p>
+ * Enable with {@code -Ddata.cache.shared=true}; the directory defaults to {@code target/shared-data-cache} and can
+ * be moved with {@code -Ddata.cache.shared.dir}.
+ */
+public final class SharedDataCache {
+
+    private static final Logger logger = LoggerUtils.getLogger(SharedDataCache.class);
+
+    private static final int MAGIC = 0x44445343; // "DDSC"
+    private static final int VERSION = 1;
+    private static final String DATA_SUFFIX = ".ddsc";
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // FileLock is held per process, so threads of one JVM coordinate on these monitors first
+    private static final Map<Path, Object> LOCAL_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    public SharedDataCache(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns the cache configured through system properties, or empty if the shared tier is disabled.
+     */
+    public static Optional<SharedDataCache> configured() {
+        if (!Boolean.getBoolean("data.cache.shared")) {
+            return Optional.empty();
+        }
+        return Optional.of(new SharedDataCache(Path.of(System.getProperty("data.cache.shared.dir", "target/shared-data-cache"))));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Maps the encoded form of a dataset, encoding and publishing it first if no process has done so for the
+     * current version of its sources.
+     *
+     * @param key     Identifies the dataset, e.g. a file path and sheet name
+     * @param sources The files the dataset is derived from; a change to any of them invalidates the entry
+     * @param encoder Produces the encoded dataset; only called by the process that writes the entry
+     * @return A read-only buffer holding exactly the encoded dataset
+     */
+    public ByteBuffer map(String key, List<Path> sources, Supplier<? extends Payload> encoder) {
+        String fingerprint = fingerprint(key, sources);
+        String baseName = fileName(key);
+        Path dataFile = directory.resolve(baseName + DATA_SUFFIX);
+        try {
+            ByteBuffer published = tryMap(dataFile, fingerprint);
+            if (published != null) {
+                logger.debug("Mapped shared data cache entry '{}' from {}", key, dataFile);
+                return published;
+            }
+
+            synchronized (LOCAL_LOCKS.computeIfAbsent(dataFile, file -> new Object())) {
+                Files.createDirectories(directory);
+                try (FileChannel lockChannel = FileChannel.open(directory.resolve(baseName + LOCK_SUFFIX),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    FileLock lock = lockChannel.lock();
+                    try {
+                        // Another process may have published the entry while this one waited for the lock
+                        published = tryMap(dataFile, fingerprint);
+                        if (published != null) {
+                            return published;
+                        }
+                        deleteAbandonedTempFiles(baseName);
+                        publish(dataFile, baseName, fingerprint, encoder.get());
+                        logger.info("Published shared data cache entry '{}' to {}", key, dataFile);
+                    } finally {
+                        lock.release();
+                    }
+                }
+            }
+
+            published = tryMap(dataFile, fingerprint);
+            if (published == null) {
+                throw new IOException("Published entry failed verification: " + dataFile);
+            }
+            return published;
+        } catch (IOException error) {
+            ErrorHandler.logError(error, "map", "Failed to map shared data cache entry: {}", key);
+            throw new RuntimeException("Failed to map shared data cache entry: " + key, error);
+        }
+    }
+
+    /**
+     * Maps a published entry, or returns null if it is missing, belongs to other sources or is incomplete.
+     */
+    private ByteBuffer tryMap(Path dataFile, String fingerprint) throws IOException {
+        if (!Files.exists(dataFile)) {
+            return null;
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        byte[] expected = fingerprint.getBytes(StandardCharsets.UTF_8);
+        int payloadOffset = payloadOffset(expected.length);
+        if (buffer.capacity() < payloadOffset || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            logger.info("Ignoring incomplete shared data cache file {}", dataFile);
+            return null;
+        }
+        byte[] actual = new byte[expected.length];
+        buffer.get(12, actual);
+        if (buffer.getInt(8) != expected.length || !Arrays.equals(expected, actual)) {
+            logger.info("Ignoring stale shared data cache file {}", dataFile);
+            return null;
+        }
+
+        long payloadLength = buffer.getLong(payloadOffset - 16);
+        long checksum = buffer.getLong(payloadOffset - 8);
+        if (payloadLength != buffer.capacity() - payloadOffset) {
+            logger.info("Ignoring truncated shared data cache file {}", dataFile);
+            return null;
+        }
+        ByteBuffer payload = buffer.slice(payloadOffset, (int) payloadLength).asReadOnlyBuffer();
+        if (checksum(payload) != checksum) {
+            logger.info("Ignoring corrupt shared data cache file {}", dataFile);
+            return null;
+        }
+        return payload;
+    }
+
+    private void publish(Path dataFile, String baseName, String fingerprint, Payload payload) throws IOException {
+        byte[] fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+        int payloadOffset = payloadOffset(fingerprintBytes.length);
+        Path tempFile = directory.resolve(baseName + "." + ProcessHandle.current().pid() + TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) payloadOffset + payload.size());
+                ByteBuffer body = buffer.slice(payloadOffset, payload.size());
+                payload.writeTo(body);
+                buffer.putInt(0, MAGIC)
+                        .putInt(4, VERSION)
+                        .putInt(8, fingerprintBytes.length)
+                        .put(12, fingerprintBytes)
+                        .putLong(payloadOffset - 16, payload.size())
+                        .putLong(payloadOffset - 8, checksum(body.flip()));
+                buffer.force();
+            }
+            Files.move(tempFile, dataFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Removes temporary files of writers that died mid-write. Only called while holding the entry's lock,
+     * so no live writer can own them.
+     */
+    private void deleteAbandonedTempFiles(String baseName) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, baseName + ".*" + TEMP_SUFFIX)) {
+            for (Path file : files) {
+                logger.info("Removing abandoned shared data cache file {}", file);
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static int payloadOffset(int fingerprintLength) {
+        // magic, version, fingerprint length, fingerprint, payload length, checksum; payload 8-byte aligned
+        int headerEnd = 12 + fingerprintLength + 16;
+        return (headerEnd + 7) & ~7;
+    }
+
+    private static long checksum(ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return crc.getValue();
+    }
+
+    private static String fingerprint(String key, List<Path> sources) {
+        StringBuilder fingerprint = new StringBuilder(key);
+        for (Path source : sources) {
+            try {
+                Path absolute = source.toAbsolutePath().normalize();
+                fingerprint.append('\n').append(absolute)
+                        .append('|').append(Files.size(absolute))
+                        .append('|').append(Files.getLastModifiedTime(absolute).toMillis());
+            } catch (IOException error) {
+                ErrorHandler.logError(error, "fingerprint", "Failed to read attributes of source: {}", source);
+                throw new RuntimeException("Failed to read attributes of source: " + source, error);
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    private static String fileName(String key) {
+        String readable = key.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (readable.length() > 80) {
+            readable = readable.substring(readable.length() - 80);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return readable + "-" + Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * An encoded dataset of known size.
+     */
+    public interface Payload {
+
+        /**
+         * Number of bytes {@link #writeTo(ByteBuffer)} writes.
+         */
+        int size();
+
+        /**
+         * Writes the encoded dataset at the buffer's position.
+         */
+        void writeTo(ByteBuffer target);
+
+        static Payload of(byte[] bytes) {
+            return new Payload() {
+                @Override
+                public int size() {
+                    return bytes.length;
+                }
+
+                @Override
+                public void writeTo(ByteBuffer target) {
+                    target.put(bytes);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.data.driven.utils.storage;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rows that did not fit the heap budget, stored on disk as a sequence of {@link ColumnarTable} segment files
+ * written by {@link SpillingRowBuffer}.
+ * <p>
+ * Segments are memory-mapped read-only when a row in them is read, and only the {@value #MAPPED_SEGMENTS} most
+ * recently used segments stay mapped, so the working set is bounded by the segment size rather than the table size.
+ * Sequential reads, such as provider iteration or building a column index, touch each segment once.
+ * <p>
+ * The segment files are deleted by {@link #close()}. Files that are still on disk when the JVM exits, because a table
+ * was never closed, are deleted by a single shutdown hook.
+ */
+public final class SpilledTable implements AutoCloseable {
+
+    private static final Logger logger = LoggerUtils.getLogger(SpilledTable.class);
+
+    static final int MAPPED_SEGMENTS = 4;
+
+    // Segment files written and not yet deleted, for the shutdown hook
+    private static final Set<Path> LIVE_FILES = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> List.copyOf(LIVE_FILES).forEach(SpilledTable::deleteQuietly), "spill-cleanup"));
+    }
+
+    private final List<Path> files;
+    private final int[] firstRows;
+    private final int rowCount;
+    private final long byteSize;
+    // Access-ordered, so the eldest entry is the least recently read segment
+    private final Map<Integer, ColumnarTable> mapped = new LinkedHashMap<>(MAPPED_SEGMENTS * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ColumnarTable> eldest) {
+            return size() > MAPPED_SEGMENTS;
+        }
+    };
+    private volatile boolean closed;
+
+    SpilledTable(List<Path> files, int[] segmentRowCounts) throws IOException {
+        this.files = List.copyOf(files);
+        this.firstRows = new int[segmentRowCounts.length];
+        int rows = 0;
+        long bytes = 0;
+        for (int segment = 0; segment < segmentRowCounts.length; segment++) {
+            firstRows[segment] = rows;
+            rows += segmentRowCounts[segment];
+            bytes += Files.size(files.get(segment));
+        }
+        this.rowCount = rows;
+        this.byteSize = bytes;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getSegmentCount() {
+        return files.size();
+    }
+
+    /**
+     * Size of all segment files in bytes.
+     */
+    public long getByteSize() {
+        return byteSize;
+    }
+
+    /**
+     * Decodes one row into a new map, mapping its segment if it is not mapped already.
+     *
+     * @param row Zero-based row index
+     * @return The row's values by column name
+     */
+    public Map<String, Object> getRow(int row) {
+        int segment = segmentOf(row);
+        return segment(segment).getRow(row - firstRows[segment]);
+    }
+
+    /**
+     * Decodes a single value.
+     *
+     * @param row    Zero-based row index
+     * @param column The column name
+     * @return The value, or {@code null} if the row has no value for the column
+     */
+    public Object getValue(int row, String column) {
+        int segment = segmentOf(row);
+        return segment(segment).getValue(row - firstRows[segment], column);
+    }
+
+    private int segmentOf(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Invalid row: " + row + " (row count " + rowCount + ")");
+        }
+        int index = Arrays.binarySearch(firstRows, row);
+        // Not found means the row lies inside the segment before the insertion point
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private synchronized ColumnarTable segment(int segment) {
+        if (closed) {
+            throw new IllegalStateException("Spilled table has been closed");
+        }
+        ColumnarTable table = mapped.get(segment);
+        if (table == null) {
+            Path file = files.get(segment);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                table = ColumnarTable.wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (IOException error) {
+                ErrorHandler.logError(error, "segment", "Failed to map spill segment: {}", file);
+                throw new RuntimeException("Failed to map spill segment: " + file, error);
+            }
+            mapped.put(segment, table);
+        }
+        return table;
+    }
+
+    /**
+     * Unmaps the segments and deletes their files. Rows cannot be read afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        mapped.clear();
+        files.forEach(SpilledTable::deleteQuietly);
+        logger.debug("Deleted {} spill segments ({} bytes)", files.size(), byteSize);
+    }
+
+    /**
+     * Tracks a new segment file so it is deleted at JVM exit if no table deletes it first.
+     */
+    static void register(Path file) {
+        LIVE_FILES.add(file);
+    }
+
+    static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            LIVE_FILES.remove(file);
+        } catch (IOException error) {
+            // Platforms that lock mapped files (Windows) refuse the delete until the mapping is collected
+            logger.debug("Deferring delete of spill segment {}: {}", file, error.getMessage());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.data.driven.utils.storage;
+
+import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects rows while a dataset is loaded and moves them to disk once they outgrow a heap budget, so a sheet or
+ * section larger than the heap loads as a {@link SpilledTable} instead of failing with {@code OutOfMemoryError}.
+ * <p>
+ * Rows are kept on the heap until their estimated size exceeds the budget. From then on they are written in segments
+ * of about a quarter of the budget, each encoded as a {@link ColumnarTable} file, and at most one segment of rows is
+ * held on the heap at a time. Datasets that stay within the budget are returned as the original rows.
+ * <p>
+ * The budget is set with {@code -Ddata.spill.budget=<bytes>}, accepting {@code k}, {@code m} and {@code g} suffixes;
+ * spilling is off when it is not set. Segment files go to {@code -Ddata.spill.dir} (default: the system temp
+ * directory).
+ */
+public final class SpillingRowBuffer {
+
+    private static final Logger logger = LoggerUtils.getLogger(SpillingRowBuffer.class);
+
+    // Rough retained sizes on a 64-bit JVM with compressed oops
+    private static final long MAP_BYTES = 64;
+    private static final long ENTRY_BYTES = 48;
+    private static final long STRING_BYTES = 40;
+    private static final long BOXED_BYTES = 16;
+
+    private final String name;
+    private final long budgetBytes;
+    private final long segmentBytes;
+    private final Path directory;
+    private final List<Map<String, ?>> rows = new ArrayList<>();
+    private final List<Path> files = new ArrayList<>();
+    private final List<Integer> segmentRowCounts = new ArrayList<>();
+    private long[] rowBytes = new long[1024];
+    private long bufferedBytes;
+
+    /**
+     * @param name        What is being loaded, for log messages
+     * @param budgetBytes The estimated heap size above which rows are spilled
+     * @param directory   Directory for the segment files
+     */
+    public SpillingRowBuffer(String name, long budgetBytes, Path directory) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Spill budget must be positive: " + budgetBytes);
+        }
+        this.name = name;
+        this.budgetBytes = budgetBytes;
+        this.segmentBytes = Math.max(1, budgetBytes / 4);
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the configured spill budget in bytes, or -1 if spilling is off.
+     *
+     * @throws IllegalArgumentException if {@code -Ddata.spill.budget} is not a valid size
+     */
+    public static long configuredBudget() {
+        String budget = System.getProperty("data.spill.budget", "").trim().toLowerCase(Locale.ROOT);
+        if (budget.isEmpty()) {
+            return -1;
+        }
+        long unit = switch (budget.charAt(budget.length() - 1)) {
+            case 'k' -> 1L << 10;
+            case 'm' -> 1L << 20;
+            case 'g' -> 1L << 30;
+            default -> 1;
+        };
+        try {
+            long bytes = Long.parseLong(unit == 1 ? budget : budget.substring(0, budget.length() - 1)) * unit;
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("data.spill.budget must be positive: " + budget);
+            }
+            return bytes;
+        } catch (NumberFormatException error) {
+            throw new IllegalArgumentException("Invalid data.spill.budget: " + budget, error);
+        }
+    }
+
+    /**
+     * Creates a buffer with the configured budget and directory, or returns null if spilling is off.
+     *
+     * @param name What is being loaded, for log messages
+     */
+    public static SpillingRowBuffer configured(String name) {
+        long budget = configuredBudget();
+        return budget < 0 ? null : new SpillingRowBuffer(name, budget, configuredDirectory());
+    }
+
+    /**
+     * Returns the configured directory for segment files.
+     */
+    public static Path configuredDirectory() {
+        return Path.of(System.getProperty("data.spill.dir", System.getProperty("java.io.tmpdir")), "data-spill");
+    }
+
+    public void add(Map<String, ?> row) {
+        add(row, estimateHeapBytes(row));
+    }
+
+    /**
+     * Adds a row whose heap size the caller has estimated, for rows holding values other than cell values, such
+     * as parsed JSON trees.
+     *
+     * @param row            The row; values other than cell types are stored as their {@code toString()}
+     * @param estimatedBytes The heap retained by the row
+     */
+    public void add(Map<String, ?> row, long estimatedBytes) {
+        if (rows.size() == rowBytes.length) {
+            rowBytes = Arrays.copyOf(rowBytes, rowBytes.length * 2);
+        }
+        rowBytes[rows.size()] = estimatedBytes;
+        rows.add(row);
+        bufferedBytes += estimatedBytes;
+        if (isSpilled() ? bufferedBytes >= segmentBytes : bufferedBytes > budgetBytes) {
+            if (!isSpilled()) {
+                logger.info("{} exceeds the spill budget of {} bytes after {} rows; spilling to {}",
+                        name, budgetBytes, rows.size(), directory);
+            }
+            writeSegments();
+        }
+    }
+
+    public void addAll(List<? extends Map<String, ?>> batch) {
+        batch.forEach(this::add);
+    }
+
+    /**
+     * Returns whether any rows have been written to disk.
+     */
+    public boolean isSpilled() {
+        return !files.isEmpty();
+    }
+
+    /**
+     * Returns the rows if none were spilled.
+     *
+     * @throws IllegalStateException if rows were spilled; use {@link #finish()} instead
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends Map<String, ?>> List<R> getRows() {
+        if (isSpilled()) {
+            throw new IllegalStateException(name + " was spilled to disk");
+        }
+        return (List<R>) rows;
+    }
+
+    /**
+     * Writes the remaining rows and returns the spilled table.
+     *
+     * @throws IllegalStateException if no rows were spilled; use {@link #getRows()} instead
+     */
+    public SpilledTable finish() {
+        if (!isSpilled()) {
+            throw new IllegalStateException(name + " was not spilled to disk");
+        }
+        if (!rows.isEmpty()) {
+            writeSegments();
+        }
+        try {
+            SpilledTable table = new SpilledTable(files, segmentRowCounts.stream().mapToInt(Integer::intValue).toArray());
+            logger.info("Spilled {} rows of {} to {} segments ({} bytes)",
+                    table.getRowCount(), name, table.getSegmentCount(), table.getByteSize());
+            return table;
+        } catch (IOException error) {
+            files.forEach(SpilledTable::deleteQuietly);
+            ErrorHandler.logError(error, "finish", "Failed to open spill segments of: {}", name);
+            throw new RuntimeException("Failed to open spill segments of: " + name, error);
+        }
+    }
+
+    /**
+     * Writes the buffered rows as segments of at most {@code segmentBytes} estimated heap size each.
+     */
+    private void writeSegments() {
+        int start = 0;
+        long bytes = 0;
+        for (int row = 0; row < rows.size(); row++) {
+            bytes += rowBytes[row];
+            if (bytes >= segmentBytes || row == rows.size() - 1) {
+                writeSegment(rows.subList(start, row + 1));
+                start = row + 1;
+                bytes = 0;
+            }
+        }
+        rows.clear();
+        bufferedBytes = 0;
+    }
+
+    private void writeSegment(List<Map<String, ?>> segment) {
+        ColumnarTableWriter writer = new ColumnarTableWriter(segment);
+        Path file = null;
+        try {
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, "segment-", ".ddct");
+            SpilledTable.register(file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, writer.size());
+                writer.writeTo(buffer);
+            }
+            files.add(file);
+            segmentRowCounts.add(segment.size());
+        } catch (IOException error) {
+            if (file != null) {
+                SpilledTable.deleteQuietly(file);
+            }
+            files.forEach(SpilledTable::deleteQuietly);
+            ErrorHandler.logError(error, "writeSegment", "Failed to write spill segment of {} to: {}", name, directory);
+            throw new RuntimeException("Failed to write spill segment to: " + directory, error);
+        }
+    }
+
+    /**
+     * Estimates the heap retained by a row map and its values; column names are shared and not counted.
+     */
+    static long estimateHeapBytes(Map<String, ?> row) {
+        long bytes = MAP_BYTES;
+        for (Object value : row.values()) {
+            bytes += ENTRY_BYTES + switch (value) {
+                case null -> 0;
+                case String text -> STRING_BYTES + text.length();
+                case BigDecimal ignored -> 4 * BOXED_BYTES;
+                case Date ignored -> 2 * BOXED_BYTES;
+                default -> BOXED_BYTES;
+            };
+        }
+        return bytes;
+    }
+}
@@ -3,6 +3,7 @@ package com.data.driven.base;
 import com.data.driven.config.excel.ExcelDataCacheConfig;
 import com.data.driven.config.jackson.JsonDataLoader;
 import com.data.driven.config.jackson.JsonDataReader;
+import com.data.driven.config.jackson.JsonDataRegistry;
 import com.data.driven.utils.ErrorHandler;
 import com.data.driven.utils.logging.LoggerUtils;
 import org.apache.logging.log4j.Logger;
@@ -32,7 +33,7 @@ public class TestBase {
     @BeforeMethod(alwaysRun = true)
     public void testSetup() {
         try {
-            // Initialize JSON reader before each test
+            // Pin the current JSON data snapshot for the duration of this test
             reader = JsonDataLoader.getJsonReaderInstance();
             logger.info("Test environment setup completed successfully.");
         } catch (Exception error) {
@@ -41,6 +42,16 @@ public class TestBase {
         }
     }
 
+    /**
+     * Looks up a named dataset registered through {@link JsonDataRegistry}.
+     *
+     * @param name The dataset name
+     * @return The dataset's reader
+     */
+    protected JsonDataReader dataset(String name) {
+        return JsonDataRegistry.get(name);
+    }
+
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
         try {
@@ -56,6 +67,7 @@ public class TestBase {
         try {
             // Reset JSON data
             JsonDataLoader.resetJsonData();
+            JsonDataRegistry.clear();
 
             // Clear Excel Cache
             ExcelDataCacheConfig.clearCache();
@@ -2,10 +2,17 @@ package com.data.driven.config.dataProvider;
 
 import com.data.driven.config.excel.ExcelDataCacheConfig;
 import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.batching.RowBatch;
 import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.metrics.DataAccessTelemetry;
+import com.data.driven.utils.profiling.DataLoadEvents;
+import com.data.driven.utils.query.DataQuery;
+import com.data.driven.utils.query.RowSource;
+import com.data.driven.utils.sampling.RowSampler;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 public class ExcelDataProviderConfig {
     private static final Logger logger = LoggerUtils.getLogger(ExcelDataProviderConfig.class);
@@ -31,18 +38,21 @@ public class ExcelDataProviderConfig {
         }
 
         try {
+            DataAccessTelemetry.recordSource(filePath, sheetName, null, columnName);
             Map<String, Object> dataMap = ExcelDataCacheConfig.getTestDataByIndex(filePath, sheetName, index);
             if (dataMap == null || !dataMap.containsKey(columnName)) {
                 logger.warn("No data found for column {} at index {}", columnName, index);
                 return new Object[][]{{""}}; // Return empty value for missing data
             }
 
+            long rowStart = DataAccessTelemetry.rowStart();
             Object value = sanitizeValue(dataMap.get(columnName));
+            DataAccessTelemetry.rowEnd(rowStart);
             return new Object[][]{{value}};
         } catch (Exception error) {
             ErrorHandler.logError(error, "getValueByIndex",
-                    String.format("Failed to load test data from file: %s, sheet: %s, column: %s, index: %d",
-                            filePath, sheetName, columnName, index));
+                    "Failed to load test data from file: {}, sheet: {}, column: {}, index: {}",
+                    filePath, sheetName, columnName, index);
             throw new RuntimeException("Failed to load test data", error);
         }
     }
@@ -59,28 +69,37 @@ public class ExcelDataProviderConfig {
     public static Iterator<Object[]> getColumnData(String filePath, String sheetName, String columnName) {
         validateInputParameters(filePath, sheetName, columnName);
 
+        DataLoadEvents.DataProviderIteration event = new DataLoadEvents.DataProviderIteration();
+        event.begin();
         try {
+            DataAccessTelemetry.recordSource(filePath, sheetName, null, columnName);
+            if (ExcelDataCacheConfig.isDecodedOnAccess(filePath, sheetName)) {
+                return iterateDecodedColumns(filePath, sheetName, columnName);
+            }
             List<Map<String, Object>> rawData = convertToMapList(
                     ExcelDataCacheConfig.getTestData(filePath, sheetName)
             );
 
             List<Object[]> refinedData = new ArrayList<>();
             for (Map<String, Object> row : rawData) {
+                long rowStart = DataAccessTelemetry.rowStart();
                 Object value = sanitizeValue(row.get(columnName));
                 if (isValidValue(value)) {
                     refinedData.add(new Object[]{value});
                 }
+                DataAccessTelemetry.rowEnd(rowStart);
             }
 
             if (refinedData.isEmpty()) {
                 logger.warn("No valid data found for column: {}", columnName);
             }
 
+            commitProviderEvent(event, "getColumnData", filePath, sheetName, refinedData.size());
             return refinedData.iterator();
         } catch (Exception error) {
             ErrorHandler.logError(error, "getColumnData",
-                    String.format("Failed to load test data from file: %s, sheet: %s, column: %s",
-                            filePath, sheetName, columnName));
+                    "Failed to load test data from file: {}, sheet: {}, column: {}",
+                    filePath, sheetName, columnName);
             throw new RuntimeException("Failed to load test data", error);
         }
     }
@@ -97,32 +116,151 @@ public class ExcelDataProviderConfig {
     public static Iterator<Object[]> getMultiColumnData(String filePath, String sheetName, String... columnNames) {
         validateInputParameters(filePath, sheetName, columnNames);
 
+        DataLoadEvents.DataProviderIteration event = new DataLoadEvents.DataProviderIteration();
+        event.begin();
         try {
+            DataAccessTelemetry.recordSource(filePath, sheetName, null, columnNames);
+            if (ExcelDataCacheConfig.isDecodedOnAccess(filePath, sheetName)) {
+                return iterateDecodedColumns(filePath, sheetName, columnNames);
+            }
             List<Map<String, Object>> rawData = convertToMapList(
                     ExcelDataCacheConfig.getTestData(filePath, sheetName)
             );
 
             List<Object[]> testData = new ArrayList<>();
             for (Map<String, Object> row : rawData) {
+                long rowStart = DataAccessTelemetry.rowStart();
                 if (hasAllRequiredData(row, columnNames)) {
                     Object[] rowData = extractColumnValues(row, columnNames);
                     testData.add(rowData);
                 }
+                DataAccessTelemetry.rowEnd(rowStart);
             }
 
             if (testData.isEmpty()) {
                 logger.warn("No valid data found for columns: {}", Arrays.toString(columnNames));
             }
 
+            commitProviderEvent(event, "getMultiColumnData", filePath, sheetName, testData.size());
             return testData.iterator();
         } catch (Exception error) {
             ErrorHandler.logError(error, "getMultiColumnData",
-                    String.format("Failed to load test data from file: %s, sheet: %s, columns: %s",
-                            filePath, sheetName, Arrays.toString(columnNames)));
+                    "Failed to load test data from file: {}, sheet: {}, columns: {}",
+                    filePath, sheetName, columnNames);
             throw new RuntimeException("Failed to load test data", error);
         }
     }
 
+    /**
+     * Gets the rows of a sheet selected by a query, e.g.
+     * {@code SELECT DISTINCT Hotels WHERE Location IN ('Sydney', 'Paris') ORDER BY Hotels LIMIT 50}.
+     * Rows are produced lazily as TestNG iterates, and values keep the types they were read with.
+     * See {@link DataQuery} for the query language.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet to query
+     * @param query     The query text; compiled once and cached by its text
+     * @return Iterator of result rows: the selected values, or the row map for {@code SELECT *}
+     * @throws IllegalArgumentException if input parameters are invalid or the query does not parse
+     */
+    public static Iterator<Object[]> getQueryData(String filePath, String sheetName, String query) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Query cannot be null or empty");
+        }
+        DataQuery compiled = DataQuery.compile(query);
+        validateInputParameters(filePath, sheetName, compiled.getColumns().isEmpty()
+                ? new String[]{"*"} : compiled.getColumns().toArray(String[]::new));
+
+        try {
+            DataAccessTelemetry.recordSource(filePath, sheetName, null, compiled.getColumns().toArray(String[]::new));
+            return compiled.execute(ExcelDataCacheConfig.getRowSource(filePath, sheetName));
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getQueryData",
+                    "Failed to query test data from file: {}, sheet: {}, query: {}", filePath, sheetName, query);
+            throw new RuntimeException("Failed to query test data", error);
+        }
+    }
+
+    /**
+     * Gets a seeded random sample of the rows of a sheet, e.g. for smoke runs over a large sheet. The sampler walks
+     * row numbers and builds row maps only for the rows it keeps, so an off-heap cached sheet never decodes the
+     * others; a stratified sampler reads only its column from each row.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet to sample
+     * @param sampler   The sampling mode, e.g. {@code RowSampler.stratified("Location", 5, 42L)}
+     * @return Iterator of sampled rows, each a single row map, in sheet order
+     * @throws IllegalArgumentException if input parameters are invalid
+     */
+    public static Iterator<Object[]> getSampledData(String filePath, String sheetName, RowSampler sampler) {
+        if (sampler == null) {
+            throw new IllegalArgumentException("Sampler cannot be null");
+        }
+        String column = sampler.getStratifyColumn();
+        validateInputParameters(filePath, sheetName, column != null ? column : "*");
+
+        try {
+            DataAccessTelemetry.recordSource(filePath, sheetName, null);
+            RowSource source = ExcelDataCacheConfig.getRowSource(filePath, sheetName);
+            Iterator<Map<String, Object>> rows = sampler.sample(IntStream.range(0, source.rowCount()).iterator(),
+                    row -> source.value(row, column), source::row);
+            logger.debug("Sampling {}:{} with {}", filePath, sheetName, sampler);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    return new Object[]{rows.next()};
+                }
+            };
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getSampledData",
+                    "Failed to sample test data from file: {}, sheet: {}", filePath, sheetName);
+            throw new RuntimeException("Failed to sample test data", error);
+        }
+    }
+
+    /**
+     * Gets the rows of a sheet in batches, one {@link RowBatch} per test invocation, for cheap tests over large
+     * sheets where TestNG's per-invocation overhead outweighs the test itself. Each batch is a slice of the cached
+     * sheet: {@link RowBatch#value(int, String)} reads single values and row maps are only built on request.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet to read
+     * @param batchSize The number of rows per invocation
+     * @return Iterator of single-batch test data, in sheet order
+     * @throws IllegalArgumentException if input parameters are invalid
+     */
+    public static Iterator<Object[]> getBatchedData(String filePath, String sheetName, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        validateInputParameters(filePath, sheetName, "*");
+
+        try {
+            DataAccessTelemetry.recordSource(filePath, sheetName, null);
+            return RowBatch.slices(ExcelDataCacheConfig.getRowSource(filePath, sheetName), batchSize);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getBatchedData",
+                    "Failed to batch test data from file: {}, sheet: {}", filePath, sheetName);
+            throw new RuntimeException("Failed to batch test data", error);
+        }
+    }
+
+    private static void commitProviderEvent(DataLoadEvents.DataProviderIteration event, String provider,
+                                            String filePath, String sheetName, int rowCount) {
+        if (event.shouldCommit()) {
+            event.provider = provider;
+            event.file = filePath;
+            event.sheet = sheetName;
+            event.rowCount = rowCount;
+            event.commit();
+        }
+    }
+
     /**
      * Validates input parameters for Excel operations.
      *
@@ -148,6 +286,48 @@ public class ExcelDataProviderConfig {
         }
     }
 
+    /**
+     * Streams the given columns of a sheet kept off the heap, decoding one row at a time from its table or segments
+     * rather than collecting every row first. Rows are filtered as on the in-memory path: all values must be valid.
+     */
+    private static Iterator<Object[]> iterateDecodedColumns(String filePath, String sheetName, String... columnNames) {
+        RowSource source = ExcelDataCacheConfig.getRowSource(filePath, sheetName);
+        logger.debug("Streaming columns {} of off-heap sheet {}:{}", Arrays.toString(columnNames), filePath, sheetName);
+        return new Iterator<>() {
+            private int row;
+            private Object[] next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && row < source.rowCount()) {
+                    long rowStart = DataAccessTelemetry.rowStart();
+                    Object[] values = new Object[columnNames.length];
+                    boolean valid = true;
+                    for (int i = 0; i < columnNames.length && valid; i++) {
+                        values[i] = sanitizeValue(source.value(row, columnNames[i]));
+                        valid = isValidValue(values[i]);
+                    }
+                    row++;
+                    if (valid) {
+                        next = values;
+                    }
+                    DataAccessTelemetry.rowEnd(rowStart);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] values = next;
+                next = null;
+                return values;
+            }
+        };
+    }
+
     /**
      * Converts a 2D array of objects into a list of maps with validation.
      */
@@ -2,44 +2,238 @@ package com.data.driven.config.dataProvider;
 
 import com.data.driven.config.jackson.JsonDataLoader;
 import com.data.driven.config.jackson.JsonDataReader;
+import com.data.driven.config.jackson.JsonLinesDataReader;
 import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.batching.RowBatch;
 import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.metrics.DataAccessTelemetry;
+import com.data.driven.utils.profiling.DataLoadEvents;
+import com.data.driven.utils.query.DataQuery;
+import com.data.driven.utils.sampling.RowSampler;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 public class JsonDataProviderConfig {
 
     private static final Logger logger = LoggerUtils.getLogger(JsonDataProviderConfig.class);
-    private static final JsonDataReader reader = JsonDataLoader.getJsonReaderInstance();
-
 
 
     public static Iterator<Object[]> getStringDataList(String section) {
-        return getDataList(section, reader::getAllStrings, "string");
+        return getDataList(section, JsonDataReader::getAllStrings, "string");
     }
 
     public static Iterator<Object[]> getIntegerDataList(String section) {
-        return getDataList(section, reader::getAllIntegers, "integer");
+        return getDataList(section, JsonDataReader::getAllIntegers, "integer");
     }
 
     public static Iterator<Object[]> getBooleanDataList(String section) {
-        return getDataList(section, reader::getAllBooleans, "boolean");
+        return getDataList(section, JsonDataReader::getAllBooleans, "boolean");
+    }
+
+    /**
+     * Gets data from a section lazily: the reader is looked up on first use and each element
+     * is converted and wrapped only when TestNG asks for it, so large sections never become a full list.
+     *
+     * @param section The array section to read
+     * @param type    The type each element is converted to
+     * @return Lazy iterator of single-element test data
+     */
+    public static <T> Iterator<Object[]> getLazyDataList(String section, Class<T> type) {
+        // The file is only known once the reader is resolved on first use
+        DataAccessTelemetry.recordSource(null, null, section);
+        return new Iterator<>() {
+            private Iterator<T> elements;
+
+            @Override
+            public boolean hasNext() {
+                return elements().hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{elements().next()};
+            }
+
+            private Iterator<T> elements() {
+                if (elements == null) {
+                    try {
+                        elements = reader().iterateData(section, type);
+                    } catch (Exception error) {
+                        ErrorHandler.logError(error, "getLazyDataList", "Failed to open {} data for section: {}",
+                                type.getSimpleName(), section);
+                        throw new RuntimeException("Failed to open " + type.getSimpleName()
+                                + " data for section: " + section, error);
+                    }
+                }
+                return elements;
+            }
+        };
+    }
+
+    /**
+     * Gets records from a JSON Lines file, decoding one record per iteration.
+     *
+     * @param filePath Path to the JSON Lines file
+     * @param type     The type each record is bound to
+     * @return Lazy iterator of single-record test data
+     */
+    public static <T> Iterator<Object[]> getJsonLinesDataList(String filePath, Class<T> type) {
+        try {
+            DataAccessTelemetry.recordSource(filePath, null, null);
+            return new JsonLinesDataReader(filePath).iterator(type);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getJsonLinesDataList", "Failed to retrieve JSON Lines data from file: {}",
+                    filePath);
+            throw new RuntimeException("Failed to retrieve JSON Lines data from file: " + filePath, error);
+        }
+    }
+
+    /**
+     * Gets the elements of an array section selected by a query, e.g.
+     * {@code SELECT value WHERE value LIKE 'S%' ORDER BY value}. Object elements are queried by their fields;
+     * scalar elements appear as a single column named {@code value}. See {@link DataQuery} for the query language.
+     *
+     * @param section The array section to query
+     * @param query   The query text; compiled once and cached by its text
+     * @return Iterator of result rows: the selected values, or the element map for {@code SELECT *}
+     */
+    public static Iterator<Object[]> getQueryData(String section, String query) {
+        try {
+            DataQuery compiled = DataQuery.compile(query);
+            JsonDataReader reader = reader();
+            DataAccessTelemetry.recordSource(reader.getFilePath(), null, section);
+            return compiled.execute(reader.rowSource(section));
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getQueryData", "Failed to query data for section: {}", section);
+            throw new RuntimeException("Failed to query data for section: " + section, error);
+        }
+    }
+
+    /**
+     * Gets a seeded random sample of an array section, converting only the elements the sampler keeps.
+     *
+     * @param section The array section to sample
+     * @param type    The type each sampled element is converted to
+     * @param sampler The sampling mode, e.g. {@code RowSampler.reservoir(100, 42L)}
+     * @return Iterator of single-element test data, in section order
+     */
+    public static <T> Iterator<Object[]> getSampledDataList(String section, Class<T> type, RowSampler sampler) {
+        try {
+            JsonDataReader reader = reader();
+            DataAccessTelemetry.recordSource(reader.getFilePath(), null, section);
+            Iterator<T> elements = reader.sampleData(section, type, sampler);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return elements.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    return new Object[]{elements.next()};
+                }
+            };
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getSampledDataList", "Failed to sample {} data for section: {}",
+                    type.getSimpleName(), section);
+            throw new RuntimeException("Failed to sample " + type.getSimpleName()
+                    + " data for section: " + section, error);
+        }
+    }
+
+    /**
+     * Gets a seeded random sample of a JSON Lines file while streaming it, binding only the records the sampler
+     * keeps.
+     *
+     * @param filePath Path to the JSON Lines file
+     * @param type     The type each sampled record is bound to
+     * @param sampler  The sampling mode, e.g. {@code RowSampler.bernoulli(0.01, 42L)}
+     * @return Iterator of single-record test data, in file order
+     */
+    public static <T> Iterator<Object[]> getSampledJsonLinesData(String filePath, Class<T> type, RowSampler sampler) {
+        try {
+            DataAccessTelemetry.recordSource(filePath, null, null);
+            return new JsonLinesDataReader(filePath).sample(type, sampler);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getSampledJsonLinesData", "Failed to sample JSON Lines data from file: {}",
+                    filePath);
+            throw new RuntimeException("Failed to sample JSON Lines data from file: " + filePath, error);
+        }
+    }
+
+    /**
+     * Gets an array section in batches, one bound {@link RowBatch} per test invocation. Elements are converted
+     * one batch at a time as TestNG iterates.
+     *
+     * @param section   The array section to read
+     * @param type      The type each element is converted to
+     * @param batchSize The number of elements per invocation
+     * @return Iterator of single-batch test data, in section order
+     */
+    public static <T> Iterator<Object[]> getBatchedDataList(String section, Class<T> type, int batchSize) {
+        try {
+            JsonDataReader reader = reader();
+            DataAccessTelemetry.recordSource(reader.getFilePath(), null, section);
+            return RowBatch.chunks(reader.iterateData(section, type), batchSize);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getBatchedDataList", "Failed to batch {} data for section: {}",
+                    type.getSimpleName(), section);
+            throw new RuntimeException("Failed to batch " + type.getSimpleName()
+                    + " data for section: " + section, error);
+        }
+    }
+
+    /**
+     * Gets the records of a JSON Lines file in batches, one bound {@link RowBatch} per test invocation, decoding
+     * one batch at a time as TestNG iterates.
+     *
+     * @param filePath  Path to the JSON Lines file
+     * @param type      The type each record is bound to
+     * @param batchSize The number of records per invocation
+     * @return Iterator of single-batch test data, in file order
+     */
+    public static <T> Iterator<Object[]> getBatchedJsonLinesData(String filePath, Class<T> type, int batchSize) {
+        try {
+            DataAccessTelemetry.recordSource(filePath, null, null);
+            return new JsonLinesDataReader(filePath).batches(type, batchSize);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "getBatchedJsonLinesData", "Failed to batch JSON Lines data from file: {}",
+                    filePath);
+            throw new RuntimeException("Failed to batch JSON Lines data from file: " + filePath, error);
+        }
+    }
+
+    // Resolved per call so the provider never captures a reader before data is loaded or after a reload
+    private static JsonDataReader reader() {
+        return JsonDataLoader.getJsonReaderInstance();
     }
 
     /**
      * Generic method to get data from the reader based on the provided function.
      */
-    private static  <T> Iterator<Object[]> getDataList(String section, Function<String, List<T>> dataRetriever, String dataType) {
+    private static  <T> Iterator<Object[]> getDataList(String section,
+                                                       BiFunction<JsonDataReader, String, List<T>> dataRetriever,
+                                                       String dataType) {
+        DataLoadEvents.DataProviderIteration event = new DataLoadEvents.DataProviderIteration();
+        event.begin();
         try {
-            List<T> dataList = dataRetriever.apply(section);
+            JsonDataReader reader = reader();
+            DataAccessTelemetry.recordSource(reader.getFilePath(), null, section);
+            List<T> dataList = dataRetriever.apply(reader, section);
+            if (event.shouldCommit()) {
+                event.provider = "getDataList";
+                event.section = section;
+                event.rowCount = dataList.size();
+                event.commit();
+            }
             return dataList.stream().map(data -> new Object[]{data}).iterator();
         } catch (Exception error) {
-            String errorMessage = String.format("Failed to retrieve %s data list for section: %s", dataType, section);
-            ErrorHandler.logError(error, "getDataList", errorMessage);
-            throw new RuntimeException(errorMessage, error);
+            ErrorHandler.logError(error, "getDataList", "Failed to retrieve {} data list for section: {}",
+                    dataType, section);
+            throw new RuntimeException("Failed to retrieve " + dataType + " data list for section: " + section, error);
         }
     }
 }
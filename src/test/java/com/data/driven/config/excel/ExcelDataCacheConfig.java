@@ -2,17 +2,113 @@ package com.data.driven.config.excel;
 
 
 import com.data.driven.utils.ErrorHandler;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.metrics.DataCacheMetrics;
+import com.data.driven.utils.profiling.DataLoadEvents;
+import com.data.driven.utils.query.ColumnIndex;
+import com.data.driven.utils.query.RowSource;
+import com.data.driven.utils.storage.ColumnarTable;
+import com.data.driven.utils.storage.ColumnarTableWriter;
+import com.data.driven.utils.storage.SharedDataCache;
+import com.data.driven.utils.storage.SpilledTable;
+import com.data.driven.utils.storage.SpillingRowBuffer;
+import org.apache.logging.log4j.Logger;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ExcelDataCacheConfig {
 
-    private static final Map<String, Object[][]> TEST_DATA_CACHE = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerUtils.getLogger(ExcelDataCacheConfig.class);
+
+    /**
+     * Where cached sheets are kept, chosen with {@code -Dexcel.cache.storage=heap|direct|mapped}. The off-heap
+     * modes hold each sheet as a {@link ColumnarTable} and decode rows on access; {@code mapped} places the table
+     * in a memory-mapped file under {@code -Dexcel.cache.dir} (default: the system temp directory).
+     * <p>
+     * When the cross-process {@link SharedDataCache} is enabled, sheets are mapped from it instead, whatever the mode.
+     * Otherwise, a sheet that outgrows the {@link SpillingRowBuffer} budget while loading is kept on disk as a
+     * {@link SpilledTable}, whatever the mode.
+     */
+    public enum Storage {
+        HEAP, DIRECT, MAPPED;
+
+        /**
+         * Parses a storage mode, ignoring case.
+         *
+         * @param value The configured mode
+         * @return The matching mode
+         * @throws IllegalArgumentException if the value names no mode
+         */
+        public static Storage parse(String value) {
+            for (Storage storage : values()) {
+                if (storage.name().equalsIgnoreCase(value.trim())) {
+                    return storage;
+                }
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Invalid excel.cache.storage '%s', expected one of %s", value,
+                    Arrays.toString(values()).toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    private static final Path MAPPED_DIRECTORY = Path.of(
+            System.getProperty("excel.cache.dir", System.getProperty("java.io.tmpdir")), "excel-data-cache");
+
+    private static final Map<String, CachedSheet> TEST_DATA_CACHE = new ConcurrentHashMap<>();
+    // Zip part state each cached sheet was loaded from, and the latest state seen per workbook
+    private static final Map<String, WorkbookSnapshot> SHEET_SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final Map<String, WorkbookSnapshot> WORKBOOK_SNAPSHOTS = new ConcurrentHashMap<>();
+    // Workbooks refreshChangedSheets was called for; only their loads record a snapshot
+    private static final Set<String> TRACKED_WORKBOOKS = ConcurrentHashMap.newKeySet();
+    // Every spilled sheet loaded since the last clear, including replaced ones that readers may still be iterating
+    private static final Set<SpilledTable> SPILLED_TABLES = ConcurrentHashMap.newKeySet();
+    private static final DataCacheMetrics METRICS = DataCacheMetrics.register("ExcelDataCacheConfig",
+            new DataCacheMetrics.CacheControl() {
+                @Override
+                public int entryCount() {
+                    return TEST_DATA_CACHE.size();
+                }
+
+                @Override
+                public Collection<?> values() {
+                    return TEST_DATA_CACHE.values().stream().map(CachedSheet::heapValue).toList();
+                }
+
+                @Override
+                public List<String> keys() {
+                    return new ArrayList<>(TEST_DATA_CACHE.keySet());
+                }
+
+                @Override
+                public boolean invalidate(String key) {
+                    SHEET_SNAPSHOTS.remove(key);
+                    return TEST_DATA_CACHE.remove(key) != null;
+                }
+
+                @Override
+                public void invalidateAll() {
+                    TEST_DATA_CACHE.clear();
+                    SHEET_SNAPSHOTS.clear();
+                    WORKBOOK_SNAPSHOTS.clear();
+                }
+            });
 
     /**
      * Retrieves test data from the cache or loads it from the Excel file if not cached.
+     * Sheets that are not kept on the heap are decoded in full on every call; use {@link #iterateTestData} to
+     * read them one row at a time.
      *
      * @param fileName  Path to the Excel file
      * @param sheetName Name of the sheet to read from
@@ -22,7 +118,24 @@ public class ExcelDataCacheConfig {
         try {
             return getCachedData(fileName, sheetName);
         } catch (Exception error) {
-            ErrorHandler.logError(error, "getTestData", "Failed to load test data from file: " + fileName);
+            ErrorHandler.logError(error, "getTestData", "Failed to load test data from file: {}", fileName);
+            throw new RuntimeException("Failed to load test data", error);
+        }
+    }
+
+    /**
+     * Iterates over the same rows as {@link #getTestData}, decoding each row only when it is reached, so a sheet
+     * that was spilled to disk is never brought back onto the heap as a whole.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet to read from
+     * @return Iterator of single-element rows, each holding the row's map
+     */
+    public static Iterator<Object[]> iterateTestData(String filePath, String sheetName) {
+        try {
+            return getCachedSheet(filePath, sheetName).iterateProviderData();
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "iterateTestData", "Failed to load test data from file: {}", filePath);
             throw new RuntimeException("Failed to load test data", error);
         }
     }
@@ -35,53 +148,178 @@ public class ExcelDataCacheConfig {
      * @param index     Index of the row to retrieve
      * @return Map containing the row data with original data types
      * @throws IndexOutOfBoundsException if the index is invalid
-     * @throws ClassCastException        if the data is not in the expected format
      */
     public static Map<String, Object> getTestDataByIndex(String filePath, String sheetName, int index) {
         try {
-            Object[][] allData = getCachedData(filePath, sheetName);
-            if (index < 0 || index >= allData.length) {
+            CachedSheet sheet = getCachedSheet(filePath, sheetName);
+            if (index < 0 || index >= sheet.rowCount()) {
                 throw new IndexOutOfBoundsException(
                         String.format("Invalid index: %d (valid range: 0-%d) for %s:%s",
-                                index, allData.length - 1, filePath, sheetName));
-            }
-
-            Object rowData = allData[index][0];
-            if (!(rowData instanceof Map)) {
-                throw new ClassCastException("Data at index " + index + " is not a Map");
+                                index, sheet.rowCount() - 1, filePath, sheetName));
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> dataMap = (Map<String, Object>) rowData;
-            return dataMap;
+            return sheet.row(index);
         } catch (Exception error) {
-            ErrorHandler.logError(error, "getTestDataByIndex", "Failed to load test data from file: " + filePath);
+            ErrorHandler.logError(error, "getTestDataByIndex", "Failed to load test data from file: {}", filePath);
             throw new RuntimeException("Failed to load test data", error);
         }
     }
 
+    /**
+     * Gets a cached sheet as a query source. The source builds an equality index on a column the first time a query
+     * needs one and keeps it for as long as the sheet stays cached.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet to read from
+     * @return The cached rows
+     */
+    public static RowSource getRowSource(String filePath, String sheetName) {
+        return getCachedSheet(filePath, sheetName);
+    }
+
+    /**
+     * Returns whether a sheet exceeded the spill budget and is read from disk, loading it first if it is not cached.
+     * Providers use this to stream such sheets row by row instead of collecting all of them.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet
+     * @return true if the sheet is kept in spill segment files
+     */
+    public static boolean isSpilled(String filePath, String sheetName) {
+        return getCachedSheet(filePath, sheetName) instanceof SpilledSheet;
+    }
+
+    /**
+     * Returns whether a sheet is kept off the Java heap and decoded on access, loading it first if it is not cached.
+     * This covers spilled sheets, the {@code direct} and {@code mapped} modes and the {@link SharedDataCache}.
+     * Providers use this to stream such sheets row by row instead of decoding all of them.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet
+     * @return true if rows are decoded as they are read
+     */
+    public static boolean isDecodedOnAccess(String filePath, String sheetName) {
+        return !(getCachedSheet(filePath, sheetName) instanceof HeapSheet);
+    }
+
     /**
      * Loads test data from cache or fetches from file if not cached.
      */
     private static Object[][] getCachedData(String filePath, String sheetName) {
+        return getCachedSheet(filePath, sheetName).toProviderData();
+    }
+
+    private static CachedSheet getCachedSheet(String filePath, String sheetName) {
         try {
             String cacheKey = generateCacheKey(filePath, sheetName);
-            return TEST_DATA_CACHE.computeIfAbsent(cacheKey, key -> loadTestData(filePath, sheetName));
+            CachedSheet cached = TEST_DATA_CACHE.get(cacheKey);
+            if (cached != null) {
+                METRICS.recordHit();
+                return cached;
+            }
+
+            METRICS.recordMiss();
+            recordCacheAccess(cacheKey, DataLoadEvents.CacheAccess.MISS);
+            return TEST_DATA_CACHE.computeIfAbsent(cacheKey, key -> loadAndRecord(key, filePath, sheetName));
         } catch (Exception error) {
-            ErrorHandler.logError(error, "getCachedData", "Failed to load test data from file: " + filePath);
+            ErrorHandler.logError(error, "getCachedSheet", "Failed to load test data from file: {}", filePath);
             throw new RuntimeException("Failed to load test data", error);
         }
     }
 
+    /**
+     * Loads a sheet, recording the load in the metrics and the workbook state it was loaded from.
+     */
+    private static CachedSheet loadAndRecord(String cacheKey, String filePath, String sheetName) {
+        DataLoadEvents.CacheAccess event = new DataLoadEvents.CacheAccess();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            // Captured before parsing, so an edit made during the load shows up as a change on the next refresh
+            WorkbookSnapshot snapshot = isTracked(filePath) ? captureSnapshot(filePath) : null;
+            CachedSheet loaded = loadTestData(filePath, sheetName);
+            if (snapshot != null) {
+                SHEET_SNAPSHOTS.put(cacheKey, snapshot);
+            }
+            METRICS.recordLoad(System.nanoTime() - start);
+            commitCacheAccess(event, cacheKey, DataLoadEvents.CacheAccess.LOAD);
+            return loaded;
+        } catch (RuntimeException error) {
+            METRICS.recordLoadFailure();
+            throw error;
+        }
+    }
+
+    /**
+     * Returns whether loads of a workbook record the state they were loaded from: once
+     * {@link #refreshChangedSheets} was called for it, or for every workbook with
+     * {@code -Dexcel.cache.trackChanges=true}.
+     */
+    private static boolean isTracked(String filePath) {
+        return TRACKED_WORKBOOKS.contains(filePath) || Boolean.getBoolean("excel.cache.trackChanges");
+    }
+
+    /**
+     * Captures the zip part state of an {@code .xlsx} workbook, or returns null for formats without one.
+     */
+    private static WorkbookSnapshot captureSnapshot(String filePath) {
+        if (!WorkbookSnapshot.isSupported(filePath)) {
+            return null;
+        }
+        WorkbookSnapshot snapshot = WorkbookSnapshot.capture(filePath, WORKBOOK_SNAPSHOTS.get(filePath));
+        WORKBOOK_SNAPSHOTS.put(filePath, snapshot);
+        return snapshot;
+    }
+
+    private static void recordCacheAccess(String cacheKey, String outcome) {
+        DataLoadEvents.CacheAccess event = new DataLoadEvents.CacheAccess();
+        commitCacheAccess(event, cacheKey, outcome);
+    }
+
+    private static void commitCacheAccess(DataLoadEvents.CacheAccess event, String cacheKey, String outcome) {
+        if (event.shouldCommit()) {
+            event.cache = "ExcelDataCacheConfig";
+            event.key = cacheKey;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
     /**
      * Loads test data from the Excel file.
      */
-    private static Object[][] loadTestData(String filePath, String sheetName) {
+    private static CachedSheet loadTestData(String filePath, String sheetName) {
         try {
-            List<Map<String, Object>> testData = ExcelConfigManager.loadExcelDataAsList(filePath, sheetName);
-            return testData.stream().map(data -> new Object[]{data}).toArray(Object[][]::new);
+            // Parsed per load rather than in a static initializer, so a bad value fails this load with a clear message
+            Storage storage = Storage.parse(System.getProperty("excel.cache.storage", "heap"));
+            Optional<SharedDataCache> sharedCache = SharedDataCache.configured();
+            if (sharedCache.isPresent()) {
+                return new OffHeapSheet(ColumnarTable.wrap(sharedCache.get().map(
+                        "excel:" + generateCacheKey(filePath, sheetName),
+                        List.of(Path.of(filePath)),
+                        () -> new ColumnarTableWriter(ExcelConfigManager.loadExcelDataAsList(filePath, sheetName)))));
+            }
+
+            List<Map<String, Object>> testData;
+            SpillingRowBuffer spillBuffer = SpillingRowBuffer.configured(generateCacheKey(filePath, sheetName));
+            if (spillBuffer != null) {
+                ExcelConfigManager.streamExcelData(filePath, sheetName, spillBuffer::addAll);
+                if (spillBuffer.isSpilled()) {
+                    SpilledTable table = spillBuffer.finish();
+                    SPILLED_TABLES.add(table);
+                    return new SpilledSheet(table);
+                }
+                testData = spillBuffer.getRows();
+            } else {
+                testData = ExcelConfigManager.loadExcelDataAsList(filePath, sheetName);
+            }
+            return switch (storage) {
+                case HEAP -> new HeapSheet(testData.stream().map(data -> new Object[]{data}).toArray(Object[][]::new));
+                case DIRECT -> new OffHeapSheet(ColumnarTable.allocateDirect(testData));
+                case MAPPED -> new OffHeapSheet(ColumnarTable.mapTemporary(testData, MAPPED_DIRECTORY));
+            };
         } catch (Exception error) {
-            ErrorHandler.logError(error, "loadTestData", "Failed to load test data from file: " + filePath);
+            ErrorHandler.logError(error, "loadTestData", "Failed to load test data from file: {}", filePath);
             throw new RuntimeException("Failed to load test data", error);
         }
     }
@@ -100,21 +338,264 @@ public class ExcelDataCacheConfig {
 
     public static void clearCache() {
         try {
+            METRICS.recordEvictions(TEST_DATA_CACHE.size());
             TEST_DATA_CACHE.clear();
+            SHEET_SNAPSHOTS.clear();
+            WORKBOOK_SNAPSHOTS.clear();
+            // Deletes the segment files of spilled sheets
+            SPILLED_TABLES.forEach(SpilledTable::close);
+            SPILLED_TABLES.clear();
         } catch (Exception error) {
             ErrorHandler.logError(error, "clearCache", "Failed to clear cache");
             throw new RuntimeException("Failed to clear cache", error);
         }
     }
 
+    /**
+     * Reloads a cached sheet, whether or not the file changed. Use {@link #refreshChangedSheets} to reparse only
+     * the sheets that changed.
+     *
+     * @param filePath  Path to the Excel file
+     * @param sheetName Name of the sheet to refresh
+     */
     public static void refreshCache(String filePath, String sheetName) {
         try {
             String cacheKey = generateCacheKey(filePath, sheetName);
-            TEST_DATA_CACHE.remove(cacheKey);
-            getCachedData(filePath, sheetName); // Reload the data
+            SHEET_SNAPSHOTS.remove(cacheKey);
+            if (TEST_DATA_CACHE.remove(cacheKey) != null) {
+                METRICS.recordEvictions(1);
+            }
+            getCachedSheet(filePath, sheetName); // Reload the data
         } catch (Exception error) {
             ErrorHandler.logError(error, "refreshCache", "Failed to refresh cache");
             throw new RuntimeException("Failed to refresh cache", error);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reloads the cached sheets of a workbook that changed since they were loaded, leaving the others cached.
+     * For {@code .xlsx} workbooks, a sheet counts as changed if its worksheet part has a different CRC32 or size in
+     * the zip's central directory, or if it uses shared strings that now hold other text. Styles changes and, for
+     * sheets with formulas, changes to any other sheet count as well. Other formats are reloaded in full. Sheets that
+     * no longer exist are evicted.
+     * <p>
+     * Workbook state is only recorded for workbooks being tracked, so plain loads do not pay for it. The first call
+     * for a workbook starts tracking it: its sheets loaded before then have no recorded state and are reloaded once.
+     * Set {@code -Dexcel.cache.trackChanges=true} to record the state from the first load instead.
+     *
+     * @param filePath Path to the Excel file
+     * @return The names of the sheets that were reloaded or evicted
+     */
+    public static List<String> refreshChangedSheets(String filePath) {
+        try {
+            TRACKED_WORKBOOKS.add(filePath);
+            String prefix = generateCacheKey(filePath, "");
+            List<String> cachedSheets = TEST_DATA_CACHE.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .map(key -> key.substring(prefix.length()))
+                    .toList();
+            if (cachedSheets.isEmpty()) {
+                return List.of();
+            }
+
+            WorkbookSnapshot current = captureSnapshot(filePath);
+            List<String> changedSheets = current == null ? cachedSheets : findChangedSheets(filePath, cachedSheets, current);
+            for (String sheetName : changedSheets) {
+                String cacheKey = generateCacheKey(filePath, sheetName);
+                if (current != null && !current.getSheetNames().contains(sheetName)) {
+                    SHEET_SNAPSHOTS.remove(cacheKey);
+                    if (TEST_DATA_CACHE.remove(cacheKey) != null) {
+                        METRICS.recordEvictions(1);
+                    }
+                    continue;
+                }
+                // Replaced in place, so readers keep getting the old rows until the new ones are ready
+                TEST_DATA_CACHE.put(cacheKey, loadAndRecord(cacheKey, filePath, sheetName));
+                METRICS.recordEvictions(1);
+            }
+            logger.info("Refreshed {} of {} cached sheets of {}: {}",
+                    changedSheets.size(), cachedSheets.size(), filePath, changedSheets);
+            return changedSheets;
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "refreshChangedSheets", "Failed to refresh sheets of file: {}", filePath);
+            throw new RuntimeException("Failed to refresh cache", error);
+        }
+    }
+
+    /**
+     * Compares each cached sheet with the workbook state it was loaded from, and moves the sheets that did not change
+     * onto the current state.
+     */
+    private static List<String> findChangedSheets(String filePath, List<String> sheetNames, WorkbookSnapshot current) {
+        List<String> changedSheets = new ArrayList<>();
+        Map<WorkbookSnapshot, List<String>> sheetsByBaseline = new LinkedHashMap<>();
+        for (String sheetName : sheetNames) {
+            WorkbookSnapshot loadedFrom = SHEET_SNAPSHOTS.get(generateCacheKey(filePath, sheetName));
+            if (loadedFrom == null) {
+                changedSheets.add(sheetName);
+            } else {
+                sheetsByBaseline.computeIfAbsent(loadedFrom, snapshot -> new ArrayList<>()).add(sheetName);
+            }
+        }
+        sheetsByBaseline.forEach((loadedFrom, sheets) -> {
+            List<String> changed = loadedFrom.changedSheets(current, sheets);
+            changedSheets.addAll(changed);
+            sheets.stream()
+                    .filter(sheetName -> !changed.contains(sheetName))
+                    .forEach(sheetName -> SHEET_SNAPSHOTS.put(generateCacheKey(filePath, sheetName), current));
+        });
+        return changedSheets;
+    }
+
+    /**
+     * A cached sheet in one of the {@link Storage} modes.
+     */
+    private interface CachedSheet extends RowSource {
+
+        /**
+         * The rows in data provider form, one map per row, decoded as the iterator reaches them.
+         */
+        default Iterator<Object[]> iterateProviderData() {
+            return new Iterator<>() {
+                private int row;
+
+                @Override
+                public boolean hasNext() {
+                    return row < rowCount();
+                }
+
+                @Override
+                public Object[] next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return new Object[]{row(row++)};
+                }
+            };
+        }
+
+        /**
+         * The rows in data provider form, one map per row.
+         */
+        default Object[][] toProviderData() {
+            Object[][] rows = new Object[rowCount()][];
+            Iterator<Object[]> iterator = iterateProviderData();
+            for (int row = 0; row < rows.length; row++) {
+                rows[row] = iterator.next();
+            }
+            return rows;
+        }
+
+        /**
+         * The part of the sheet held on the Java heap, for retained-size estimates.
+         */
+        Object heapValue();
+
+        /**
+         * Equality indexes built so far, by column.
+         */
+        Map<String, ColumnIndex> indexes();
+
+        @Override
+        default Optional<ColumnIndex> index(String column) {
+            return Optional.of(indexes().computeIfAbsent(column, key -> ColumnIndex.build(this, key)));
+        }
+    }
+
+    private record HeapSheet(Object[][] rows, Map<String, ColumnIndex> indexes) implements CachedSheet {
+
+        private HeapSheet(Object[][] rows) {
+            this(rows, new ConcurrentHashMap<>());
+        }
+
+        @Override
+        public int rowCount() {
+            return rows.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> row(int index) {
+            return (Map<String, Object>) rows[index][0];
+        }
+
+        @Override
+        public Object value(int row, String column) {
+            return row(row).get(column);
+        }
+
+        @Override
+        public Iterator<Object[]> iterateProviderData() {
+            return Arrays.asList(rows).iterator();
+        }
+
+        @Override
+        public Object[][] toProviderData() {
+            return rows;
+        }
+
+        @Override
+        public Object heapValue() {
+            return rows;
+        }
+    }
+
+    private record OffHeapSheet(ColumnarTable table, Map<String, ColumnIndex> indexes) implements CachedSheet {
+
+        private OffHeapSheet(ColumnarTable table) {
+            this(table, new ConcurrentHashMap<>());
+        }
+
+        @Override
+        public int rowCount() {
+            return table.getRowCount();
+        }
+
+        @Override
+        public Map<String, Object> row(int index) {
+            return table.getRow(index);
+        }
+
+        @Override
+        public Object value(int row, String column) {
+            return table.getValue(row, column);
+        }
+
+        @Override
+        public Object heapValue() {
+            return table.getColumnNames();
+        }
+    }
+
+    /**
+     * A sheet that exceeded the spill budget, read from its segment files on access. {@link #iterateTestData} decodes
+     * one row at a time; only {@link #getTestData} decodes the whole sheet onto the heap.
+     */
+    private record SpilledSheet(SpilledTable table, Map<String, ColumnIndex> indexes) implements CachedSheet {
+
+        private SpilledSheet(SpilledTable table) {
+            this(table, new ConcurrentHashMap<>());
+        }
+
+        @Override
+        public int rowCount() {
+            return table.getRowCount();
+        }
+
+        @Override
+        public Map<String, Object> row(int index) {
+            return table.getRow(index);
+        }
+
+        @Override
+        public Object value(int row, String column) {
+            return table.getValue(row, column);
+        }
+
+        @Override
+        public Object heapValue() {
+            // Rows live in the segment files and the mapped pages outside the heap
+            return List.of();
+        }
+    }
+}
@@ -4,7 +4,8 @@ public enum TestResourcePath {
 
     ADACTIN_HOTEL_JSON("json/AdactinHotelTestData.json"),
     ADACTIN_HOTEL_SCHEMA("json/AdactinHotelDataSchema.json"),
-    ADACTIN_HOTEL_EXCEL("excel/AdactinHotelTestData.xlsx");
+    ADACTIN_HOTEL_EXCEL("excel/AdactinHotelTestData.xlsx"),
+    ADACTIN_HOTEL_XLSB("excel/AdactinHotelTestData.xlsb");
 
     private static final String ROOT_PATH = "src/test/resources/testData/";
     private final String filePath;
@@ -2,6 +2,7 @@ package com.data.driven.dataProvider;
 
 import com.data.driven.config.dataProvider.ExcelDataProviderConfig;
 import com.data.driven.config.paths.TestResourcePath;
+import com.data.driven.utils.sampling.RowSampler;
 import org.testng.annotations.DataProvider;
 
 import java.util.Iterator;
@@ -45,6 +46,33 @@ public class ExcelDataProvider {
         );
     }
 
+    @DataProvider(name = "HotelLocations")
+    public Iterator<Object[]> getHotelLocations() {
+        return ExcelDataProviderConfig.getQueryData(
+                EXCEL_FILE_PATH,
+                BOOKING_SHEET,
+                "SELECT Location, Hotels WHERE Hotels IS NOT NULL ORDER BY Location"
+        );
+    }
+
+    @DataProvider(name = "SampledBookings")
+    public Iterator<Object[]> getSampledBookings() {
+        return ExcelDataProviderConfig.getSampledData(
+                EXCEL_FILE_PATH,
+                BOOKING_SHEET,
+                RowSampler.stratified("Location", 1, 42L)
+        );
+    }
+
+    @DataProvider(name = "BookingBatches")
+    public Iterator<Object[]> getBookingBatches() {
+        return ExcelDataProviderConfig.getBatchedData(
+                EXCEL_FILE_PATH,
+                BOOKING_SHEET,
+                4
+        );
+    }
+
     @DataProvider(name = "ExpiryYear")
     public Object[][] ExpiryYearDataByIndex() {
         return ExcelDataProviderConfig.getValueByIndex(
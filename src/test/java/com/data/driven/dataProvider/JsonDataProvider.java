@@ -38,4 +38,9 @@ public class JsonDataProvider {
         }
     }
 
+    @DataProvider(name = "LocationsLazyDataList")
+    public Iterator<Object[]> LocationsLazyDataList() {
+        return JsonDataProviderConfig.getLazyDataList("Locations", String.class);
+    }
+
 }
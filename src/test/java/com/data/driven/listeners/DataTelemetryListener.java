@@ -0,0 +1,232 @@
+package com.data.driven.listeners;
+
+import com.data.driven.utils.batching.RowBatch;
+import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.metrics.DataAccessTelemetry;
+import com.data.driven.utils.metrics.LatencyHistogram;
+import org.apache.logging.log4j.Logger;
+import org.testng.IDataProviderListener;
+import org.testng.IDataProviderMethod;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits suite wall time into data preparation and test execution, per provider and per test method.
+ * <p>
+ * Recorded phases:
+ * <ul>
+ *     <li><b>construction</b> - running the data provider method</li>
+ *     <li><b>rows</b> - sanitizing and projecting each row inside the provider, as reported through
+ *     {@link DataAccessTelemetry}</li>
+ *     <li><b>binding</b> - the gap between two iterations of a data-driven test, excluding configuration methods.
+ *     This is where TestNG pulls the next row and binds parameters, and where lazy providers decode their rows</li>
+ *     <li><b>body</b> - the test method itself</li>
+ * </ul>
+ * Each iteration is tagged with the file, sheet, section and columns its provider read (as the
+ * {@value #DATA_SOURCE_ATTRIBUTE} result attribute) and its row index, or the rows of its {@link RowBatch}.
+ * A summary is logged when the suite finishes.
+ * <p>
+ * Registered in the suite XMLs but off by default; enable it with {@code -Ddata.telemetry.enabled=true}.
+ */
+public class DataTelemetryListener implements IDataProviderListener, IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger logger = LoggerUtils.getLogger(DataTelemetryListener.class);
+
+    public static final String DATA_SOURCE_ATTRIBUTE = "data.source";
+
+    private final Map<String, ProviderStats> providers = new ConcurrentHashMap<>();
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private final ThreadLocal<IterationClock> clocks = ThreadLocal.withInitial(IterationClock::new);
+    private final boolean enabled = Boolean.getBoolean("data.telemetry.enabled");
+
+    @Override
+    public void beforeDataProviderExecution(IDataProviderMethod dataProviderMethod, ITestNGMethod method, ITestContext context) {
+        if (!enabled) {
+            return;
+        }
+        DataAccessTelemetry.beginCapture();
+        clocks.get().providerStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterDataProviderExecution(IDataProviderMethod dataProviderMethod, ITestNGMethod method, ITestContext context) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        IterationClock clock = clocks.get();
+        DataAccessTelemetry.Capture capture = DataAccessTelemetry.endCapture();
+
+        ProviderStats provider = providers.computeIfAbsent(dataProviderMethod.getName(), ProviderStats::new);
+        provider.construction.record(now - clock.providerStart);
+        if (capture != null) {
+            provider.rows.add(capture.getRows());
+        }
+
+        MethodStats stats = methodStats(method);
+        stats.provider = dataProviderMethod.getName();
+        if (capture != null && !capture.getSources().isEmpty()) {
+            stats.source = capture.describeSources();
+        }
+        clock.lastIterationEnd = now;
+        clock.configNanos = 0;
+    }
+
+    @Override
+    public void onDataProviderFailure(ITestNGMethod method, ITestContext context, RuntimeException exception) {
+        if (!enabled) {
+            return;
+        }
+        DataAccessTelemetry.endCapture();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod invokedMethod, ITestResult result) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        IterationClock clock = clocks.get();
+        if (!invokedMethod.isTestMethod()) {
+            clock.configStart = now;
+            return;
+        }
+
+        ITestNGMethod method = invokedMethod.getTestMethod();
+        MethodStats stats = methodStats(method);
+        if (method.getDataProviderMethod() != null && clock.lastIterationEnd != 0) {
+            stats.binding.record(now - clock.lastIterationEnd - clock.configNanos);
+        }
+        if (stats.source != null) {
+            result.setAttribute(DATA_SOURCE_ATTRIBUTE, stats.source);
+        }
+        clock.configNanos = 0;
+        clock.bodyStart = now;
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod invokedMethod, ITestResult result) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        IterationClock clock = clocks.get();
+        if (!invokedMethod.isTestMethod()) {
+            clock.configNanos += now - clock.configStart;
+            return;
+        }
+
+        ITestNGMethod method = invokedMethod.getTestMethod();
+        MethodStats stats = methodStats(method);
+        stats.body.record(now - clock.bodyStart);
+        RowBatch<?> batch = TestResultRecords.batchOf(result);
+        int rowIndex = TestResultRecords.rowIndexOf(result);
+        if (batch != null) {
+            synchronized (stats.rows) {
+                stats.rows.set(batch.getFirstRow(), batch.getFirstRow() + batch.size());
+            }
+        } else if (rowIndex >= 0) {
+            synchronized (stats.rows) {
+                stats.rows.set(rowIndex);
+            }
+        }
+        clock.lastIterationEnd = method.getDataProviderMethod() != null ? now : 0;
+    }
+
+    private MethodStats methodStats(ITestNGMethod method) {
+        return methods.computeIfAbsent(method.getQualifiedName(), MethodStats::new);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (providers.isEmpty() && methods.isEmpty()) {
+            return;
+        }
+
+        long construction = providers.values().stream().mapToLong(p -> p.construction.getTotalNanos()).sum();
+        long binding = methods.values().stream().mapToLong(m -> m.binding.getTotalNanos()).sum();
+        long body = methods.values().stream().mapToLong(m -> m.body.getTotalNanos()).sum();
+        long preparation = construction + binding;
+        double preparationShare = preparation + body == 0 ? 0.0 : 100.0 * preparation / (preparation + body);
+
+        StringBuilder report = new StringBuilder(String.format(
+                "Data telemetry for suite '%s': data preparation %.1f ms (providers %.1f ms, binding %.1f ms), "
+                        + "test bodies %.1f ms, %.1f%% of measured time spent preparing data",
+                suite.getName(), millis(preparation), millis(construction), millis(binding), millis(body),
+                preparationShare));
+
+        providers.values().stream()
+                .sorted(Comparator.comparingLong((ProviderStats p) -> p.construction.getTotalNanos()).reversed())
+                .forEach(p -> report.append(String.format("%n  provider %-28s construction %s | rows %s",
+                        p.name, p.construction.summary(), p.rows.summary())));
+
+        methods.values().stream()
+                .sorted(Comparator.comparingLong((MethodStats m) -> m.body.getTotalNanos() + m.binding.getTotalNanos()).reversed())
+                .forEach(m -> report.append(String.format("%n  test %s%s%n      body %s | binding %s%s",
+                        m.name,
+                        m.provider == null ? "" : " <- " + m.provider + (m.source == null ? "" : " (" + m.source + ")"),
+                        m.body.summary(),
+                        m.binding.summary(),
+                        m.rowsSummary())));
+
+        logger.info(report.toString());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class ProviderStats {
+        private final String name;
+        private final LatencyHistogram construction = new LatencyHistogram();
+        private final LatencyHistogram rows = new LatencyHistogram();
+
+        private ProviderStats(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class MethodStats {
+        private final String name;
+        private final LatencyHistogram body = new LatencyHistogram();
+        private final LatencyHistogram binding = new LatencyHistogram();
+        private final BitSet rows = new BitSet();
+        private volatile String provider;
+        private volatile String source;
+
+        private MethodStats(String name) {
+            this.name = name;
+        }
+
+        private String rowsSummary() {
+            synchronized (rows) {
+                if (rows.isEmpty()) {
+                    return "";
+                }
+                return String.format(" | rows %d distinct, %d..%d", rows.cardinality(), rows.nextSetBit(0), rows.length() - 1);
+            }
+        }
+    }
+
+    /**
+     * Timestamps of the current thread's provider and test invocations.
+     */
+    private static final class IterationClock {
+        private long providerStart;
+        private long lastIterationEnd;
+        private long configStart;
+        private long configNanos;
+        private long bodyStart;
+    }
+}
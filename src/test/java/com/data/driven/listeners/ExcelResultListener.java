@@ -0,0 +1,66 @@
+package com.data.driven.listeners;
+
+import com.data.driven.config.excel.ExcelResultWriter;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+
+/**
+ * Writes one row per test invocation to a results workbook, or one per data row of a batched invocation.
+ * <p>
+ * Registered in the suite XMLs but off by default; enable it with {@code -Dresults.excel.enabled=true}. The output
+ * path defaults to {@code target/test-results/<suite>-results.xlsx} and can be overridden with
+ * {@code -Dresults.excel=<path>}.
+ */
+public class ExcelResultListener implements ISuiteListener, ITestListener {
+
+    private volatile ExcelResultWriter writer;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.getBoolean("results.excel.enabled")) {
+            return;
+        }
+        String defaultPath = "target/test-results/" + suite.getName().trim().replaceAll("\\W+", "-") + "-results.xlsx";
+        writer = new ExcelResultWriter(Path.of(System.getProperty("results.excel", defaultPath)), "Results");
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result);
+    }
+
+    private void record(ITestResult result) {
+        ExcelResultWriter current = writer;
+        if (current != null) {
+            TestResultRecords.allFrom(result).forEach(current::submit);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ExcelResultWriter current = writer;
+        writer = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
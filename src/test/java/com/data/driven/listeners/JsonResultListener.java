@@ -0,0 +1,70 @@
+package com.data.driven.listeners;
+
+import com.data.driven.config.jackson.JsonLinesResultSink;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+
+/**
+ * Writes one JSON Lines record per test invocation, or one per data row of a batched invocation.
+ * <p>
+ * Registered in the suite XMLs but off by default; enable it with {@code -Dresults.jsonl.enabled=true}. The output
+ * path defaults to {@code target/test-results/<suite>-results.jsonl} and can be overridden with
+ * {@code -Dresults.jsonl=<path>}. Tests wait for buffer space rather than losing results; pass
+ * {@code -Dresults.jsonl.overflow=DROP} to never slow tests down instead.
+ */
+public class JsonResultListener implements ISuiteListener, ITestListener {
+
+    private volatile JsonLinesResultSink sink;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.getBoolean("results.jsonl.enabled")) {
+            return;
+        }
+        String defaultPath = "target/test-results/" + suite.getName().trim().replaceAll("\\W+", "-") + "-results.jsonl";
+        JsonLinesResultSink.OverflowPolicy overflowPolicy =
+                JsonLinesResultSink.OverflowPolicy.parse(System.getProperty("results.jsonl.overflow", "BLOCK"));
+        sink = new JsonLinesResultSink(Path.of(System.getProperty("results.jsonl", defaultPath)),
+                8192, overflowPolicy, 1000);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result);
+    }
+
+    private void record(ITestResult result) {
+        JsonLinesResultSink current = sink;
+        if (current != null) {
+            TestResultRecords.allFrom(result).forEach(current::submit);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        JsonLinesResultSink current = sink;
+        sink = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
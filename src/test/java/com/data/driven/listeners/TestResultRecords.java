@@ -0,0 +1,109 @@
+package com.data.driven.listeners;
+
+import com.data.driven.utils.batching.RowBatch;
+import com.data.driven.utils.results.TestResultRecord;
+import org.testng.IDataProviderMethod;
+import org.testng.ITestResult;
+import org.testng.internal.TestResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts TestNG results into {@link TestResultRecord}s for the result writers.
+ */
+final class TestResultRecords {
+
+    private TestResultRecords() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    static TestResultRecord from(ITestResult result) {
+        IDataProviderMethod dataProvider = result.getMethod().getDataProviderMethod();
+        // Prefer the file/sheet/section recorded by DataTelemetryListener over the bare provider name
+        Object recordedSource = result.getAttribute(DataTelemetryListener.DATA_SOURCE_ATTRIBUTE);
+        String dataSource = recordedSource != null ? recordedSource.toString()
+                : dataProvider == null ? "" : dataProvider.getName();
+        int rowIndex = rowIndexOf(result);
+
+        List<String> parameters = new ArrayList<>(result.getParameters().length);
+        for (Object parameter : result.getParameters()) {
+            parameters.add(String.valueOf(parameter));
+        }
+
+        Throwable throwable = result.getThrowable();
+        String error = throwable == null ? null : throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+
+        return new TestResultRecord(
+                result.getMethod().getQualifiedName(),
+                dataSource,
+                rowIndex,
+                parameters,
+                statusOf(result),
+                result.getStartMillis(),
+                TimeUnit.MILLISECONDS.toNanos(result.getEndMillis() - result.getStartMillis()),
+                error);
+    }
+
+    /**
+     * Converts a result into one record per data row: a batched invocation whose test checked its rows through
+     * {@link RowBatch#forEachRow} yields a record for each row, anything else a single record.
+     */
+    static List<TestResultRecord> allFrom(ITestResult result) {
+        RowBatch<?> batch = batchOf(result);
+        if (batch == null || batch.getOutcomes().isEmpty()) {
+            return List.of(from(result));
+        }
+
+        String testName = result.getMethod().getQualifiedName();
+        Object recordedSource = result.getAttribute(DataTelemetryListener.DATA_SOURCE_ATTRIBUTE);
+        String dataSource = recordedSource != null ? recordedSource.toString()
+                : result.getMethod().getDataProviderMethod().getName();
+        List<TestResultRecord> records = new ArrayList<>(batch.getOutcomes().size());
+        for (RowBatch.RowOutcome outcome : batch.getOutcomes()) {
+            Throwable throwable = outcome.error();
+            records.add(new TestResultRecord(
+                    testName,
+                    dataSource,
+                    outcome.rowIndex(),
+                    List.of(String.valueOf(outcome.row())),
+                    outcome.status(),
+                    outcome.startMillis(),
+                    outcome.durationNanos(),
+                    throwable == null ? null : throwable.getClass().getSimpleName() + ": " + throwable.getMessage()));
+        }
+        return records;
+    }
+
+    /**
+     * Returns the row batch an invocation ran with, or null if it was not given one.
+     */
+    static RowBatch<?> batchOf(ITestResult result) {
+        for (Object parameter : result.getParameters()) {
+            if (parameter instanceof RowBatch<?> batch) {
+                return batch;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of the data provider row an invocation ran with, or -1 for non data-driven tests.
+     */
+    static int rowIndexOf(ITestResult result) {
+        // The parameter index is only exposed on TestNG's implementation class
+        if (result.getMethod().getDataProviderMethod() != null && result instanceof TestResult testResult) {
+            return testResult.getParameterIndex();
+        }
+        return -1;
+    }
+
+    private static TestResultRecord.Status statusOf(ITestResult result) {
+        return switch (result.getStatus()) {
+            case ITestResult.SUCCESS -> TestResultRecord.Status.PASS;
+            case ITestResult.SKIP -> TestResultRecord.Status.SKIP;
+            default -> TestResultRecord.Status.FAIL;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.data.driven.tests;
+
+import com.data.driven.config.excel.CsvSheetReader;
+import com.data.driven.config.excel.ExcelOperationException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class CsvSheetReaderTest {
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyQuotedDelimitersAndEscapedQuotes() throws IOException {
+        List<Map<String, Object>> rows = read("Location,Hotels\n"
+                + "\"Sydney, NSW\",\"Hotel \"\"Creek\"\"\"\n"
+                + "Melbourne,\"\"\"Sunshine\"\"\"\n");
+
+        Assert.assertEquals(rows, List.of(
+                Map.of("Location", "Sydney, NSW", "Hotels", "Hotel \"Creek\""),
+                Map.of("Location", "Melbourne", "Hotels", "\"Sunshine\"")));
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyLineEndings() throws IOException {
+        List<Map<String, Object>> expected = List.of(Map.of("Location", "Sydney"), Map.of("Location", "Paris"));
+
+        Assert.assertEquals(read("Location\r\nSydney\r\nParis\r\n"), expected, "CRLF");
+        Assert.assertEquals(read("Location\rSydney\rParis"), expected, "CR");
+        Assert.assertEquals(read("Location\n\nSydney\r\n\r\nParis\n\n"), expected, "Blank lines");
+        Assert.assertEquals(read("﻿Location\nSydney\nParis"), expected, "Byte order mark");
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyLineBreaksInsideQuotes() throws IOException {
+        List<Map<String, Object>> rows = read("Location,Address\r\n"
+                + "Sydney,\"1 George St\nLevel 2\"\r\n"
+                + "Paris,\"5 Rue\r\nBureau 3\"\r\n");
+
+        Assert.assertEquals(rows, List.of(
+                Map.of("Location", "Sydney", "Address", "1 George St\nLevel 2"),
+                Map.of("Location", "Paris", "Address", "5 Rue\r\nBureau 3")));
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyValuesAreTypedLikeExcel() throws IOException {
+        List<Map<String, Object>> rows = read("Rooms,Code,Quoted,Deposit,Rate,Note\n"
+                + "2,007,\"12\",TRUE,0.5, spaced \n");
+
+        Assert.assertEquals(rows, List.of(Map.of("Rooms", 2, "Code", "007", "Quoted", "12", "Deposit", true,
+                "Rate", new BigDecimal("0.5"), "Note", "spaced")));
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyRecordsSpanningMappingWindows() throws IOException {
+        String csv = "﻿Location,Hotels,Address\r\n"
+                + "\"Sydney, NSW\",\"Hotel \"\"Creek\"\"\",\"1 George St\r\nLevel 2\"\r\n"
+                + "Melbourne,Hôtel Sunshine,\"\"\r\n"
+                + "\r\n"
+                + "Brisbane,\"Hotel\nHervey\",3 Queen St";
+        Path file = write(csv);
+        try {
+            List<Map<String, Object>> expected = new CsvSheetReader(file.toString(), ',').readRows();
+            Assert.assertEquals(expected.size(), 3);
+            // Every window size moves the boundaries through quotes, escaped quotes, CRLF pairs and multi-byte text
+            int size = (int) Files.size(file);
+            for (int windowBytes = 3; windowBytes <= size; windowBytes++) {
+                Assert.assertEquals(new CsvSheetReader(file.toString(), ',', windowBytes).readRows(), expected,
+                        "Window of " + windowBytes + " bytes");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> new CsvSheetReader("data.csv", ',', 2));
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyUnterminatedQuoteIsRejected() throws IOException {
+        ExcelOperationException error = Assert.expectThrows(ExcelOperationException.class,
+                () -> read("Location,Hotels\nSydney,Hotel Creek\nParis,\"Hotel\nLouvre\n"));
+        Assert.assertTrue(error.getMessage().startsWith("Unterminated quoted field starting at line 3"),
+                error.getMessage());
+    }
+
+    private static List<Map<String, Object>> read(String csv) throws IOException {
+        Path file = write(csv);
+        try {
+            return new CsvSheetReader(file.toString(), ',').readRows();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Path write(String csv) throws IOException {
+        Path file = Files.createTempFile("rfc4180", ".csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+}
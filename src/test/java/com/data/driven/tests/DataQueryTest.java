@@ -0,0 +1,108 @@
+package com.data.driven.tests;
+
+import com.data.driven.utils.query.ColumnIndex;
+import com.data.driven.utils.query.DataQuery;
+import com.data.driven.utils.query.RowSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class DataQueryTest {
+
+    private static final List<Map<String, Object>> BOOKINGS = List.of(
+            Map.of("Location", "Sydney", "Rooms", 1),
+            Map.of("Location", "Melbourne", "Rooms", 2),
+            Map.of("Location", "Brisbane", "Rooms", 3),
+            Map.of("Location", "Sydney", "Rooms", 4),
+            Map.of("Location", "Adelaide", "Rooms", 5),
+            Map.of("Location", "Paris", "Rooms", 6));
+
+    @Test(groups = {"data-loader"})
+    public void verifyLimitAndOffsetFollowOrder() {
+        Assert.assertEquals(run("SELECT Rooms ORDER BY Rooms DESC LIMIT 3 OFFSET 2"),
+                List.of(List.of(4), List.of(3), List.of(2)));
+        Assert.assertEquals(run("SELECT Rooms LIMIT 2"), List.of(List.of(1), List.of(2)));
+        Assert.assertEquals(run("SELECT Rooms LIMIT 0"), List.of());
+        Assert.assertEquals(run("SELECT Rooms LIMIT 5 OFFSET 10"), List.of());
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyInMatchesListedValues() {
+        List<List<Object>> expected = List.of(List.of("Sydney", 1), List.of("Sydney", 4), List.of("Paris", 6));
+        String query = "SELECT Location, Rooms WHERE Location IN ('Sydney', 'Paris')";
+
+        Assert.assertEquals(run(query), expected);
+        Assert.assertEquals(execute(query, indexed(BOOKINGS)), expected, "Index lookup changed the result");
+        Assert.assertEquals(run("SELECT Rooms WHERE Rooms IN (2, 5.0)"), List.of(List.of(2), List.of(5)));
+        Assert.assertEquals(run("SELECT DISTINCT Location WHERE Location NOT IN ('Sydney', 'Paris') ORDER BY Location"),
+                List.of(List.of("Adelaide"), List.of("Brisbane"), List.of("Melbourne")));
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyCompiledQueriesAreCached() {
+        String query = "SELECT * WHERE Rooms > 2 AND Location LIKE 'S%'";
+        Assert.assertSame(DataQuery.compile(query), DataQuery.compile(query));
+        Assert.assertEquals(run(query), List.of(List.of(BOOKINGS.get(3))));
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyInvalidQueriesAreRejected() {
+        assertRejected("SELECT Location WHERE", "Expected a column name at position 21");
+        assertRejected("SELECT Location WHERE Location = NULL", "Compare with NULL using IS NULL or IS NOT NULL");
+        assertRejected("SELECT Location LIMIT -1", "LIMIT takes a non-negative whole number");
+        assertRejected("SELECT Location LIMIT 2 OFFSET 1.5", "OFFSET takes a non-negative whole number");
+        assertRejected("SELECT Location WHERE Location IN ('Sydney'", "Expected ')'");
+        assertRejected("SELECT Location WHERE Location NOT = 'Sydney'", "Expected IN or LIKE after NOT");
+        assertRejected("SELECT Location WHERE Location = 'Sydney", "Unterminated quote at position 33");
+        assertRejected("SELECT Location ORDER Location", "Expected BY");
+        assertRejected("SELECT Location LIMIT 2 Rooms", "Unexpected 'Rooms'");
+        Assert.assertThrows(IllegalArgumentException.class, () -> DataQuery.compile(null));
+    }
+
+    private static void assertRejected(String query, String message) {
+        IllegalArgumentException error = Assert.expectThrows(IllegalArgumentException.class,
+                () -> DataQuery.compile(query));
+        Assert.assertTrue(error.getMessage().startsWith(message), "Unexpected message: " + error.getMessage());
+        Assert.assertTrue(error.getMessage().endsWith("in query: " + query), "Message lacks the query text");
+    }
+
+    private static List<List<Object>> run(String query) {
+        return execute(query, RowSource.of(BOOKINGS));
+    }
+
+    private static List<List<Object>> execute(String query, RowSource source) {
+        List<List<Object>> rows = new ArrayList<>();
+        DataQuery.compile(query).execute(source).forEachRemaining(row -> rows.add(Arrays.asList(row)));
+        return rows;
+    }
+
+    private static RowSource indexed(List<Map<String, Object>> rows) {
+        RowSource source = RowSource.of(rows);
+        return new RowSource() {
+            @Override
+            public int rowCount() {
+                return source.rowCount();
+            }
+
+            @Override
+            public Object value(int row, String column) {
+                return source.value(row, column);
+            }
+
+            @Override
+            public Map<String, Object> row(int row) {
+                return source.row(row);
+            }
+
+            @Override
+            public Optional<ColumnIndex> index(String column) {
+                return Optional.of(ColumnIndex.build(source, column));
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.data.driven.tests;
+
+import com.data.driven.config.excel.ExcelDataCacheConfig;
+import com.data.driven.utils.storage.SharedDataCache;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ExcelDataCacheTest {
+
+    private static final String SHEET_NAME = "Hotels";
+    private static final String OTHER_SHEET_NAME = "Payments";
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyRefreshChangedSheetsReloadsOnlyChangedSheets() throws IOException {
+        skipWithSharedCache();
+        Path workbook = Files.createTempFile("refresh-tracking", ".xlsx");
+        try {
+            writeWorkbook(workbook, "Hotel Creek");
+            String filePath = workbook.toString();
+            ExcelDataCacheConfig.getTestData(filePath, SHEET_NAME);
+            ExcelDataCacheConfig.getTestData(filePath, OTHER_SHEET_NAME);
+
+            // Unless tracked from the first load, there is no recorded state to compare with yet
+            Set<String> untracked = Boolean.getBoolean("excel.cache.trackChanges")
+                    ? Set.of() : Set.of(SHEET_NAME, OTHER_SHEET_NAME);
+            Assert.assertEquals(Set.copyOf(ExcelDataCacheConfig.refreshChangedSheets(filePath)), untracked);
+            Assert.assertEquals(ExcelDataCacheConfig.refreshChangedSheets(filePath), List.of());
+
+            writeWorkbook(workbook, "Hotel Sunshine");
+            Assert.assertEquals(ExcelDataCacheConfig.refreshChangedSheets(filePath), List.of(SHEET_NAME));
+            Assert.assertEquals(hotelOf(ExcelDataCacheConfig.getTestData(filePath, SHEET_NAME)), "Hotel Sunshine");
+        } finally {
+            Files.deleteIfExists(workbook);
+        }
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyRefreshCacheReloadsUnchangedSheet() throws IOException {
+        skipWithSharedCache();
+        Path workbook = Files.createTempFile("refresh-cache", ".xlsx");
+        // Only heap sheets are handed out as the same array on every call
+        String previousStorage = System.setProperty("excel.cache.storage", "heap");
+        String previousBudget = System.clearProperty("data.spill.budget");
+        try {
+            writeWorkbook(workbook, "Hotel Creek");
+            String filePath = workbook.toString();
+            Object[][] loaded = ExcelDataCacheConfig.getTestData(filePath, SHEET_NAME);
+            Assert.assertSame(ExcelDataCacheConfig.getTestData(filePath, SHEET_NAME), loaded, "Sheet was not cached");
+
+            ExcelDataCacheConfig.refreshCache(filePath, SHEET_NAME);
+
+            Object[][] reloaded = ExcelDataCacheConfig.getTestData(filePath, SHEET_NAME);
+            Assert.assertNotSame(reloaded, loaded, "Unchanged sheet was not reloaded");
+            Assert.assertEquals(hotelOf(reloaded), "Hotel Creek");
+        } finally {
+            restoreProperty("excel.cache.storage", previousStorage);
+            restoreProperty("data.spill.budget", previousBudget);
+            Files.deleteIfExists(workbook);
+        }
+    }
+
+    private static void writeWorkbook(Path workbook, String hotel) throws IOException {
+        try (XSSFWorkbook hotels = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(workbook)) {
+            XSSFSheet sheet = hotels.createSheet(SHEET_NAME);
+            XSSFRow header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Hotels");
+            sheet.createRow(1).createCell(0).setCellValue(hotel);
+
+            XSSFSheet payments = hotels.createSheet(OTHER_SHEET_NAME);
+            payments.createRow(0).createCell(0).setCellValue("Cvv");
+            payments.createRow(1).createCell(0).setCellValue(123);
+            hotels.write(outputStream);
+        }
+    }
+
+    private static Object hotelOf(Object[][] rows) {
+        return ((Map<?, ?>) rows[0][0]).get("Hotels");
+    }
+
+    private static void restoreProperty(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+    }
+
+    // The shared cache maps sheets from its own entries, bypassing the storage mode, spilling and the local cache
+    private static void skipWithSharedCache() {
+        if (SharedDataCache.configured().isPresent()) {
+            throw new SkipException("Not applicable with -Ddata.cache.shared=true");
+        }
+    }
+}
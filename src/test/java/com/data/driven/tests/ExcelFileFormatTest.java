@@ -0,0 +1,137 @@
+package com.data.driven.tests;
+
+import com.data.driven.config.excel.ExcelConfigManager;
+import com.data.driven.config.excel.ExcelDataCacheConfig;
+import com.data.driven.utils.storage.SharedDataCache;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that every load path of a sheet produces the same rows as the in-memory {@code .xlsx} reader.
+ */
+public class ExcelFileFormatTest {
+
+    private static final String SHEET_NAME = "Data";
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifySpilledSheetKeepsCellReaderValues() throws IOException {
+        skipWithSharedCache();
+        Path workbook = writeFormulaWorkbook("spill-formulas");
+        String previousBudget = System.setProperty("data.spill.budget", "1k");
+        try {
+            String filePath = workbook.toString();
+            Assert.assertTrue(ExcelDataCacheConfig.isSpilled(filePath, SHEET_NAME), "Sheet was not spilled");
+
+            List<Map<String, Object>> spilledRows = collectProviderRows(filePath);
+            Assert.assertEquals(spilledRows, ExcelConfigManager.loadExcelDataAsList(filePath, SHEET_NAME));
+            Assert.assertEquals(spilledRows.get(9).get("Adults"), 20);
+        } finally {
+            restoreProperty("data.spill.budget", previousBudget);
+            Files.deleteIfExists(workbook);
+        }
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyDirectStorageStreamsProviderRows() throws IOException {
+        skipWithSharedCache();
+        Path workbook = writeFormulaWorkbook("direct-formulas");
+        String previousStorage = System.setProperty("excel.cache.storage", "Direct");
+        try {
+            String filePath = workbook.toString();
+            Assert.assertTrue(ExcelDataCacheConfig.isDecodedOnAccess(filePath, SHEET_NAME),
+                    "Direct sheet is not decoded on access");
+            Assert.assertEquals(collectProviderRows(filePath),
+                    ExcelConfigManager.loadExcelDataAsList(filePath, SHEET_NAME));
+        } finally {
+            restoreProperty("excel.cache.storage", previousStorage);
+            Files.deleteIfExists(workbook);
+        }
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyInvalidStorageIsRejectedWithValidModes() throws IOException {
+        Path workbook = writeFormulaWorkbook("invalid-storage");
+        String previousStorage = System.setProperty("excel.cache.storage", "disk");
+        try {
+            RuntimeException error = Assert.expectThrows(RuntimeException.class,
+                    () -> ExcelDataCacheConfig.getTestData(workbook.toString(), SHEET_NAME));
+            Throwable cause = error;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            Assert.assertTrue(cause instanceof IllegalArgumentException, "Unexpected cause: " + cause);
+            Assert.assertEquals(cause.getMessage(),
+                    "Invalid excel.cache.storage 'disk', expected one of [heap, direct, mapped]");
+        } finally {
+            restoreProperty("excel.cache.storage", previousStorage);
+        }
+
+        // The class stays usable once the property is fixed
+        try {
+            Assert.assertEquals(ExcelDataCacheConfig.getTestData(workbook.toString(), SHEET_NAME).length, 200);
+        } finally {
+            Files.deleteIfExists(workbook);
+        }
+    }
+
+    /**
+     * Writes a sheet of 200 rows whose second column is a formula, without cached formula results, so only an
+     * evaluating reader sees the totals.
+     */
+    private static Path writeFormulaWorkbook(String prefix) throws IOException {
+        Path workbook = Files.createTempFile(prefix, ".xlsx");
+        try (XSSFWorkbook formulas = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(workbook)) {
+            XSSFSheet sheet = formulas.createSheet(SHEET_NAME);
+            XSSFRow header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Rooms");
+            header.createCell(1).setCellValue("Adults");
+            for (int row = 1; row <= 200; row++) {
+                XSSFRow data = sheet.createRow(row);
+                data.createCell(0).setCellValue(row);
+                data.createCell(1).setCellFormula("A" + (row + 1) + "*2");
+            }
+            formulas.write(outputStream);
+        }
+        return workbook;
+    }
+
+    private static List<Map<String, Object>> collectProviderRows(String filePath) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        Iterator<Object[]> iterator = ExcelDataCacheConfig.iterateTestData(filePath, SHEET_NAME);
+        iterator.forEachRemaining(row -> rows.add(castRow(row[0])));
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castRow(Object row) {
+        return (Map<String, Object>) row;
+    }
+
+    private static void restoreProperty(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+    }
+
+    // The shared cache maps sheets from its own entries, bypassing the storage mode, spilling and the local cache
+    private static void skipWithSharedCache() {
+        if (SharedDataCache.configured().isPresent()) {
+            throw new SkipException("Not applicable with -Ddata.cache.shared=true");
+        }
+    }
+}
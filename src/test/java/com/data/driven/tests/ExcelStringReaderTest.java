@@ -2,10 +2,20 @@ package com.data.driven.tests;
 
 import com.data.driven.base.TestBase;
 import com.data.driven.dataProvider.ExcelDataProvider;
+import com.data.driven.utils.batching.RowBatch;
 import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.results.TestResultRecord;
 import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public class ExcelStringReaderTest extends TestBase {
 
     private static final Logger logger = LoggerUtils.getLogger(ExcelStringReaderTest.class);
@@ -44,4 +54,100 @@ public class ExcelStringReaderTest extends TestBase {
                         "Children Per Room: {}",
                 location, hotel, roomType, numberOfRooms, adultsPerRoom, childrenPerRoom);
     }
+
+    @Test(dataProvider = "HotelLocations",
+            dataProviderClass = ExcelDataProvider.class,
+            groups = {"excel-loader", "data-loader"})
+    public void shouldRetrieveHotelsByLocation(String location, String hotel) {
+        logger.info("Retrieved Hotel: {} in {}", hotel, location);
+        Assert.assertNotNull(location, "Location should not be null");
+        Assert.assertNotNull(hotel, "Query returned a row without a hotel");
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyHotelsByLocationQueryOrder() {
+        List<List<Object>> hotels = new ArrayList<>();
+        new ExcelDataProvider().getHotelLocations().forEachRemaining(row -> hotels.add(Arrays.asList(row)));
+
+        Assert.assertEquals(hotels, List.of(
+                List.of("Adelaide", "Hotel Cornice"),
+                List.of("Brisbane", "Hotel Hervey"),
+                List.of("Melbourne", "Hotel Sunshine"),
+                List.of("Sydney", "Hotel Creek")));
+    }
+
+    @Test(dataProvider = "SampledBookings",
+            dataProviderClass = ExcelDataProvider.class,
+            groups = {"excel-loader", "data-loader"})
+    public void shouldRetrieveSampledBookingPerLocation(Map<String, Object> booking) {
+        logger.info("Sampled Booking: {}", booking);
+        Assert.assertNotNull(booking.get("NumberOfRooms"), "Sampled booking has no room count");
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifySampledBookingsAreRepeatablePerLocation() {
+        List<Object> first = new ArrayList<>();
+        new ExcelDataProvider().getSampledBookings().forEachRemaining(row -> first.add(row[0]));
+        List<Object> second = new ArrayList<>();
+        new ExcelDataProvider().getSampledBookings().forEachRemaining(row -> second.add(row[0]));
+        Assert.assertEquals(second, first, "The same seed sampled different bookings");
+
+        // One booking per Location; the rows without a Location form a stratum of their own
+        Map<Object, Long> perLocation = first.stream()
+                .collect(Collectors.groupingBy(booking -> String.valueOf(((Map<?, ?>) booking).get("Location")),
+                        Collectors.counting()));
+        Assert.assertEquals(perLocation.keySet(), Set.of("Sydney", "Melbourne", "Brisbane", "Adelaide", "London",
+                "New York", "Los Angeles", "Paris", "null"));
+        perLocation.forEach((location, count) ->
+                Assert.assertEquals((long) count, 1L, "Unexpected sample size for " + location));
+    }
+
+    @Test(dataProvider = "BookingBatches",
+            dataProviderClass = ExcelDataProvider.class,
+            groups = {"excel-loader", "data-loader"})
+    public void shouldRetrieveBookingsInBatches(RowBatch<Map<String, Object>> batch) {
+        batch.forEachRow(booking -> {
+            logger.info("Retrieved Booking: {}", booking);
+            Assert.assertNotNull(booking.get("NumberOfRooms"), "Booking has no room count");
+        });
+
+        Assert.assertEquals(batch.getOutcomes().size(), batch.size());
+        for (int row = 0; row < batch.size(); row++) {
+            RowBatch.RowOutcome outcome = batch.getOutcomes().get(row);
+            Assert.assertEquals(outcome.rowIndex(), batch.getFirstRow() + row);
+            Assert.assertEquals(outcome.row(), batch.get(row));
+            Assert.assertEquals(outcome.status(), TestResultRecord.Status.PASS);
+        }
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyBookingBatchSizes() {
+        List<Integer> firstRows = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        new ExcelDataProvider().getBookingBatches().forEachRemaining(row -> {
+            RowBatch<?> batch = (RowBatch<?>) row[0];
+            firstRows.add(batch.getFirstRow());
+            sizes.add(batch.size());
+        });
+
+        // 10 bookings in batches of 4
+        Assert.assertEquals(firstRows, List.of(0, 4, 8));
+        Assert.assertEquals(sizes, List.of(4, 4, 2));
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyBatchRecordsEveryRowOutcome() {
+        RowBatch<Integer> batch = RowBatch.of(20, List.of(1, 2, 3, 4));
+
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> batch.forEachRow(value -> Assert.assertTrue(value % 2 == 1, "Even value " + value)));
+
+        Assert.assertTrue(error.getMessage().startsWith("2 of 4 rows failed, first at row 21"), error.getMessage());
+        List<TestResultRecord.Status> statuses = batch.getOutcomes().stream().map(RowBatch.RowOutcome::status).toList();
+        Assert.assertEquals(statuses, List.of(TestResultRecord.Status.PASS, TestResultRecord.Status.FAIL,
+                TestResultRecord.Status.PASS, TestResultRecord.Status.FAIL));
+        Assert.assertEquals(batch.getOutcomes().get(3).rowIndex(), 23);
+        Assert.assertNull(batch.getOutcomes().get(0).error());
+        Assert.assertTrue(batch.getOutcomes().get(1).error().getMessage().startsWith("Even value 2"));
+    }
 }
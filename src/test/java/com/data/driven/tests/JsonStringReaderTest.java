@@ -1,13 +1,31 @@
 package com.data.driven.tests;
 
 import com.data.driven.base.TestBase;
+import com.data.driven.config.jackson.JsonDataReader;
+import com.data.driven.config.jackson.JsonDataRegistry;
+import com.data.driven.config.paths.TestResourcePath;
 import com.data.driven.dataProvider.JsonDataProvider;
 import com.data.driven.utils.ErrorHandler;
 import com.data.driven.utils.logging.LoggerUtils;
+import com.data.driven.utils.query.DataQuery;
+import com.data.driven.utils.sampling.RowSampler;
+import com.data.driven.utils.storage.SharedDataCache;
 import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class JsonStringReaderTest extends TestBase {
 
@@ -43,4 +61,184 @@ public class JsonStringReaderTest extends TestBase {
             throw new RuntimeException("Failed to read adults per room data", error);
         }
     }
-}
\ No newline at end of file
+
+    @Test(groups = {"json-loader", "data-loader"}, dataProvider = "LocationsLazyDataList", dataProviderClass = JsonDataProvider.class)
+    public void verifyLocationsStreamedLazily(String location) {
+        try {
+            logger.info("Location: {}", location);
+        } catch (Exception error) {
+            ErrorHandler.logError(error, "verifyLocationsStreamedLazily", "Failed to read location data lazily");
+            throw new RuntimeException("Failed to read location data lazily", error);
+        }
+    }
+
+    @Test(groups = {"json-loader", "data-loader"})
+    public void verifySpilledSectionsReadBackUnderSchema() throws IOException {
+        Path spillDirectory = Files.createTempDirectory("json-spill");
+        String previousBudget = System.setProperty("data.spill.budget", "64");
+        String previousDirectory = System.setProperty("data.spill.dir", spillDirectory.toString());
+        try {
+            JsonDataReader spilled = JsonDataReader.builder()
+                    .setFilePath(TestResourcePath.ADACTIN_HOTEL_JSON.getPath())
+                    .setSchemaPath(TestResourcePath.ADACTIN_HOTEL_SCHEMA.getPath())
+                    .build();
+            try {
+                Assert.assertTrue(countFiles(spillDirectory) > 0, "No section was spilled");
+
+                Assert.assertEquals(spilled.getAllStrings(LOCATION_FIELD), reader.getAllStrings(LOCATION_FIELD));
+                Assert.assertEquals(spilled.getStringByIndex(ROOM_TYPE_FIELD, 2),
+                        reader.getStringByIndex(ROOM_TYPE_FIELD, 2));
+                Assert.assertEquals(
+                        collect(spilled.sampleData(LOCATION_FIELD, String.class, RowSampler.reservoir(3, 42L))),
+                        collect(reader.sampleData(LOCATION_FIELD, String.class, RowSampler.reservoir(3, 42L))));
+
+                DataQuery query = DataQuery.compile("SELECT value WHERE value LIKE 'S%' ORDER BY value");
+                List<Object> spilledResult = new ArrayList<>();
+                query.execute(spilled.rowSource(LOCATION_FIELD)).forEachRemaining(row -> spilledResult.add(row[0]));
+                List<Object> inMemoryResult = new ArrayList<>();
+                query.execute(reader.rowSource(LOCATION_FIELD)).forEachRemaining(row -> inMemoryResult.add(row[0]));
+                List<Object> expected = reader.getAllStrings(LOCATION_FIELD).stream()
+                        .filter(location -> location.startsWith("S"))
+                        .sorted()
+                        .collect(Collectors.toList());
+                Assert.assertFalse(expected.isEmpty(), "No location starts with S");
+                Assert.assertEquals(inMemoryResult, expected);
+                Assert.assertEquals(spilledResult, expected);
+            } finally {
+                spilled.close();
+            }
+            Assert.assertEquals(countFiles(spillDirectory), 0, "Spill segments were not deleted on close");
+        } finally {
+            restoreProperty("data.spill.budget", previousBudget);
+            restoreProperty("data.spill.dir", previousDirectory);
+        }
+    }
+
+    @Test(groups = {"json-loader", "data-loader"})
+    public void verifySpilledElementsAreValidatedAgainstSchema() throws IOException {
+        Path dataFile = Files.createTempFile("spilled-invalid", ".json");
+        String previousBudget = System.setProperty("data.spill.budget", "64");
+        try {
+            String data = Files.readString(Path.of(TestResourcePath.ADACTIN_HOTEL_JSON.getPath()))
+                    .replace("\"Melbourne\"", "42");
+            Files.writeString(dataFile, data);
+
+            JsonDataReader.JsonDataReaderException error = Assert.expectThrows(
+                    JsonDataReader.JsonDataReaderException.class,
+                    () -> JsonDataReader.builder()
+                            .setFilePath(dataFile.toString())
+                            .setSchemaPath(TestResourcePath.ADACTIN_HOTEL_SCHEMA.getPath())
+                            .build());
+            Assert.assertTrue(error.getMessage().contains("$.Locations[1]"), error.getMessage());
+            Assert.assertFalse(error.getMessage().contains("at least"), error.getMessage());
+        } finally {
+            restoreProperty("data.spill.budget", previousBudget);
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
+    @Test(groups = {"json-loader", "data-loader"})
+    public void verifySharedCacheSectionsMatchParsedFile() throws IOException {
+        Path cacheDirectory = Files.createTempDirectory("json-shared");
+        SharedDataCache sharedCache = new SharedDataCache(cacheDirectory);
+        try {
+            // The first reader publishes the entry and the second maps it, as another fork would
+            for (int fork = 0; fork < 2; fork++) {
+                try (JsonDataReader shared = JsonDataReader.builder()
+                        .setFilePath(TestResourcePath.ADACTIN_HOTEL_JSON.getPath())
+                        .setSchemaPath(TestResourcePath.ADACTIN_HOTEL_SCHEMA.getPath())
+                        .setSharedCache(sharedCache)
+                        .build()) {
+                    Assert.assertEquals(shared.getAllStrings(LOCATION_FIELD), reader.getAllStrings(LOCATION_FIELD));
+                    Assert.assertEquals(shared.getStringByIndex(ROOM_TYPE_FIELD, 2),
+                            reader.getStringByIndex(ROOM_TYPE_FIELD, 2));
+                    Assert.assertEquals(shared.getAllStrings(ROOM_COUNT_FIELD), reader.getAllStrings(ROOM_COUNT_FIELD));
+                    Assert.assertTrue(shared.getAllStrings("NoSuchSection").isEmpty());
+                }
+            }
+            try (Stream<Path> entries = Files.list(cacheDirectory)) {
+                Assert.assertEquals(entries.filter(file -> file.toString().endsWith(".ddsc")).count(), 1L,
+                        "Expected one published entry");
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(cacheDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    @Test(groups = {"json-loader", "data-loader"})
+    public void verifyClosedReaderUnregistersCacheMetrics() throws Exception {
+        // A copy, so closing these readers does not touch the metrics of the suite's shared reader
+        Path dataFile = Files.createTempFile("metrics", ".json");
+        Files.copy(Path.of(TestResourcePath.ADACTIN_HOTEL_JSON.getPath()), dataFile, StandardCopyOption.REPLACE_EXISTING);
+        ObjectName objectName = new ObjectName("com.data.driven:type=DataCache,name="
+                + ObjectName.quote("JsonDataReader:" + dataFile));
+        try {
+            JsonDataReader cached = JsonDataReader.builder().setFilePath(dataFile.toString()).setCacheEnabled(true).build();
+            Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+            cached.close();
+            Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName),
+                    "Closed reader left its cache MBean registered");
+
+            JsonDataReader reopened = JsonDataReader.builder().setFilePath(dataFile.toString()).setCacheEnabled(true).build();
+            try {
+                Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+            } finally {
+                reopened.close();
+            }
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
+    @Test(groups = {"json-loader", "data-loader"})
+    public void verifyReloadClosesReplacedReader() throws IOException {
+        String dataset = "reload-spill";
+        Path spillDirectory = Files.createTempDirectory("json-reload-spill");
+        String previousBudget = System.setProperty("data.spill.budget", "64");
+        String previousDirectory = System.setProperty("data.spill.dir", spillDirectory.toString());
+        try {
+            JsonDataReader original = JsonDataRegistry.register(dataset, JsonDataReader.builder()
+                    .setFilePath(TestResourcePath.ADACTIN_HOTEL_JSON.getPath()));
+            long segmentsPerReader = countFiles(spillDirectory);
+
+            JsonDataReader reloaded = JsonDataRegistry.reload(dataset);
+            Assert.assertEquals(countFiles(spillDirectory), segmentsPerReader,
+                    "Replaced reader kept its spill segments");
+            Assert.assertEquals(reloaded.getAllStrings(LOCATION_FIELD), reader.getAllStrings(LOCATION_FIELD));
+            Assert.assertThrows(RuntimeException.class, () -> original.getStringByIndex(LOCATION_FIELD, 0));
+        } finally {
+            JsonDataRegistry.remove(dataset);
+            restoreProperty("data.spill.budget", previousBudget);
+            restoreProperty("data.spill.dir", previousDirectory);
+        }
+        Assert.assertEquals(countFiles(spillDirectory), 0);
+    }
+
+    private static <T> List<T> collect(Iterator<T> iterator) {
+        List<T> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        Path segments = directory.resolve("data-spill");
+        if (!Files.isDirectory(segments)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(segments)) {
+            return files.count();
+        }
+    }
+
+    private static void restoreProperty(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+    }
+}
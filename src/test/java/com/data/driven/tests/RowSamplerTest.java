@@ -0,0 +1,118 @@
+package com.data.driven.tests;
+
+import com.data.driven.utils.sampling.RowSampler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+public class RowSamplerTest {
+
+    private static final int TRIALS = 20_000;
+
+    @Test(groups = {"data-loader"})
+    public void verifyReservoirIsRepeatableAndInStreamOrder() {
+        List<Integer> first = sample(RowSampler.reservoir(25, 42L), 10_000);
+        Assert.assertEquals(first.size(), 25);
+        Assert.assertEquals(sample(RowSampler.reservoir(25, 42L), 10_000), first, "Same seed, different sample");
+        Assert.assertNotEquals(sample(RowSampler.reservoir(25, 7L), 10_000), first, "Seed is ignored");
+        for (int i = 1; i < first.size(); i++) {
+            Assert.assertTrue(first.get(i - 1) < first.get(i), "Sample is not in stream order: " + first);
+        }
+        Assert.assertEquals(sample(RowSampler.reservoir(25, 42L), 10), IntStream.range(0, 10).boxed().toList());
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyReservoirSkipsAheadBetweenReplacements() {
+        // Algorithm L materializes the first k rows and about k * ln(n / k) replacements, not every row
+        AtomicInteger materialized = new AtomicInteger();
+        List<Integer> sampled = new ArrayList<>();
+        RowSampler.reservoir(10, 42L).sample(IntStream.range(0, 1_000_000).iterator(), row -> null,
+                row -> {
+                    materialized.incrementAndGet();
+                    return row;
+                }).forEachRemaining(sampled::add);
+
+        Assert.assertEquals(sampled.size(), 10);
+        Assert.assertTrue(materialized.get() < 10 + 10 * Math.log(1_000_000 / 10.0) * 2,
+                "Materialized " + materialized.get() + " rows");
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyReservoirIsUniform() {
+        // Every row of 10 should be drawn in about 3 of 10 samples of 3
+        int[] hits = new int[10];
+        for (long seed = 0; seed < TRIALS; seed++) {
+            sample(RowSampler.reservoir(3, seed), hits.length).forEach(row -> hits[row]++);
+        }
+        assertNear(hits, TRIALS * 3 / 10.0);
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyStratifiedKeepsPerStratumCounts() {
+        // Strata of 1, 3 and 12 rows, sampled 2 per stratum
+        Function<Integer, Object> stratumOf = row -> row == 0 ? "rare" : row < 4 ? "small" : "large";
+        List<Integer> first = sample(RowSampler.stratified("Location", 2, 42L), 16, stratumOf);
+        Assert.assertEquals(sample(RowSampler.stratified("Location", 2, 42L), 16, stratumOf), first,
+                "Same seed, different sample");
+
+        Map<Object, Integer> counts = new HashMap<>();
+        first.forEach(row -> counts.merge(stratumOf.apply(row), 1, Integer::sum));
+        Assert.assertEquals(counts, Map.of("rare", 1, "small", 2, "large", 2));
+        Assert.assertTrue(first.contains(0), "The rare stratum was not represented");
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyStratifiedIsUniformWithinStratum() {
+        // Algorithm R per stratum: each row of the 8-row stratum should be kept in about 2 of 8 samples of 2
+        Function<Integer, Object> stratumOf = row -> row % 2 == 0 ? "even" : "odd";
+        int[] hits = new int[16];
+        for (long seed = 0; seed < TRIALS; seed++) {
+            sample(RowSampler.stratified("Location", 2, seed), hits.length, stratumOf).forEach(row -> hits[row]++);
+        }
+        assertNear(hits, TRIALS * 2 / 8.0);
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyBernoulliIsRepeatable() {
+        List<Integer> first = sample(RowSampler.bernoulli(0.1, 42L), 10_000);
+        Assert.assertEquals(sample(RowSampler.bernoulli(0.1, 42L), 10_000), first, "Same seed, different sample");
+        Assert.assertTrue(Math.abs(first.size() - 1_000) < 150, "Kept " + first.size() + " of 10000 rows");
+        Assert.assertTrue(sample(RowSampler.bernoulli(0, 42L), 100).isEmpty());
+        Assert.assertEquals(sample(RowSampler.bernoulli(1, 42L), 100).size(), 100);
+    }
+
+    @Test(groups = {"data-loader"})
+    public void verifyInvalidSamplersAreRejected() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> RowSampler.reservoir(0, 42L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> RowSampler.bernoulli(1.5, 42L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> RowSampler.bernoulli(Double.NaN, 42L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> RowSampler.stratified(" ", 1, 42L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> RowSampler.stratified("Location", 0, 42L));
+    }
+
+    private static List<Integer> sample(RowSampler sampler, int rowCount) {
+        return sample(sampler, rowCount, row -> null);
+    }
+
+    private static List<Integer> sample(RowSampler sampler, int rowCount, Function<Integer, Object> stratumOf) {
+        List<Integer> rows = new ArrayList<>();
+        Iterator<Integer> sampled = sampler.sample(IntStream.range(0, rowCount).iterator(), stratumOf, row -> row);
+        sampled.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static void assertNear(int[] hits, double expected) {
+        for (int row = 0; row < hits.length; row++) {
+            Assert.assertTrue(Math.abs(hits[row] - expected) < expected * 0.05,
+                    "Row " + row + " was kept " + hits[row] + " times, expected about " + expected);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.data.driven.tests;
+
+import com.data.driven.config.excel.ExcelConfigManager;
+import com.data.driven.config.excel.XlsbWorkbookReader;
+import com.data.driven.config.paths.TestResourcePath;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the binary {@code .xlsb} reader against the {@code .xlsx} reader. The {@code .xlsb} fixture holds the same
+ * cells as the {@code .xlsx} workbook, stored as shared, inline and rich strings, RK and double numbers, and numeric
+ * formulas with cached values.
+ */
+public class XlsbWorkbookReaderTest {
+
+    private static final String XLSX_PATH = TestResourcePath.ADACTIN_HOTEL_EXCEL.getPath();
+    private static final String XLSB_PATH = TestResourcePath.ADACTIN_HOTEL_XLSB.getPath();
+
+    @DataProvider(name = "sheetNames")
+    public Object[][] sheetNames() {
+        return new Object[][]{{"BookingData"}, {"PaymentData"}};
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"}, dataProvider = "sheetNames")
+    public void verifyBinarySheetMatchesXlsxSheet(String sheetName) {
+        List<Map<String, Object>> xlsbRows = ExcelConfigManager.loadExcelDataAsList(XLSB_PATH, sheetName);
+
+        Assert.assertFalse(xlsbRows.isEmpty(), "No rows read from " + sheetName);
+        Assert.assertEquals(xlsbRows, ExcelConfigManager.loadExcelDataAsList(XLSX_PATH, sheetName));
+    }
+
+    @Test(groups = {"excel-loader", "data-loader"})
+    public void verifyBinarySheetNames() {
+        Assert.assertTrue(XlsbWorkbookReader.isBinaryWorkbook(XLSB_PATH));
+        Assert.assertFalse(XlsbWorkbookReader.isBinaryWorkbook(XLSX_PATH));
+        try (XlsbWorkbookReader reader = new XlsbWorkbookReader(XLSB_PATH)) {
+            Assert.assertEquals(reader.getSheetNames(), List.of("BookingData", "PaymentData"));
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.data.driven.utils;
+
+import com.data.driven.config.dataProvider.ExcelDataProviderConfig;
+import com.data.driven.config.excel.CsvSheetReader;
+import com.data.driven.config.excel.ExcelConfigManager;
+import com.data.driven.config.excel.ExcelDataCacheConfig;
+import com.data.driven.config.excel.WorkbookManager;
+import com.data.driven.config.excel.XlsbWorkbookReader;
+import com.data.driven.config.jackson.JsonDataBuilder;
+import com.data.driven.config.jackson.JsonDataConfig;
+import com.data.driven.config.jackson.JsonDataFormat;
+import com.data.driven.config.jackson.JsonDataReader;
+import com.data.driven.config.jackson.JsonLinesDataReader;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs one data file through the framework's full load path and reports where the time and memory go,
+ * without starting a test suite.
+ * <p>
+ * Workbooks go through {@link ExcelConfigManager}, a cold and a warm {@link ExcelDataCacheConfig} lookup and an
+ * {@link ExcelDataProviderConfig} projection of every column. JSON files are loaded through {@link JsonDataReader},
+ * with and without schema validation, and every array section is iterated. JSON Lines files are read in bulk and
+ * lazily through {@link JsonLinesDataReader}. Each phase reports wall time, bytes allocated on the calling thread,
+ * peak heap and GC activity, followed by per-column (or per-section) value type statistics.
+ * <p>
+ * The cache and provider classes live in the test sources, so run it with the test classpath:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.data.driven.utils.DataLoadProfiler \
+ *     -Dexec.args="path/to/data.xlsx [--sheet Name]... [--schema path/to/schema.json]"
+ * </pre>
+ */
+public class DataLoadProfiler {
+
+    // Distinct values are tracked up to this many per column to keep the profiler's own footprint bounded
+    private static final int DISTINCT_LIMIT = 10_000;
+
+    private final PrintStream out;
+    private final List<Phase> phases = new ArrayList<>();
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    public DataLoadProfiler(PrintStream out) {
+        this.out = out;
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: DataLoadProfiler <file.xlsx|file.xlsb|file.csv|file.json|file.smile|file.cbor|file.jsonl> "
+                    + "[--sheet Name]... [--schema schema.json]");
+            System.exit(1);
+        }
+
+        String filePath = args[0];
+        List<String> sheets = new ArrayList<>();
+        String schemaPath = null;
+        for (int i = 1; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--sheet" -> sheets.add(optionValue(args, i));
+                case "--schema" -> schemaPath = optionValue(args, i);
+                default -> {
+                    System.err.println("Unknown option " + args[i]);
+                    System.exit(1);
+                }
+            }
+        }
+
+        DataLoadProfiler profiler = new DataLoadProfiler(System.out);
+        String lowerCasePath = filePath.toLowerCase(Locale.ROOT);
+        if (lowerCasePath.endsWith(".xlsx") || lowerCasePath.endsWith(".xlsm") || lowerCasePath.endsWith(".xlsb")
+                || CsvSheetReader.isDelimitedFile(filePath)) {
+            profiler.profileWorkbook(filePath, sheets);
+        } else if (lowerCasePath.endsWith(".jsonl") || lowerCasePath.endsWith(".ndjson")) {
+            profiler.profileJsonLines(filePath);
+        } else {
+            profiler.profileJson(filePath, schemaPath);
+        }
+    }
+
+    private static String optionValue(String[] args, int optionIndex) {
+        if (optionIndex + 1 >= args.length) {
+            System.err.println("Missing value for option " + args[optionIndex]);
+            System.exit(1);
+        }
+        return args[optionIndex + 1];
+    }
+
+    /**
+     * Profiles the given sheets of a workbook, or every sheet if none are given.
+     */
+    public void profileWorkbook(String filePath, List<String> sheetNames) {
+        List<String> sheets = sheetNames.isEmpty()
+                ? CsvSheetReader.isDelimitedFile(filePath)
+                ? List.of(CsvSheetReader.getSheetName(filePath))
+                : XlsbWorkbookReader.isBinaryWorkbook(filePath)
+                ? phase("open workbook (XlsbWorkbookReader)", () -> {
+                    try (XlsbWorkbookReader reader = new XlsbWorkbookReader(filePath)) {
+                        return reader.getSheetNames();
+                    }
+                })
+                : phase("open workbook (WorkbookManager)", () -> {
+                    try (WorkbookManager workbookManager = new WorkbookManager(filePath)) {
+                        return workbookManager.getSheetNames();
+                    } catch (IOException error) {
+                        throw new RuntimeException("Failed to close workbook: " + filePath, error);
+                    }
+                })
+                : sheetNames;
+
+        Map<String, List<Map<String, Object>>> sheetRows = new LinkedHashMap<>();
+        for (String sheet : sheets) {
+            List<Map<String, Object>> rows = phase("parse " + sheet + " (ExcelConfigManager)",
+                    () -> ExcelConfigManager.loadExcelDataAsList(filePath, sheet));
+            sheetRows.put(sheet, rows);
+
+            ExcelDataCacheConfig.clearCache();
+            phase("cold cache load " + sheet, () -> ExcelDataCacheConfig.getTestData(filePath, sheet));
+            phase("warm cache hit " + sheet, () -> ExcelDataCacheConfig.getTestData(filePath, sheet));
+
+            String[] columns = columnsOf(rows).toArray(String[]::new);
+            if (columns.length > 0) {
+                phase("provider projection " + sheet + " (" + columns.length + " columns)",
+                        () -> drain(ExcelDataProviderConfig.getMultiColumnData(filePath, sheet, columns)));
+            }
+        }
+        ExcelDataCacheConfig.clearCache();
+
+        printHeader(filePath);
+        printPhases();
+        sheetRows.forEach((sheet, rows) -> {
+            Map<String, ColumnStats> stats = new LinkedHashMap<>();
+            for (String column : columnsOf(rows)) {
+                stats.put(column, new ColumnStats());
+            }
+            for (Map<String, Object> row : rows) {
+                stats.forEach((column, columnStats) -> columnStats.add(row.get(column)));
+            }
+            printColumnStats("Sheet " + sheet + " (" + rows.size() + " rows)", stats);
+        });
+    }
+
+    /**
+     * Profiles a JSON (or Smile/CBOR) data file, optionally with schema validation.
+     */
+    public void profileJson(String filePath, String schemaPath) {
+        JsonDataReader reader = phase("load (JsonDataReader)",
+                () -> new JsonDataBuilder().setFilePath(filePath).build());
+        reader.close();
+        if (schemaPath != null) {
+            phase("load + schema validation", () -> new JsonDataBuilder()
+                    .setFilePath(filePath)
+                    .setSchemaPath(schemaPath)
+                    .build())
+                    .close();
+        }
+
+        JsonNode root = phase("tree scan", () -> {
+            try {
+                return JsonDataConfig.getObjectMapper(JsonDataFormat.detect(filePath)).readTree(new File(filePath));
+            } catch (IOException error) {
+                throw new RuntimeException("Failed to read JSON file: " + filePath, error);
+            }
+        });
+
+        List<String> arraySections = new ArrayList<>();
+        root.fieldNames().forEachRemaining(name -> {
+            if (root.get(name).isArray()) {
+                arraySections.add(name);
+            }
+        });
+        try (JsonDataReader sectionReader = new JsonDataBuilder().setFilePath(filePath).build()) {
+            phase("iterate " + arraySections.size() + " array sections", () -> {
+                long elements = 0;
+                for (String section : arraySections) {
+                    elements += drain(sectionReader.iterateData(section, Object.class));
+                }
+                return elements;
+            });
+        }
+
+        printHeader(filePath);
+        printPhases();
+        Map<String, ColumnStats> stats = new LinkedHashMap<>();
+        root.fields().forEachRemaining(entry -> {
+            ColumnStats sectionStats = new ColumnStats();
+            JsonNode section = entry.getValue();
+            if (section.isArray() || section.isObject()) {
+                section.forEach(sectionStats::addNode);
+            } else {
+                sectionStats.addNode(section);
+            }
+            stats.put(entry.getKey(), sectionStats);
+        });
+        printColumnStats("Sections", stats);
+    }
+
+    /**
+     * Profiles a JSON Lines file: a parallel bulk read and a lazy record-by-record read.
+     */
+    @SuppressWarnings("unchecked")
+    public void profileJsonLines(String filePath) {
+        JsonLinesDataReader reader = new JsonLinesDataReader(filePath);
+        List<Map<String, Object>> records = phase("bulk read (JsonLinesDataReader.readAll)",
+                () -> (List<Map<String, Object>>) (List<?>) reader.readAll(Map.class));
+        phase("lazy iteration (JsonLinesDataReader.iterator)", () -> drain(reader.iterator(Map.class)));
+
+        printHeader(filePath);
+        printPhases();
+        Map<String, ColumnStats> stats = new LinkedHashMap<>();
+        for (Map<String, Object> record : records) {
+            record.forEach((field, value) -> stats.computeIfAbsent(field, key -> new ColumnStats()).add(value));
+        }
+        printColumnStats("Fields (" + records.size() + " records)", stats);
+    }
+
+    private <T> T phase(String name, Supplier<T> action) {
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMillis();
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        T result = action.get();
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        phases.add(new Phase(name, elapsed, allocated, peakHeap,
+                gcCount() - gcCountBefore, gcTimeMillis() - gcTimeBefore));
+        return result;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcTimeMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static long drain(Iterator<?> iterator) {
+        long count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
+    private static Set<String> columnsOf(List<Map<String, Object>> rows) {
+        Set<String> columns = new LinkedHashSet<>();
+        rows.forEach(row -> columns.addAll(row.keySet()));
+        return columns;
+    }
+
+    private void printHeader(String filePath) {
+        out.printf("%nData load profile: %s (%.1f KB)%n", filePath, new File(filePath).length() / 1024.0);
+    }
+
+    private void printPhases() {
+        out.printf("%n%-52s %12s %15s %15s %6s %8s%n", "Phase", "Time (ms)", "Allocated (MB)", "Peak heap (MB)", "GCs", "GC (ms)");
+        long totalNanos = 0;
+        long totalAllocated = 0;
+        long peakHeap = 0;
+        for (Phase phase : phases) {
+            out.printf("%-52s %12.2f %15.2f %15.2f %6d %8d%n", phase.name(), phase.nanos() / 1e6,
+                    phase.allocatedBytes() / 1048576.0, phase.peakHeapBytes() / 1048576.0,
+                    phase.gcCount(), phase.gcMillis());
+            totalNanos += phase.nanos();
+            totalAllocated += phase.allocatedBytes();
+            peakHeap = Math.max(peakHeap, phase.peakHeapBytes());
+        }
+        out.printf("%-52s %12.2f %15.2f %15.2f%n", "Total", totalNanos / 1e6, totalAllocated / 1048576.0,
+                peakHeap / 1048576.0);
+    }
+
+    private void printColumnStats(String title, Map<String, ColumnStats> stats) {
+        out.printf("%n%s%n%-28s %-44s %8s %10s %10s%n", title, "Column", "Types", "Empty", "Distinct", "Max length");
+        stats.forEach((column, columnStats) -> out.printf("%-28s %-44s %8d %10s %10d%n",
+                column, columnStats.describeTypes(), columnStats.empty,
+                columnStats.distinctOverflow ? ">" + DISTINCT_LIMIT : String.valueOf(columnStats.distinct.size()),
+                columnStats.maxLength));
+    }
+
+    private record Phase(String name, long nanos, long allocatedBytes, long peakHeapBytes, long gcCount, long gcMillis) {
+    }
+
+    private static final class ColumnStats {
+        private final Map<String, Long> types = new TreeMap<>();
+        private final Set<Object> distinct = new HashSet<>();
+        private boolean distinctOverflow;
+        private long empty;
+        private int maxLength;
+
+        private void add(Object value) {
+            if (value == null || value.toString().isEmpty()) {
+                empty++;
+                return;
+            }
+            count(value.getClass().getSimpleName(), value, value.toString().length());
+        }
+
+        private void addNode(JsonNode node) {
+            if (node.isNull() || (node.isTextual() && node.asText().isEmpty())) {
+                empty++;
+                return;
+            }
+            String type = node.isContainerNode() ? node.getNodeType().name().toLowerCase(Locale.ROOT)
+                    : node.isIntegralNumber() ? "integer"
+                    : node.isNumber() ? "number"
+                    : node.getNodeType().name().toLowerCase(Locale.ROOT);
+            count(type, node.isValueNode() ? node.asText() : node, node.isValueNode() ? node.asText().length() : 0);
+        }
+
+        private void count(String type, Object value, int length) {
+            types.merge(type, 1L, Long::sum);
+            maxLength = Math.max(maxLength, length);
+            if (!distinctOverflow) {
+                distinct.add(value);
+                if (distinct.size() > DISTINCT_LIMIT) {
+                    distinctOverflow = true;
+                    distinct.clear();
+                }
+            }
+        }
+
+        private String describeTypes() {
+            StringBuilder description = new StringBuilder();
+            types.forEach((type, count) -> description.append(description.isEmpty() ? "" : ", ")
+                    .append(type).append('=').append(count));
+            return description.toString();
+        }
+    }
+}